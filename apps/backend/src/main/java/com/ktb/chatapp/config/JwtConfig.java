@@ -1,6 +1,8 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
@@ -36,9 +38,10 @@ public class JwtConfig {
     /**
      * NimbusJwtDecoder 빈 생성
      * Spring Security 6의 표준 JWT 디코더 사용
+     * 검증된 토큰은 만료 시각까지 캐시하여 REST 인증, 소켓 핸드셰이크, JwtService가 공유한다
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
+    public JwtDecoder jwtDecoder(MeterRegistry meterRegistry) {
         SecretKeySpec secretKey = new SecretKeySpec(
             jwtSecret.getBytes(StandardCharsets.UTF_8),
             "HmacSHA256"
@@ -55,7 +58,7 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        return new CachingJwtDecoder(decoder, meterRegistry);
     }
 
     /**
@@ -1,11 +1,14 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.BoundedPasswordEncoder;
 import com.ktb.chatapp.security.CustomBearerTokenResolver;
 import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -51,9 +54,19 @@ public class SecurityConfig {
 
     private static final List<String> CORS_ALLOWED_METHODS = List.of("GET", "POST", "PUT", "DELETE", "OPTIONS");
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    /**
+     * BCrypt 해시/검증은 전용 풀에서 실행 (스레드 수 0이면 CPU 코어 수)
+     * 대기열이 가득 차면 503 + Retry-After로 즉시 거절한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:32}") int queueCapacity,
+            @Value("${auth.password-hash.retry-after-seconds:1}") long retryAfterSeconds) {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(), workers, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
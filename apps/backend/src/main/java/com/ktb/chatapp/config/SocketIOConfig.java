@@ -3,13 +3,11 @@ package com.ktb.chatapp.config;
 import com.corundumstudio.socketio.AuthTokenListener;
 import com.corundumstudio.socketio.SocketConfig;
 import com.corundumstudio.socketio.SocketIOServer;
-import com.corundumstudio.socketio.annotation.SpringAnnotationScanner;
 import com.corundumstudio.socketio.namespace.Namespace;
 import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
 import com.corundumstudio.socketio.store.MemoryStoreFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.ktb.chatapp.websocket.socketio.ChatDataStore;
-import com.ktb.chatapp.websocket.socketio.LocalChatDataStore;
+import com.ktb.chatapp.websocket.socketio.AuthGatedAnnotationScanner;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import lombok.extern.slf4j.Slf4j;
@@ -97,21 +95,28 @@ public class SocketIOConfig {
     }
 
     /**
-     * SpringAnnotationScanner는 BeanPostProcessor로서
+     * 핸드셰이크 인증 후속 처리(세션 검증, 사용자 조회, 연결 완료) 전용 실행기.
+     * 접속 폭주 시에도 Netty 이벤트 루프가 원격 조회로 막히지 않게 한다.
+     */
+    @Bean
+    @Qualifier("socketAuthExecutor")
+    public EventExecutorGroup socketAuthExecutor(
+            @Value("${socketio.auth-threads:4}") int authThreads
+    ) {
+        log.info("Initializing SocketIO Auth Executor with {} threads", authThreads);
+        return new DefaultEventExecutorGroup(authThreads);
+    }
+
+    /**
+     * 핸들러 등록기는 BeanPostProcessor로서
      * ApplicationContext 초기화 초기에 등록되고,
      * 내부에서 사용하는 SocketIOServer는 Lazy로 지연되어
      * 다른 Bean들의 초기화 과정에 간섭하지 않게 한다.
+     * @OnEvent 핸들러는 모두 SocketAuthGate를 거쳐 호출된다.
      */
     @Bean
     @Role(ROLE_INFRASTRUCTURE)
     public BeanPostProcessor springAnnotationScanner(@Lazy SocketIOServer socketIOServer) {
-        return new SpringAnnotationScanner(socketIOServer);
-    }
-    
-    // 인메모리 저장소, 단일 노드 환경에서만 사용
-    @Bean
-    @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
-    public ChatDataStore chatDataStore() {
-        return new LocalChatDataStore();
+        return new AuthGatedAnnotationScanner(socketIOServer);
     }
 }
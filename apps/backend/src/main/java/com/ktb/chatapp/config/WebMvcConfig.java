@@ -1,10 +1,13 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.AuthenticatedUserArgumentResolver;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
@@ -16,6 +19,7 @@ import org.springframework.http.HttpStatus;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final RateLimitInterceptor rateLimitInterceptor;
+    private final AuthenticatedUserArgumentResolver authenticatedUserArgumentResolver;
 
     @Value("${file.upload-dir:./uploads}")
     private String uploadDir;
@@ -25,6 +29,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
         registry.addInterceptor(rateLimitInterceptor); // 변경금지
     }
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authenticatedUserArgumentResolver);
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         Path uploadsPath = Paths.get(uploadDir).toAbsolutePath().normalize();
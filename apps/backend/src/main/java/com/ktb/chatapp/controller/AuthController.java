@@ -25,6 +25,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -79,6 +80,8 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
                 examples = @ExampleObject(value = "{\"success\":false,\"message\":\"이미 등록된 이메일입니다.\"}"))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "인증 요청 과다 - Retry-After 이후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
@@ -125,7 +128,8 @@ public class AuthController {
             log.error("Register error: ", e);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(StandardResponse.error(e.getMessage()));
-        } catch (Exception e) {
+        } catch (DataAccessException e) {
+            // 그 외 예외(비밀번호 해시 대기열 초과 503 등)는 GlobalExceptionHandler에서 응답
             log.error("Register error: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(StandardResponse.error("회원가입 처리 중 오류가 발생했습니다."));
@@ -142,6 +146,8 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
                 examples = @ExampleObject(value = "{\"success\":false,\"message\":\"이메일 또는 비밀번호가 올바르지 않습니다.\"}"))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "인증 요청 과다 - Retry-After 이후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @SecurityRequirement(name = "")
@@ -167,11 +173,8 @@ public class AuthController {
             );
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
-            
-            // 단일 세션 정책을 위해 기존 세션 제거
-            sessionService.removeAllUserSessions(user.getId());
 
-            // Create new session
+            // Create new session (단일 세션 정책: 기존 세션은 원자적으로 교체됨)
             SessionMetadata metadata = new SessionMetadata(
                     request.getHeader("User-Agent"),
                     getClientIpAddress(request),
@@ -203,7 +206,8 @@ public class AuthController {
         } catch (UsernameNotFoundException | BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
-        } catch (Exception e) {
+        } catch (DataAccessException e) {
+            // 그 외 예외(비밀번호 해시 대기열 초과 503 등)는 GlobalExceptionHandler에서 응답
             log.error("Login error: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(StandardResponse.error("로그인 처리 중 오류가 발생했습니다."));
@@ -365,15 +369,18 @@ public class AuthController {
                         .body(new TokenRefreshResponse(false, "만료된 세션입니다.", null, null));
             }
 
-            // 세션 갱신 - 새로운 세션 ID 생성
-            sessionService.removeSession(user.getId(), sessionId);
+            // 세션 갱신 - 현재 세션이 그대로일 때만 새로운 세션 ID로 교체
             SessionMetadata metadata = new SessionMetadata(
                     request.getHeader("User-Agent"),
                     getClientIpAddress(request),
                     request.getHeader("User-Agent")
             );
 
-            SessionCreationResult newSessionInfo = sessionService.createSession(user.getId(), metadata);
+            SessionCreationResult newSessionInfo = sessionService.refreshSession(user.getId(), sessionId, metadata);
+            if (newSessionInfo == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new TokenRefreshResponse(false, "만료된 세션입니다.", null, null));
+            }
 
             // 새로운 토큰과 세션 ID 생성
             String newToken = jwtService.generateToken(
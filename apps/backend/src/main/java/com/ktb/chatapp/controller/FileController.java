@@ -3,9 +3,8 @@ package com.ktb.chatapp.controller;
 import com.ktb.chatapp.dto.FileRegisterRequest;
 import com.ktb.chatapp.dto.StandardResponse;
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.security.AuthenticatedUser;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,7 +17,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.security.Principal;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +25,6 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -40,7 +37,6 @@ public class FileController {
 
     private final FileService fileService;
     private final FileRepository fileRepository;
-    private final UserRepository userRepository;
 
     /**
      * 파일 업로드 (로컬 또는 S3 메타데이터 등록)
@@ -61,12 +57,9 @@ public class FileController {
     public ResponseEntity<?> uploadFile(
             @Parameter(description = "업로드할 파일 (multipart)") @RequestParam(value = "file", required = false) MultipartFile file,
             @Parameter(description = "S3 메타데이터 (json)") @RequestBody(required = false) FileRegisterRequest s3Request,
-            Principal principal,
+            AuthenticatedUser caller,
             HttpServletRequest request) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
             String contentType = request.getContentType();
 
             // S3 메타데이터 등록 (application/json)
@@ -79,7 +72,7 @@ public class FileController {
                 fileEntity.setOriginalname(s3Request.getOriginalName());
                 fileEntity.setMimetype(s3Request.getMimeType());
                 fileEntity.setSize(s3Request.getSize());
-                fileEntity.setUser(user.getId());
+                fileEntity.setUser(caller.userId());
 
                 File savedFile = fileRepository.save(fileEntity);
 
@@ -103,7 +96,7 @@ public class FileController {
             else if (file != null) {
                 log.info("로컬 파일 업로드: {}", file.getOriginalFilename());
 
-                FileUploadResult result = fileService.uploadFile(file, user.getId());
+                FileUploadResult result = fileService.uploadFile(file, caller.userId());
 
                 if (result.isSuccess()) {
                     Map<String, Object> response = new HashMap<>();
@@ -161,18 +154,15 @@ public class FileController {
     @PostMapping("/register")
     public ResponseEntity<?> registerFile(
             @RequestBody FileRegisterRequest request,
-            Principal principal) {
+            AuthenticatedUser caller) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
             // 파일 메타데이터 저장
             File fileEntity = new File();
             fileEntity.setFilename(request.getS3Key());
             fileEntity.setOriginalname(request.getOriginalName());
             fileEntity.setMimetype(request.getMimeType());
             fileEntity.setSize(request.getSize());
-            fileEntity.setUser(user.getId());
+            fileEntity.setUser(caller.userId());
 
             File savedFile = fileRepository.save(fileEntity);
 
@@ -221,12 +211,9 @@ public class FileController {
     public ResponseEntity<?> downloadFile(
             @Parameter(description = "다운로드할 파일명") @PathVariable String filename,
             HttpServletRequest request,
-            Principal principal) {
+            AuthenticatedUser caller) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
+            Resource resource = fileService.loadFileAsResource(filename, caller.userId());
 
             File fileEntity = fileRepository.findByFilename(filename)
                     .orElse(null);
@@ -294,12 +281,9 @@ public class FileController {
     public ResponseEntity<?> viewFile(
             @PathVariable String filename,
             HttpServletRequest request,
-            Principal principal) {
+            AuthenticatedUser caller) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
+            Resource resource = fileService.loadFileAsResource(filename, caller.userId());
 
             File fileEntity = fileRepository.findByFilename(filename)
                     .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
@@ -338,12 +322,9 @@ public class FileController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteFile(@PathVariable String id, Principal principal) {
+    public ResponseEntity<?> deleteFile(@PathVariable String id, AuthenticatedUser caller) {
         try {
-            User user = userRepository.findByEmail(principal.getName())
-                    .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
-
-            boolean deleted = fileService.deleteFile(id, user.getId());
+            boolean deleted = fileService.deleteFile(id, caller.userId());
 
             if (deleted) {
                 Map<String, Object> response = new HashMap<>();
@@ -1,11 +1,14 @@
 package com.ktb.chatapp.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb.chatapp.annotation.RateLimit;
 import com.ktb.chatapp.dto.*;
+import com.ktb.chatapp.exception.PasswordMismatchException;
 import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.security.AuthenticatedUser;
+import com.ktb.chatapp.service.RoomListCursor;
+import com.ktb.chatapp.service.RoomListResponseCache;
 import com.ktb.chatapp.service.RoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,17 +20,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
-import java.security.Principal;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -38,9 +42,9 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/rooms")
 public class RoomController {
 
-    private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
     private final RoomService roomService;
+    private final RoomListResponseCache roomListResponseCache;
+    private final ObjectMapper objectMapper;
 
     @Value("${spring.profiles.active:production}")
     private String activeProfile;
@@ -86,6 +90,9 @@ public class RoomController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = RoomsResponse.class))),
+        @ApiResponse(responseCode = "400", description = "유효하지 않은 페이지 커서",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class),
+                examples = @ExampleObject(value = "{\"success\":false,\"code\":\"INVALID_CURSOR\",\"message\":\"유효하지 않은 페이지 커서입니다.\"}"))),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "429", description = "요청 한도 초과",
@@ -102,7 +109,11 @@ public class RoomController {
             @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
             @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
-            Principal principal) {
+            @Parameter(description = "다음 페이지 커서 (이전 응답의 metadata.nextCursor)") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // 변조되었거나 형식이 잘못된 커서는 400(INVALID_CURSOR)으로 거절
+        RoomListCursor.decode(cursor);
 
         try {
             // PageRequest DTO 생성
@@ -112,15 +123,39 @@ public class RoomController {
             pageRequest.setSortField(sortField);
             pageRequest.setSortOrder(sortOrder);
             pageRequest.setSearch(search);
+            pageRequest.setCursor(cursor);
+
+            // 조회 조건별 응답 캐시 (사용자 간 공유, 전역 방 목록 버전으로 무효화, 실패 응답은 캐시하지 않음)
+            String cacheKey = String.join("|", String.valueOf(pageRequest.getPage()),
+                String.valueOf(pageRequest.getPageSize()), String.valueOf(sortField), String.valueOf(sortOrder),
+                String.valueOf(search), String.valueOf(cursor));
+            AtomicReference<RoomsResponse> failedResponse = new AtomicReference<>();
+            RoomListResponseCache.CachedResponse cached = roomListResponseCache.get(cacheKey, () -> {
+                RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest);
+                if (!response.isSuccess()) {
+                    failedResponse.set(response);
+                    return null;
+                }
+                return serialize(response);
+            });
+
+            if (cached == null) {
+                return ResponseEntity.ok().body(failedResponse.get());
+            }
 
-            // 서비스에서 페이지네이션 처리
-            RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, principal.getName());
+            // 클라이언트가 가진 ETag와 같으면 본문 없이 304 응답
+            if (cached.matches(ifNoneMatch)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
+                    .build();
+            }
 
-            // 캐시 설정
             return ResponseEntity.ok()
                 .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
-                .header("Last-Modified", java.time.Instant.now().toString())
-                .body(response);
+                .eTag(cached.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(cached.body());
 
         } catch (Exception e) {
             log.error("방 목록 조회 에러", e);
@@ -154,10 +189,12 @@ public class RoomController {
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "비밀번호 처리 요청 과다 - Retry-After 이후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<?> createRoom(@Valid @RequestBody CreateRoomRequest createRoomRequest, Principal principal) {
+    public ResponseEntity<?> createRoom(@Valid @RequestBody CreateRoomRequest createRoomRequest, AuthenticatedUser caller) {
         try {
             if (createRoomRequest.getName() == null || createRoomRequest.getName().trim().isEmpty()) {
                 return ResponseEntity.status(400).body(
@@ -165,8 +202,8 @@ public class RoomController {
                 );
             }
 
-            Room savedRoom = roomService.createRoom(createRoomRequest, principal.getName());
-            RoomResponse roomResponse = mapToRoomResponse(savedRoom, principal.getName());
+            Room savedRoom = roomService.createRoom(createRoomRequest, caller);
+            RoomResponse roomResponse = roomService.toRoomResponse(savedRoom, caller.userId());
 
             return ResponseEntity.status(201).body(
                 Map.of(
@@ -175,7 +212,8 @@ public class RoomController {
                 )
             );
 
-        } catch (Exception e) {
+        } catch (DataAccessException e) {
+            // 그 외 예외(비밀번호 해시 대기열 초과 503 등)는 GlobalExceptionHandler에서 응답
             log.error("방 생성 에러", e);
 
             String errorMessage = "채팅방 생성에 실패했습니다.";
@@ -202,7 +240,7 @@ public class RoomController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @GetMapping("/{roomId}")
-    public ResponseEntity<?> getRoomById(@Parameter(description = "채팅방 ID", example = "60d5ec49f1b2c8b9e8c4f2a1") @PathVariable String roomId, Principal principal) {
+    public ResponseEntity<?> getRoomById(@Parameter(description = "채팅방 ID", example = "60d5ec49f1b2c8b9e8c4f2a1") @PathVariable String roomId, AuthenticatedUser caller) {
         try {
             Optional<Room> roomOpt = roomService.findRoomById(roomId);
             if (roomOpt.isEmpty()) {
@@ -212,7 +250,7 @@ public class RoomController {
             }
 
             Room room = roomOpt.get();
-            RoomResponse roomResponse = mapToRoomResponse(room, principal.getName());
+            RoomResponse roomResponse = roomService.toRoomResponse(room, caller.userId());
 
             return ResponseEntity.ok(
                 Map.of(
@@ -241,22 +279,24 @@ public class RoomController {
         @ApiResponse(responseCode = "404", description = "채팅방을 찾을 수 없음",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "503", description = "비밀번호 처리 요청 과다 - Retry-After 이후 재시도",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @PostMapping("/{roomId}/join")
     public ResponseEntity<?> joinRoom(
             @Parameter(description = "채팅방 ID", example = "60d5ec49f1b2c8b9e8c4f2a1") @PathVariable String roomId,
             @RequestBody JoinRoomRequest joinRoomRequest,
-            Principal principal) {
+            AuthenticatedUser caller) {
         try {
-            Room joinedRoom = roomService.joinRoom(roomId, joinRoomRequest.getPassword(), principal.getName());
+            Room joinedRoom = roomService.joinRoom(roomId, joinRoomRequest.getPassword(), caller);
 
             if (joinedRoom == null) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
                         .body(StandardResponse.error("채팅방을 찾을 수 없습니다."));
             }
 
-            RoomResponse roomResponse = mapToRoomResponse(joinedRoom, principal.getName());
+            RoomResponse roomResponse = roomService.toRoomResponse(joinedRoom, caller.userId());
             
             return ResponseEntity.ok(
                 Map.of(
@@ -265,15 +305,11 @@ public class RoomController {
                 )
             );
 
-        } catch (RuntimeException e) {
-            if (e.getMessage().contains("비밀번호")) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                        .body(StandardResponse.error("비밀번호가 일치하지 않습니다."));
-            }
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(StandardResponse.error(e.getMessage()));
-
-        } catch (Exception e) {
+        } catch (PasswordMismatchException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(StandardResponse.error("비밀번호가 일치하지 않습니다."));
+        } catch (DataAccessException e) {
+            // 그 외 예외(비밀번호 해시 대기열 초과 503 등)는 GlobalExceptionHandler에서 응답
             log.error("채팅방 참여 에러", e);
             return ResponseEntity.status(500).body(
                 StandardResponse.error("채팅방 참여에 실패했습니다.")
@@ -281,39 +317,11 @@ public class RoomController {
         }
     }
 
-    private RoomResponse mapToRoomResponse(Room room, String name) {
-        User creator = userRepository.findById(room.getCreator()).orElse(null);
-        if (creator == null) {
-            throw new RuntimeException("Creator not found for room " + room.getId());
+    private byte[] serialize(RoomsResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 목록 응답 직렬화 실패", e);
         }
-        UserResponse creatorSummary = UserResponse.from(creator);
-        List<UserResponse> participantSummaries = room.getParticipantIds()
-                .stream()
-                .map(userRepository::findById).peek(optUser -> {
-                    if (optUser.isEmpty()) {
-                        log.warn("Participant not found: roomId={}, userId={}", room.getId(), optUser);
-                    }
-                })
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(UserResponse::from)
-                .toList();
-
-        boolean isCreator = room.getCreator().equals(name);
-
-        // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
-
-        return RoomResponse.builder()
-                .id(room.getId())
-                .name(room.getName())
-                .hasPassword(room.isHasPassword())
-                .creator(creatorSummary)
-                .participants(participantSummaries)
-                .createdAtDateTime(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
-                .isCreator(isCreator)
-                .recentMessageCount((int) recentMessageCount)
-                .build();
     }
 }
@@ -5,6 +5,7 @@ import com.ktb.chatapp.dto.ProfileImageRegisterRequest;
 import com.ktb.chatapp.dto.ProfileImageResponse;
 import com.ktb.chatapp.dto.UpdateProfileRequest;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.security.AuthenticatedUser;
 import com.ktb.chatapp.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,8 +29,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.security.Principal;
-
 @Tag(name = "사용자 (Users)", description = "사용자 프로필 관리 API - 프로필 조회, 수정, 이미지 업로드, 회원 탈퇴")
 @RequiredArgsConstructor
 @RestController
@@ -55,9 +54,9 @@ public class UserController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @GetMapping("/profile")
-    public ResponseEntity<?> getCurrentUserProfile(Principal principal) {
+    public ResponseEntity<?> getCurrentUserProfile(AuthenticatedUser caller) {
         try {
-            UserResponse response = userService.getCurrentUserProfile(principal.getName());
+            UserResponse response = userService.getCurrentUserProfile(caller.userId());
             return ResponseEntity.ok(new UserApiResponse(response));
         } catch (UsernameNotFoundException e) {
             log.error("사용자 프로필 조회 실패: {}", e.getMessage());
@@ -86,11 +85,11 @@ public class UserController {
     })
     @PutMapping("/profile")
     public ResponseEntity<?> updateCurrentUserProfile(
-            Principal principal,
+            AuthenticatedUser caller,
             @Valid @RequestBody UpdateProfileRequest updateRequest) {
 
         try {
-            UserResponse response = userService.updateUserProfile(principal.getName(), updateRequest);
+            UserResponse response = userService.updateUserProfile(caller.userId(), updateRequest);
             return ResponseEntity.ok(new UserUpdateResponse("프로필이 업데이트되었습니다.", response));
         } catch (UsernameNotFoundException e) {
             log.error("사용자 프로필 업데이트 실패: {}", e.getMessage());
@@ -125,11 +124,11 @@ public class UserController {
     })
     @PostMapping("/profile-image")
     public ResponseEntity<?> uploadProfileImage(
-            Principal principal,
+            AuthenticatedUser caller,
             @RequestParam("profileImage") MultipartFile file) {
 
         try {
-            ProfileImageResponse response = userService.uploadProfileImage(principal.getName(), file);
+            ProfileImageResponse response = userService.uploadProfileImage(caller.userId(), file);
             return ResponseEntity.ok(response);
         } catch (UsernameNotFoundException e) {
             log.error("프로필 이미지 업로드 실패 - 사용자 없음: {}", e.getMessage());
@@ -161,11 +160,11 @@ public class UserController {
     })
     @PostMapping("/profile-image/register")
     public ResponseEntity<?> registerProfileImage(
-            Principal principal,
+            AuthenticatedUser caller,
             @Valid @RequestBody ProfileImageRegisterRequest request) {
 
         try {
-            ProfileImageResponse response = userService.registerProfileImage(principal.getName(), request);
+            ProfileImageResponse response = userService.registerProfileImage(caller.userId(), request);
             return ResponseEntity.ok(response);
         } catch (UsernameNotFoundException e) {
             log.error("프로필 이미지 등록 실패 - 사용자 없음: {}", e.getMessage());
@@ -195,9 +194,9 @@ public class UserController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @DeleteMapping("/profile-image")
-    public ResponseEntity<?> deleteProfileImage(Principal principal) {
+    public ResponseEntity<?> deleteProfileImage(AuthenticatedUser caller) {
         try {
-            userService.deleteProfileImage(principal.getName());
+            userService.deleteProfileImage(caller.userId());
             return ResponseEntity.ok(StandardResponse.success("프로필 이미지가 삭제되었습니다."));
         } catch (UsernameNotFoundException e) {
             log.error("프로필 이미지 삭제 실패 - 사용자 없음: {}", e.getMessage());
@@ -224,9 +223,9 @@ public class UserController {
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
     @DeleteMapping("/account")
-    public ResponseEntity<?> deleteAccount(Principal principal) {
+    public ResponseEntity<?> deleteAccount(AuthenticatedUser caller) {
         try {
-            userService.deleteUserAccount(principal.getName());
+            userService.deleteUserAccount(caller.userId());
             return ResponseEntity.ok(StandardResponse.success("회원 탈퇴가 완료되었습니다."));
         } catch (UsernameNotFoundException e) {
             log.error("회원 탈퇴 실패 - 사용자 없음: {}", e.getMessage());
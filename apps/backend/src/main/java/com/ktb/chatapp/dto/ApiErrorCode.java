@@ -17,6 +17,7 @@ public enum ApiErrorCode {
     MISSING_REQUIRED_FIELD("MISSING_REQUIRED_FIELD", "필수 필드가 누락되었습니다.", HttpStatus.BAD_REQUEST),
     INVALID_EMAIL_FORMAT("INVALID_EMAIL_FORMAT", "올바른 이메일 형식이 아닙니다.", HttpStatus.BAD_REQUEST),
     INVALID_PASSWORD_FORMAT("INVALID_PASSWORD_FORMAT", "비밀번호 형식이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("INVALID_CURSOR", "유효하지 않은 페이지 커서입니다.", HttpStatus.BAD_REQUEST),
 
     // 리소스 관련 (4xx)
     RESOURCE_NOT_FOUND("RESOURCE_NOT_FOUND", "요청한 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
@@ -0,0 +1,47 @@
+package com.ktb.chatapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.MessageType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 히스토리 포맷의 메시지 DTO.
+ * 발신자는 ID만 담고 정보는 페이지의 사용자 사전에서 조회한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class CompactMessageResponse {
+    @JsonProperty("_id")
+    private String id;
+
+    private String content;
+
+    // 발신자 ID (CompactMessagesResponse.users의 키)
+    private String sender;
+
+    private MessageType type;
+
+    private FileResponse file;
+
+    private AiType aiType;
+
+    private long timestamp;
+
+    private Map<String, Set<String>> reactions;
+
+    // 읽은 사용자 ID 목록 (읽은 시각 생략)
+    private List<String> readBy;
+
+    private Map<String, Object> metadata;
+}
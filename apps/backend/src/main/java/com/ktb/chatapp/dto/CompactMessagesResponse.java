@@ -0,0 +1,23 @@
+package com.ktb.chatapp.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 히스토리 포맷의 메시지 페이지 DTO.
+ * 페이지에 등장하는 발신자 정보를 사용자 사전으로 한 번만 전달한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CompactMessagesResponse {
+    private List<CompactMessageResponse> messages;
+    // 발신자 ID -> 사용자 정보
+    private Map<String, UserResponse> users;
+    private boolean hasMore;
+}
@@ -1,5 +1,6 @@
 package com.ktb.chatapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -17,7 +18,11 @@ import java.util.List;
 public class JoinRoomSuccessResponse {
     private String roomId;
     private List<UserResponse> participants;
+    private long participantsVersion;
     private List<MessageResponse> messages;
+    // 압축 히스토리 포맷을 요청한 클라이언트에만 채워짐 (이 경우 messages는 비어 있음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private CompactMessagesResponse history;
     private boolean hasMore;
     private List<ActiveStreamResponse> activeStreams;
 }
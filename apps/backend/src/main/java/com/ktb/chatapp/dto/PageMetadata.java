@@ -17,6 +17,10 @@ public class PageMetadata {
     private boolean hasMore;
     private int currentCount;
     private SortInfo sort;
+    // 다음 페이지 요청에 사용할 커서 (키셋 페이지네이션 미지원 정렬이거나 마지막 페이지면 null)
+    private String nextCursor;
+    // total이 캐시된 추정치인지 여부
+    private boolean totalApproximate;
 
     @Data
     @Builder
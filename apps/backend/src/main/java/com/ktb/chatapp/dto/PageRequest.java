@@ -17,6 +17,9 @@ public class PageRequest {
     private String sortOrder = "desc";
     private String search;
 
+    // 이전 응답의 metadata.nextCursor (있으면 page 대신 키셋 페이지네이션 사용)
+    private String cursor;
+
     public boolean isValidSortField() {
         return "createdAt".equals(sortField) ||
                "name".equals(sortField) ||
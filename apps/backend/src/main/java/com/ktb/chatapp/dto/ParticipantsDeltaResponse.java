@@ -0,0 +1,31 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 참가자 변경 델타.
+ * version은 방 멤버십 버전으로, 클라이언트는 마지막으로 받은 버전 + 1이 아니면
+ * 스냅샷을 다시 요청해야 한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ParticipantsDeltaResponse {
+    public static final String ADDED = "added";
+    public static final String REMOVED = "removed";
+
+    private String roomId;
+    private long version;
+    private String type;
+    private UserResponse participant;
+
+    public static ParticipantsDeltaResponse added(String roomId, long version, UserResponse participant) {
+        return new ParticipantsDeltaResponse(roomId, version, ADDED, participant);
+    }
+
+    public static ParticipantsDeltaResponse removed(String roomId, long version, UserResponse participant) {
+        return new ParticipantsDeltaResponse(roomId, version, REMOVED, participant);
+    }
+}
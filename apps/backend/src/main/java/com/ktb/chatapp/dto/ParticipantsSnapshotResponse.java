@@ -9,8 +9,8 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-public class ParticipantsUpdateResponse {
+public class ParticipantsSnapshotResponse {
     private String roomId;
+    private long version;
     private List<UserResponse> participants;
 }
-
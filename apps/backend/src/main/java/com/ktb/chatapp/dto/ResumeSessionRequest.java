@@ -0,0 +1,30 @@
+package com.ktb.chatapp.dto;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 재연결 시 세션 재개 요청
+ * 클라이언트가 참여 중이던 방과 방별 마지막으로 본 메시지의 타임스탬프(epoch millis)를 전달한다.
+ */
+public record ResumeSessionRequest(List<ResumeRoom> rooms) {
+
+    public List<ResumeRoom> rooms() {
+        return rooms != null ? rooms : List.of();
+    }
+
+    public record ResumeRoom(String roomId, Long lastMessageTimestamp) {
+
+        public LocalDateTime lastSeen(LocalDateTime defaultTime) {
+            if (lastMessageTimestamp != null && lastMessageTimestamp > 0) {
+                return LocalDateTime.ofInstant(
+                        Instant.ofEpochMilli(lastMessageTimestamp),
+                        ZoneId.systemDefault()
+                );
+            }
+            return defaultTime;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeSessionResponse {
+    // 다시 연결된 방과 놓친 메시지
+    private List<ResumedRoom> rooms;
+    // 더 이상 참여 중이 아니어서 재개하지 못한 방 (클라이언트는 joinRoom으로 재입장)
+    private List<String> rejectedRoomIds;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResumedRoom {
+        private String roomId;
+        private List<MessageResponse> messages;
+        // true면 놓친 메시지가 한도를 초과함 (클라이언트가 전체 기록을 다시 로드)
+        private boolean hasMore;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ktb.chatapp.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 방 목록 구독자에게 보내는 압축 델타.
+ * 목록 행 렌더링에 필요한 값만 담으며, 참여자 목록 대신 참여자 수를 전달한다.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RoomListDeltaResponse {
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+
+    private String type;
+
+    @JsonProperty("_id")
+    private String id;
+
+    private String name;
+    private Boolean hasPassword;
+    private Integer participantsCount;
+    private Integer recentMessageCount;
+    private String createdAt;
+
+    public static RoomListDeltaResponse created(RoomResponse room) {
+        return of(CREATED, room);
+    }
+
+    public static RoomListDeltaResponse updated(RoomResponse room) {
+        return of(UPDATED, room);
+    }
+
+    private static RoomListDeltaResponse of(String type, RoomResponse room) {
+        return new RoomListDeltaResponse(
+                type,
+                room.getId(),
+                room.getName(),
+                room.isHasPassword(),
+                room.getParticipantsCount(),
+                room.getRecentMessageCount(),
+                room.getCreatedAtDateTime() != null ? room.getCreatedAt() : null
+        );
+    }
+}
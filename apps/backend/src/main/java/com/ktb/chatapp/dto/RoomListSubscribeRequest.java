@@ -0,0 +1,11 @@
+package com.ktb.chatapp.dto;
+
+/**
+ * 방 목록 구독 요청 (목록 화면이 열려 있는 동안만 유지)
+ *
+ * @param search    현재 검색어 (없으면 전체)
+ * @param sortField 현재 정렬 필드
+ * @param sortOrder 현재 정렬 순서
+ */
+public record RoomListSubscribeRequest(String search, String sortField, String sortOrder) {
+}
@@ -37,7 +37,11 @@ public class RoomResponse {
     @JsonIgnore
     private LocalDateTime createdAtDateTime;
 
-    @Schema(description = "현재 사용자가 생성자인지 여부", example = "true")
+    @Schema(description = "채팅방 생성자 ID (현재 사용자 ID와 비교해 생성자 여부 판단)", example = "60d5ec49f1b2c8b9e8c4f2b2")
+    private String creatorId;
+
+    @Schema(description = "현재 사용자가 생성자인지 여부 (방 목록 응답은 사용자 간 공유 캐시되므로 항상 false, creatorId로 판단)",
+            example = "true")
     private boolean isCreator;
 
     @Schema(description = "최근 10분간 메시지 수", example = "23")
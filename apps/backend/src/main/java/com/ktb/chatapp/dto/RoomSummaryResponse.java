@@ -0,0 +1,23 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인 직후 방 목록 부트스트랩용 방 요약
+ * 전체 메시지 기록은 방을 열 때만 로드한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomSummaryResponse {
+    private String roomId;
+    // 메시지가 없는 방이면 null
+    private MessageResponse lastMessage;
+    private long unreadCount;
+    // 최근 활동 여부 (최근 구간 내 메시지 존재)
+    private boolean active;
+}
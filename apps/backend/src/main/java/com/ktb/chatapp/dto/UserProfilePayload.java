@@ -0,0 +1,18 @@
+package com.ktb.chatapp.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로필 변경 노드 간 전파 payload (연결된 소켓의 발신자 정보 갱신용)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfilePayload {
+    private String userId;
+    private String name;
+    private String profileImage;
+    private long profileVersion;
+}
@@ -0,0 +1,15 @@
+package com.ktb.chatapp.event;
+
+import com.ktb.chatapp.dto.ParticipantsDeltaResponse;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ParticipantsChangedEvent extends ApplicationEvent {
+    private final ParticipantsDeltaResponse delta;
+
+    public ParticipantsChangedEvent(Object source, ParticipantsDeltaResponse delta) {
+        super(source);
+        this.delta = delta;
+    }
+}
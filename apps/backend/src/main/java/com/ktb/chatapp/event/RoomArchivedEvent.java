@@ -0,0 +1,14 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class RoomArchivedEvent extends ApplicationEvent {
+    private final String roomId;
+
+    public RoomArchivedEvent(Object source, String roomId) {
+        super(source);
+        this.roomId = roomId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.ktb.chatapp.event;
+
+import com.ktb.chatapp.model.User;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class UserProfileUpdatedEvent extends ApplicationEvent {
+    private final User user;
+
+    public UserProfileUpdatedEvent(Object source, User user) {
+        super(source);
+        this.user = user;
+    }
+}
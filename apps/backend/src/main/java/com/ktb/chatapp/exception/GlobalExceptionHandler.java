@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.AuthenticationException;
@@ -92,6 +93,34 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ApiErrorCode.FILE_TOO_LARGE.getHttpStatus()).body(response);
     }
     
+    /**
+     * 비밀번호 해시 대기열 초과 처리 (잠시 후 재시도)
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<StandardResponse<Object>> handlePasswordHashingBusyException(
+            PasswordHashingBusyException ex, HttpServletRequest request) {
+
+        StandardResponse<Object> response = StandardResponse.error(ApiErrorCode.SERVICE_UNAVAILABLE);
+        response.setPath(request.getRequestURI());
+        return ResponseEntity.status(ApiErrorCode.SERVICE_UNAVAILABLE.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+    
+    /**
+     * 잘못된 페이지 커서 처리 (첫 페이지부터 다시 조회)
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<StandardResponse<Object>> handleInvalidCursorException(
+            InvalidCursorException ex, HttpServletRequest request) {
+
+        log.warn("잘못된 페이지 커서: {} - {}", request.getRequestURI(), ex.getMessage());
+
+        StandardResponse<Object> response = StandardResponse.error(ApiErrorCode.INVALID_CURSOR);
+        response.setPath(request.getRequestURI());
+        return ResponseEntity.status(ApiErrorCode.INVALID_CURSOR.getHttpStatus()).body(response);
+    }
+
     /**
      * 일반적인 Runtime 예외 처리
      */
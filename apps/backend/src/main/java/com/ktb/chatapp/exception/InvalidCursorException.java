@@ -0,0 +1,15 @@
+package com.ktb.chatapp.exception;
+
+/**
+ * 형식이 잘못되었거나 변조된 페이지 커서 (400)
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.ktb.chatapp.exception;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해시 작업 대기열이 가득 찬 경우 발생 (503 + Retry-After)
+ */
+@Getter
+public class PasswordHashingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingBusyException(long retryAfterSeconds) {
+        super("Password hashing queue is full");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -31,7 +31,8 @@ import java.util.Set;
 @Document(collection = "messages")
 @CompoundIndexes({
     @CompoundIndex(name = "readers_userId_idx", def = "{'readers.userId': 1}"),
-    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}")
+    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}"),
+    @CompoundIndex(name = "sender_timestamp_idx", def = "{'sender': 1, 'timestamp': -1}")
 })
 public class Message {
 
@@ -50,6 +51,9 @@ public class Message {
     @Field("sender")
     private String senderId;
 
+    // 전송 시점의 발신자 정보 (히스토리 조회 시 users 컬렉션 조인 생략용)
+    private SenderSnapshot senderSnapshot;
+
     private MessageType type;
 
     // Mongo 문서 필드명 "file" 사용
@@ -90,6 +94,29 @@ public class Message {
     }
     
     
+    /**
+     * 발신자 정보 스냅샷
+     * 프로필 변경 시 version이 낮은 최근 스냅샷은 백그라운드에서 갱신된다.
+     * 채팅 화면에 표시되지 않는 이메일은 메시지마다 복제하지 않는다.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SenderSnapshot {
+        private String name;
+        private String profileImage;
+        private long version;
+
+        public static SenderSnapshot from(User user) {
+            return SenderSnapshot.builder()
+                    .name(user.getName())
+                    .profileImage(user.getProfileImage())
+                    .version(user.getProfileVersion())
+                    .build();
+        }
+    }
+    
     public long toTimestampMillis() {
         return timestamp.atZone(java.time.ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
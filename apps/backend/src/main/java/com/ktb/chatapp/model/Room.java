@@ -2,7 +2,9 @@ package com.ktb.chatapp.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -23,7 +25,15 @@ import org.springframework.data.mongodb.core.mapping.Field;
 @AllArgsConstructor
 @Document(collection = "rooms")
 @CompoundIndexes({
-    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}")
+    @CompoundIndex(name = "name_createdAt_idx", def = "{'name': 1, 'createdAt': -1}"),
+    // 방 목록 키셋 페이지네이션용 (정렬 값 + _id)
+    @CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "name_id_idx", def = "{'name': 1, '_id': 1}"),
+    // 참가자 수 정렬/인기 방 조회용
+    @CompoundIndex(name = "participantCount_id_idx", def = "{'participantCount': -1, '_id': -1}"),
+    // 빈 방/휴면 방 회수 대상 조회용
+    @CompoundIndex(name = "participantCount_lastActivityAt_idx", def = "{'participantCount': 1, 'lastActivityAt': 1}"),
+    @CompoundIndex(name = "lastActivityAt_idx", def = "{'lastActivityAt': 1}")
 })
 public class Room {
 
@@ -33,6 +43,15 @@ public class Room {
     @Indexed
     private String name;
 
+    // 이름 검색용 1-gram/2-gram 토큰 (멀티키 인덱스로 부분 일치 검색)
+    @JsonIgnore
+    @Indexed(name = "nameGrams_idx")
+    private List<String> nameGrams;
+
+    // 검색 가산점(포함/접두 일치)용 정규화 이름, nameGrams와 같은 규칙(NFKC, 소문자, 공백/구두점 제거)
+    @JsonIgnore
+    private String nameKey;
+
     private String creator;
 
     private boolean hasPassword;
@@ -47,6 +66,22 @@ public class Room {
     @Field("participantIds")
     @Builder.Default
     private Set<String> participantIds = new HashSet<>();
+
+    // participantIds 크기의 비정규화 값 ($addToSet/$pull과 같은 연산에서 $inc로 갱신, 정렬용)
+    private int participantCount;
+
+    // 마지막 활동 시각 (참가자 변경 시 갱신, 메시지 활동은 주기적으로 모아서 반영)
+    private LocalDateTime lastActivityAt;
+
+    // 참가자 추가/제거 시마다 1씩 증가하는 멤버십 버전 (델타 브로드캐스트 순서 확인용)
+    private long participantsVersion;
+
+    // 방 목록 응답용 생성자 표시 정보 (users 컬렉션 조회 없이 목록 구성)
+    private MemberSummary creatorSummary;
+
+    // 방 목록 응답용 참가자 표시 정보 (participantIds와 함께 원자적으로 갱신)
+    @Builder.Default
+    private List<MemberSummary> participantSummaries = new ArrayList<>();
     
     /**
      * 방에 참가자를 추가한다.
@@ -58,6 +93,7 @@ public class Room {
             this.participantIds = new HashSet<>();
         }
         this.participantIds.add(userId);
+        this.participantCount = this.participantIds.size();
     }
     
     /**
@@ -68,6 +104,7 @@ public class Room {
     public void removeParticipant(String userId) {
         if (this.participantIds != null) {
             this.participantIds.remove(userId);
+            this.participantCount = this.participantIds.size();
         }
     }
     
@@ -81,11 +118,37 @@ public class Room {
     }
     
     /**
-     * 방의 참가자 수를 반환한다.
+     * 방 목록 요약이 참가자 목록과 일치하는지 확인한다.
+     * 요약 필드가 도입되기 전에 생성된 방은 false를 반환한다.
      *
-     * @return 참가자 수
+     * @return 생성자/참가자 요약으로 응답을 구성할 수 있으면 true
+     */
+    public boolean hasMemberSummaries() {
+        return (this.creator == null || this.creatorSummary != null)
+                && this.participantSummaries != null
+                && this.participantSummaries.size() == (this.participantIds != null ? this.participantIds.size() : 0);
+    }
+
+    /**
+     * 방 목록 표시용 사용자 요약 정보
      */
-    public int getParticipantCount() {
-        return this.participantIds != null ? this.participantIds.size() : 0;
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MemberSummary {
+        private String userId;
+        private String name;
+        private String email;
+        private String profileImage;
+
+        public static MemberSummary from(User user) {
+            return MemberSummary.builder()
+                    .userId(user.getId())
+                    .name(user.getName())
+                    .email(user.getEmail())
+                    .profileImage(user.getProfileImage())
+                    .build();
+        }
     }
 }
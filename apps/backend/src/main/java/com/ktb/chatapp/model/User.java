@@ -37,6 +37,9 @@ public class User {
 
     private String profileImage;
 
+    // 이름/프로필 이미지 변경 시 1씩 증가 (메시지 발신자 스냅샷 갱신 기준)
+    private long profileVersion;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
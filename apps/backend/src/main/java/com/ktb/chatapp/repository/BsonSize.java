@@ -0,0 +1,20 @@
+package com.ktb.chatapp.repository;
+
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+
+/**
+ * 아카이브 지표용 BSON 문서 크기 계산
+ */
+final class BsonSize {
+
+    private static final DocumentCodec CODEC = new DocumentCodec();
+
+    private BsonSize() {
+    }
+
+    static long of(Document document) {
+        return new RawBsonDocument(document, CODEC).getByteBuffer().remaining();
+    }
+}
@@ -5,6 +5,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -12,6 +13,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface MessageRepository extends MongoRepository<Message, String> {
     Page<Message> findByRoomIdAndIsDeletedAndTimestampBefore(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
+
+    /**
+     * 특정 시간 이후의 메시지 조회 (세션 재개 시 놓친 메시지 로드용)
+     * 전체 개수가 필요 없으므로 count 쿼리 없이 Slice로 조회한다.
+     */
+    Slice<Message> findByRoomIdAndIsDeletedAndTimestampAfter(String roomId, Boolean isDeleted, LocalDateTime timestamp, Pageable pageable);
     /**
      * 특정 시간 이후의 메시지 수 카운트 (삭제되지 않은 메시지만)
      * 최근 N분간 메시지 수를 조회할 때 사용
@@ -1,20 +1,33 @@
 package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 @RequiredArgsConstructor
 @Repository
 public class MessageRepositoryCustomImpl {
 
+    private static final String MESSAGES_ARCHIVE = "messages_archive";
+
     private final MongoTemplate mongoTemplate;
 
     public void bulkUpdateReadStatus(
@@ -31,4 +44,129 @@ public class MessageRepositoryCustomImpl {
 
         mongoTemplate.updateMulti(query, update, Message.class);
     }
+
+    /**
+     * 여러 방의 마지막 메시지, 안 읽은 메시지 수, 최근 메시지 수를 한 번의 집계로 조회
+     * 방 문서에서 시작해 방마다 room_isDeleted_timestamp_idx 범위만 읽는 $lookup을 수행한다.
+     * 마지막 메시지는 인덱스 첫 항목 하나만, 메시지 수는 countSince 이후 구간만 읽으므로
+     * 방의 전체 메시지 이력을 집계하지 않는다.
+     *
+     * @param roomIds 조회할 방 ID 목록
+     * @param userId 안 읽음 기준 사용자 ID (본인이 보낸 메시지는 제외)
+     * @param recentSince 최근 활동으로 간주할 시작 시각
+     * @param unreadSince 안 읽은 메시지로 셀 시작 시각 (이전 메시지는 세지 않는다)
+     */
+    public List<RoomMessageSummary> summarizeRooms(
+            Collection<String> roomIds,
+            String userId,
+            LocalDateTime recentSince,
+            LocalDateTime unreadSince
+    ) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        String messages = mongoTemplate.getCollectionName(Message.class);
+        Date recent = toDate(recentSince);
+        Date unreadFrom = toDate(unreadSince);
+        Date countSince = recent.before(unreadFrom) ? recent : unreadFrom;
+
+        Document unread = new Document("$and", List.of(
+                new Document("$gte", List.of("$timestamp", unreadFrom)),
+                new Document("$eq", List.of(new Document("$type", "$readers." + userId), "missing")),
+                new Document("$ne", List.of("$sender", userId))
+        ));
+        Document isRecent = new Document("$gte", List.of("$timestamp", recent));
+
+        List<Object> ids = roomIds.stream().map(MessageRepositoryCustomImpl::roomDocumentId).toList();
+        AggregationOperation matchRooms = context -> new Document("$match",
+                new Document("_id", new Document("$in", ids)));
+        // 메시지의 room 필드는 문자열이므로 방 ID를 문자열로 맞춘다
+        AggregationOperation roomIdAsString = context -> new Document("$project",
+                new Document("_id", new Document("$toString", "$_id")));
+        AggregationOperation lastMessage = context -> new Document("$lookup", new Document("from", messages)
+                .append("localField", "_id")
+                .append("foreignField", "room")
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("isDeleted", false)),
+                        new Document("$sort", new Document("timestamp", -1)),
+                        new Document("$limit", 1)))
+                .append("as", "lastMessage"));
+        AggregationOperation counts = context -> new Document("$lookup", new Document("from", messages)
+                .append("localField", "_id")
+                .append("foreignField", "room")
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("isDeleted", false)
+                                .append("timestamp", new Document("$gte", countSince))),
+                        new Document("$group", new Document("_id", null)
+                                .append("unreadCount", new Document("$sum", new Document("$cond", List.of(unread, 1, 0))))
+                                .append("recentCount", new Document("$sum", new Document("$cond", List.of(isRecent, 1, 0)))))))
+                .append("as", "counts"));
+        AggregationOperation flatten = context -> new Document("$project", new Document("lastMessage",
+                new Document("$first", "$lastMessage"))
+                .append("unreadCount", new Document("$ifNull", List.of(new Document("$first", "$counts.unreadCount"), 0)))
+                .append("recentCount", new Document("$ifNull", List.of(new Document("$first", "$counts.recentCount"), 0))));
+
+        return mongoTemplate.aggregate(
+                Aggregation.newAggregation(matchRooms, roomIdAsString, lastMessage, counts, flatten),
+                mongoTemplate.getCollectionName(Room.class),
+                RoomMessageSummary.class
+        ).getMappedResults();
+    }
+
+    private static Object roomDocumentId(String roomId) {
+        return ObjectId.isValid(roomId) ? new ObjectId(roomId) : roomId;
+    }
+
+    private static Date toDate(LocalDateTime dateTime) {
+        return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * 사용자의 최근 메시지 발신자 스냅샷을 최신 프로필로 갱신
+     * 더 낮은 버전의 스냅샷만 갱신하며, 스냅샷이 없는 메시지는 조회 시 조인으로 처리된다.
+     *
+     * @return 갱신된 메시지 수
+     */
+    public long refreshSenderSnapshots(String userId, Message.SenderSnapshot snapshot, LocalDateTime since) {
+        Query query = new Query(Criteria.where("sender").is(userId)
+                .and("timestamp").gte(since)
+                .and("senderSnapshot.version").lt(snapshot.getVersion()));
+
+        Update update = new Update().set("senderSnapshot", snapshot);
+
+        return mongoTemplate.updateMulti(query, update, Message.class).getModifiedCount();
+    }
+
+    /**
+     * 방의 메시지를 한 배치만큼 messages_archive로 옮긴다.
+     * 원본 문서를 그대로 복사한 뒤 같은 ID만 삭제하므로 중간에 실패해도 다음 배치에서 이어진다.
+     *
+     * @return 옮긴 메시지 수와 BSON 크기 합
+     */
+    public ArchivedBatch archiveMessageBatch(String roomId, int batchSize) {
+        String collection = mongoTemplate.getCollectionName(Message.class);
+        List<Document> batch = mongoTemplate.getCollection(collection)
+                .find(new Document("room", roomId))
+                .limit(batchSize)
+                .into(new ArrayList<>());
+        if (batch.isEmpty()) {
+            return new ArchivedBatch(0, 0);
+        }
+
+        // 이전 시도에서 복사만 되고 삭제되지 않은 문서와 중복되지 않도록 upsert로 복사
+        List<Object> ids = batch.stream().map(document -> document.get("_id")).toList();
+        List<ReplaceOneModel<Document>> copies = batch.stream()
+                .map(document -> new ReplaceOneModel<>(
+                        new Document("_id", document.get("_id")), document, new ReplaceOptions().upsert(true)))
+                .toList();
+        mongoTemplate.getCollection(MESSAGES_ARCHIVE).bulkWrite(copies);
+        mongoTemplate.getCollection(collection).deleteMany(new Document("_id", new Document("$in", ids)));
+
+        long bytes = batch.stream().mapToLong(BsonSize::of).sum();
+        return new ArchivedBatch(batch.size(), bytes);
+    }
+
+    public record ArchivedBatch(int count, long bytes) {
+    }
 }
@@ -0,0 +1,24 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Message;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+
+/**
+ * 방별 메시지 요약 집계 결과
+ */
+@Data
+@NoArgsConstructor
+public class RoomMessageSummary {
+
+    // $group의 _id (방 ID)
+    @Id
+    private String roomId;
+
+    private Message lastMessage;
+
+    private long unreadCount;
+
+    private long recentCount;
+}
@@ -1,37 +1,35 @@
 package com.ktb.chatapp.repository;
 
 import com.ktb.chatapp.model.Room;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
-import org.springframework.data.mongodb.repository.Update;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface RoomRepository extends MongoRepository<Room, String> {
+public interface RoomRepository extends MongoRepository<Room, String>, RoomRepositoryCustom {
 
-    // 페이지네이션과 함께 모든 방 조회
-    Page<Room> findAll(Pageable pageable);
-
-    // 검색어와 함께 페이지네이션 조회
-    Page<Room> findByNameContainingIgnoreCase(String name, Pageable pageable);
+    // 오프셋 페이지네이션 조회 (전체 count 없이 다음 페이지 존재 여부만 확인)
+    Slice<Room> findAllBy(Pageable pageable);
 
     // 가장 최근에 생성된 방 조회 (Health Check용)
     @Query(value = "{}", sort = "{ 'createdAt': -1 }")
     Optional<Room> findMostRecentRoom();
 
+    // 주어진 방 중 사용자가 참여 중인 방의 ID만 조회 (세션 재개 권한 확인용)
+    @Query(value = "{ '_id': { $in: ?0 }, 'participantIds': ?1 }", fields = "{ '_id': 1 }")
+    List<Room> findIdsByIdInAndParticipant(Collection<String> roomIds, String userId);
+
+    // 사용자가 참여 중인 방의 ID만 조회 (방 요약 부트스트랩용)
+    @Query(value = "{ 'participantIds': ?0 }", fields = "{ '_id': 1 }")
+    List<Room> findIdsByParticipant(String userId);
+
     // Health Check용 단순 조회 (지연 시간 측정)
     @Query(value = "{}", fields = "{ '_id': 1 }")
     Optional<Room> findOneForHealthCheck();
-
-    @Query("{'_id': ?0}")
-    @Update("{'$addToSet': {'participantIds': ?1}}")
-    void addParticipant(String roomId, String userId);
-
-    @Query("{'_id': ?0}")
-    @Update("{'$pull': {'participantIds': ?1}}")
-    void removeParticipant(String roomId, String userId);
 }
@@ -0,0 +1,131 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 참가자 변경과 멤버십 버전 증가, 목록용 요약 갱신을 하나의 원자적 연산으로 처리하고
+ * n-gram 기반 방 이름 검색을 제공하는 커스텀 저장소.
+ */
+public interface RoomRepositoryCustom {
+
+    /**
+     * 참가자와 참가자 요약을 추가하고 멤버십 버전을 증가시킨다.
+     *
+     * @return 실제로 추가된 경우 증가된 버전, 이미 참가자이거나 방이 없으면 empty
+     */
+    OptionalLong addParticipant(String roomId, User user);
+
+    /**
+     * 참가자와 참가자 요약을 제거하고 멤버십 버전을 증가시킨다.
+     *
+     * @return 실제로 제거된 경우 증가된 버전, 참가자가 아니었거나 방이 없으면 empty
+     */
+    OptionalLong removeParticipant(String roomId, String userId);
+
+    /**
+     * 방 문서를 불러오지 않고 사용자가 참가자인지 확인한다.
+     */
+    boolean isParticipant(String roomId, String userId);
+
+    /**
+     * 방의 참가자 ID만 조회한다.
+     *
+     * @return 방이 없으면 empty
+     */
+    Optional<Set<String>> findParticipantIds(String roomId);
+
+    /**
+     * 사용자가 생성했거나 참여 중인 방의 요약 정보를 최신 프로필로 갱신한다.
+     */
+    void refreshMemberSummary(User user);
+
+    /**
+     * 이름 n-gram 인덱스로 방을 검색한다.
+     * 일치한 gram 수와 부분 문자열/접두어 일치 여부로 점수를 매겨 높은 순으로 정렬하고,
+     * 같은 점수 안에서는 요청한 정렬을 따른다.
+     */
+    Page<Room> searchByName(String keyword, Pageable pageable);
+
+    /**
+     * 키셋 방식으로 다음 페이지를 조회한다. (sortField, _id) 순으로 정렬하며
+     * 마지막 값이 주어지면 그 이후의 방만 반환하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     *
+     * @param lastValue 이전 페이지 마지막 방의 정렬 값 (정렬 값이 없는 방이었으면 null)
+     * @param lastId    이전 페이지 마지막 방의 ID (첫 페이지면 null)
+     */
+    List<Room> findRoomsAfter(String sortField, Sort.Direction direction, Object lastValue, String lastId, int limit);
+
+    /**
+     * 이름 n-gram이나 정규화 이름이 없는 기존 방에 채운다.
+     *
+     * @return 갱신한 방 수
+     */
+    int backfillNameGrams(int batchSize);
+
+    /**
+     * 참가자 수 필드가 없거나 participantIds 크기와 어긋난 방을 보정한다.
+     *
+     * @return 보정한 방 수
+     */
+    long reconcileParticipantCounts();
+
+    /**
+     * 생성자/참가자 요약이 없거나 참가자 수와 어긋난 기존 방의 요약을 현재 사용자 정보로 다시 채운다.
+     * 조회 후 참가자가 바뀐 방은 갱신하지 않으며 다음 배치에서 다시 처리된다.
+     *
+     * @return 조회한 방 수
+     */
+    int backfillMemberSummaries(int batchSize);
+
+    /**
+     * 마지막 활동 시각이 없는 기존 방에 생성 시각을 채운다.
+     *
+     * @return 갱신한 방 수
+     */
+    long backfillLastActivity();
+
+    /**
+     * 메시지 활동이 있었던 방들의 마지막 활동 시각을 한 번에 갱신한다.
+     */
+    void touchLastActivity(Collection<String> roomIds, LocalDateTime at);
+
+    /**
+     * 회수 대상 방 ID를 조회한다.
+     * 참가자가 없고 emptyBefore 이전부터 활동이 없는 방, 또는 dormantBefore 이전부터 활동이 없는 방.
+     */
+    List<String> findReclaimableRoomIds(LocalDateTime emptyBefore, LocalDateTime dormantBefore, int limit);
+
+    /**
+     * 여전히 회수 조건을 만족하면 방 문서를 rooms_archive로 옮긴다.
+     * 보관본을 먼저 쓰고 원본을 조건부로 삭제하며, 삭제되지 않으면 보관본을 되돌린다.
+     * 메시지 이동이 끝날 때까지 아카이브 문서는 messagesArchived=false 상태로 남는다.
+     *
+     * @return 옮긴 방 문서의 BSON 크기, 그 사이 조건이 바뀌었으면 empty
+     */
+    OptionalLong archiveRoomIfReclaimable(String roomId, LocalDateTime emptyBefore, LocalDateTime dormantBefore);
+
+    /**
+     * 메시지 이동이 끝나지 않은 아카이브 방 ID를 조회한다.
+     */
+    List<String> findPendingArchivedRoomIds(int limit);
+
+    /**
+     * 원본 방 삭제 전에 중단되어 남은 미완료 보관본을 지운다.
+     */
+    void discardArchivedRoom(String roomId);
+
+    /**
+     * 아카이브 방의 메시지 이동 완료를 기록한다.
+     */
+    void markMessagesArchived(String roomId);
+}
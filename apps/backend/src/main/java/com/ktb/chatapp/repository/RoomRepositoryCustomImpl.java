@@ -0,0 +1,390 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.util.NGramTokenizer;
+import com.mongodb.client.model.ReplaceOptions;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@RequiredArgsConstructor
+public class RoomRepositoryCustomImpl implements RoomRepositoryCustom {
+
+    private static final String PARTICIPANT_IDS = "participantIds";
+    private static final String PARTICIPANT_COUNT = "participantCount";
+    private static final String PARTICIPANTS_VERSION = "participantsVersion";
+    private static final String PARTICIPANT_SUMMARIES = "participantSummaries";
+    private static final String CREATOR_SUMMARY = "creatorSummary";
+    private static final String NAME_GRAMS = "nameGrams";
+    private static final String NAME_KEY = "nameKey";
+    private static final String MATCHED_GRAMS = "matchedGrams";
+    private static final String SEARCH_SCORE = "searchScore";
+    private static final String LAST_ACTIVITY_AT = "lastActivityAt";
+    private static final String ROOMS_ARCHIVE = "rooms_archive";
+    private static final String MESSAGES_ARCHIVED = "messagesArchived";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public OptionalLong addParticipant(String roomId, User user) {
+        // 이미 참가자인 경우 매칭되지 않으므로 버전이 증가하지 않는다.
+        Query query = new Query(Criteria.where("_id").is(roomId)
+                .and(PARTICIPANT_IDS).ne(user.getId()));
+        Update update = new Update()
+                .addToSet(PARTICIPANT_IDS, user.getId())
+                .push(PARTICIPANT_SUMMARIES, Room.MemberSummary.from(user))
+                .inc(PARTICIPANT_COUNT, 1)
+                .inc(PARTICIPANTS_VERSION, 1)
+                .set(LAST_ACTIVITY_AT, LocalDateTime.now());
+        return modifyParticipants(query, update);
+    }
+
+    @Override
+    public OptionalLong removeParticipant(String roomId, String userId) {
+        Query query = new Query(Criteria.where("_id").is(roomId)
+                .and(PARTICIPANT_IDS).is(userId));
+        Update update = new Update()
+                .pull(PARTICIPANT_IDS, userId)
+                .pull(PARTICIPANT_SUMMARIES, new Document("userId", userId))
+                .inc(PARTICIPANT_COUNT, -1)
+                .inc(PARTICIPANTS_VERSION, 1)
+                .set(LAST_ACTIVITY_AT, LocalDateTime.now());
+        return modifyParticipants(query, update);
+    }
+
+    @Override
+    public boolean isParticipant(String roomId, String userId) {
+        return mongoTemplate.exists(
+                new Query(Criteria.where("_id").is(roomId).and(PARTICIPANT_IDS).is(userId)),
+                Room.class);
+    }
+
+    @Override
+    public Optional<Set<String>> findParticipantIds(String roomId) {
+        Query query = new Query(Criteria.where("_id").is(roomId));
+        query.fields().include(PARTICIPANT_IDS);
+        return Optional.ofNullable(mongoTemplate.findOne(query, Room.class))
+                .map(Room::getParticipantIds);
+    }
+
+    @Override
+    public void refreshMemberSummary(User user) {
+        Room.MemberSummary summary = Room.MemberSummary.from(user);
+
+        Query participantQuery = new Query(Criteria.where(PARTICIPANT_IDS).is(user.getId()));
+        Update participantUpdate = new Update()
+                .set(PARTICIPANT_SUMMARIES + ".$[member]", summary)
+                .filterArray(Criteria.where("member.userId").is(user.getId()));
+        mongoTemplate.updateMulti(participantQuery, participantUpdate, Room.class);
+
+        Query creatorQuery = new Query(Criteria.where(CREATOR_SUMMARY + ".userId").is(user.getId()));
+        mongoTemplate.updateMulti(creatorQuery, new Update().set(CREATOR_SUMMARY, summary), Room.class);
+    }
+
+    @Override
+    public Page<Room> searchByName(String keyword, Pageable pageable) {
+        List<String> grams = NGramTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        // 짧은 검색어는 모든 gram, 긴 검색어는 절반 이상이 일치해야 후보로 인정 (소켓 구독 필터와 같은 기준)
+        int minMatches = NGramTokenizer.minMatches(grams);
+        List<AggregationOperation> filter = List.of(
+                Aggregation.match(Criteria.where(NAME_GRAMS).in(grams)),
+                scoreStage(grams, NGramTokenizer.normalize(keyword)),
+                Aggregation.match(Criteria.where(MATCHED_GRAMS).gte(minMatches))
+        );
+
+        String collection = mongoTemplate.getCollectionName(Room.class);
+        List<AggregationOperation> pageStages = new ArrayList<>(filter);
+        // 점수와 정렬 키가 같은 방이 많아도 페이지 경계가 흔들리지 않도록 _id로 순서를 고정한다
+        pageStages.add(Aggregation.sort(Sort.by(Sort.Direction.DESC, SEARCH_SCORE)
+                .and(pageable.getSort())
+                .and(Sort.by(Sort.Direction.ASC, "_id"))));
+        pageStages.add(Aggregation.skip(pageable.getOffset()));
+        pageStages.add(Aggregation.limit(pageable.getPageSize()));
+        List<Room> rooms = mongoTemplate.aggregate(
+                Aggregation.newAggregation(pageStages), collection, Room.class).getMappedResults();
+
+        List<AggregationOperation> countStages = new ArrayList<>(filter);
+        countStages.add(Aggregation.count().as("total"));
+        Document countResult = mongoTemplate.aggregate(
+                Aggregation.newAggregation(countStages), collection, Document.class).getUniqueMappedResult();
+        long total = countResult != null ? ((Number) countResult.get("total")).longValue() : 0L;
+
+        return new PageImpl<>(rooms, pageable, total);
+    }
+
+    @Override
+    public List<Room> findRoomsAfter(
+            String sortField, Sort.Direction direction, Object lastValue, String lastId, int limit) {
+        Query query = new Query();
+        if (lastId != null) {
+            query.addCriteria(beyondLast(sortField, direction.isDescending(), lastValue, lastId));
+        }
+        query.with(Sort.by(direction, sortField).and(Sort.by(direction, "_id")));
+        query.limit(limit);
+        return mongoTemplate.find(query, Room.class);
+    }
+
+    /**
+     * 마지막 방 이후의 방 조건. MongoDB는 값이 없는(null) 방을 가장 작은 값으로 정렬하므로
+     * 내림차순에서는 맨 뒤, 오름차순에서는 맨 앞에 온다.
+     */
+    private static Criteria beyondLast(String sortField, boolean descending, Object lastValue, String lastId) {
+        Criteria sameValueBeyondId = descending
+                ? Criteria.where(sortField).is(lastValue).and("_id").lt(lastId)
+                : Criteria.where(sortField).is(lastValue).and("_id").gt(lastId);
+        if (lastValue == null) {
+            // 내림차순이면 남은 방은 모두 값이 없고, 오름차순이면 값이 있는 방이 모두 남는다
+            return descending
+                    ? sameValueBeyondId
+                    : new Criteria().orOperator(sameValueBeyondId, Criteria.where(sortField).ne(null));
+        }
+        Criteria beyondValue = descending
+                ? new Criteria().orOperator(Criteria.where(sortField).lt(lastValue), Criteria.where(sortField).is(null))
+                : Criteria.where(sortField).gt(lastValue);
+        return new Criteria().orOperator(beyondValue, sameValueBeyondId);
+    }
+
+    @Override
+    public int backfillNameGrams(int batchSize) {
+        Query query = new Query(new Criteria().orOperator(
+                Criteria.where(NAME_GRAMS).exists(false),
+                Criteria.where(NAME_KEY).exists(false))).limit(batchSize);
+        query.fields().include("name");
+        List<Room> rooms = mongoTemplate.find(query, Room.class);
+        if (rooms.isEmpty()) {
+            return 0;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        rooms.forEach(room -> bulk.updateOne(
+                new Query(Criteria.where("_id").is(room.getId())),
+                new Update()
+                        .set(NAME_GRAMS, NGramTokenizer.indexGrams(room.getName()))
+                        .set(NAME_KEY, NGramTokenizer.normalize(room.getName()))));
+        bulk.execute();
+        return rooms.size();
+    }
+
+    @Override
+    public long reconcileParticipantCounts() {
+        // 필드 도입 전의 방이나 값이 어긋난 방을 participantIds 크기로 맞춘다 (문서 단위 원자적 갱신)
+        Document size = new Document("$size",
+                new Document("$ifNull", List.of("$" + PARTICIPANT_IDS, List.of())));
+        Query query = new BasicQuery(new Document("$expr",
+                new Document("$ne", List.of("$" + PARTICIPANT_COUNT, size))));
+        AggregationUpdate update = AggregationUpdate.update()
+                .set(PARTICIPANT_COUNT).toValue((AggregationExpression) context -> size);
+        return mongoTemplate.updateMulti(query, update, Room.class).getModifiedCount();
+    }
+
+    @Override
+    public int backfillMemberSummaries(int batchSize) {
+        // 요약 도입 전의 방은 요약이 없거나, 도입 후 참가한 사용자의 요약만 가지고 있다
+        Query query = new BasicQuery(new Document("$or", List.of(
+                new Document("$expr", new Document("$ne", List.of(
+                        sizeOf(PARTICIPANT_SUMMARIES), sizeOf(PARTICIPANT_IDS)))),
+                new Document("creator", new Document("$ne", null))
+                        .append(CREATOR_SUMMARY, new Document("$exists", false)))));
+        query.limit(batchSize);
+        query.fields().include("creator").include(PARTICIPANT_IDS).include(PARTICIPANTS_VERSION);
+        List<Room> rooms = mongoTemplate.find(query, Room.class);
+        if (rooms.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> userIds = new HashSet<>();
+        rooms.forEach(room -> {
+            if (room.getCreator() != null) {
+                userIds.add(room.getCreator());
+            }
+            userIds.addAll(participantIdsOf(room));
+        });
+        Map<String, Room.MemberSummary> summaries = new HashMap<>();
+        mongoTemplate.find(new Query(Criteria.where("_id").in(userIds)), User.class)
+                .forEach(user -> summaries.put(user.getId(), Room.MemberSummary.from(user)));
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Room.class);
+        rooms.forEach(room -> {
+            // 탈퇴한 사용자도 참가자 수와 요약 수가 맞도록 ID만 담은 요약을 둔다
+            List<Room.MemberSummary> participants = participantIdsOf(room).stream()
+                    .map(id -> summaries.getOrDefault(id, Room.MemberSummary.builder().userId(id).build()))
+                    .toList();
+            Update update = new Update().set(PARTICIPANT_SUMMARIES, participants);
+            if (room.getCreator() != null) {
+                update.set(CREATOR_SUMMARY, summaries.getOrDefault(room.getCreator(),
+                        Room.MemberSummary.builder().userId(room.getCreator()).build()));
+            }
+            // 조회 이후 참가자가 바뀌었으면 버전이 달라져 갱신되지 않는다 (버전 필드가 없는 이전 방 포함)
+            long version = room.getParticipantsVersion();
+            Criteria unchanged = version == 0
+                    ? Criteria.where(PARTICIPANTS_VERSION).in(0L, null)
+                    : Criteria.where(PARTICIPANTS_VERSION).is(version);
+            bulk.updateOne(new Query(Criteria.where("_id").is(room.getId()).andOperator(unchanged)), update);
+        });
+        bulk.execute();
+        return rooms.size();
+    }
+
+    private static Set<String> participantIdsOf(Room room) {
+        return room.getParticipantIds() != null ? room.getParticipantIds() : Set.of();
+    }
+
+    private static Document sizeOf(String field) {
+        return new Document("$size", new Document("$ifNull", List.of("$" + field, List.of())));
+    }
+
+    @Override
+    public long backfillLastActivity() {
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class)).updateMany(
+                new Document(LAST_ACTIVITY_AT, new Document("$exists", false)),
+                List.of(new Document("$set", new Document(LAST_ACTIVITY_AT, "$createdAt")))
+        ).getModifiedCount();
+    }
+
+    @Override
+    public void touchLastActivity(Collection<String> roomIds, LocalDateTime at) {
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        // 노드 간 순서가 뒤바뀌어도 시각이 뒤로 가지 않도록 $max 사용
+        mongoTemplate.updateMulti(
+                new Query(Criteria.where("_id").in(roomIds)),
+                new Update().max(LAST_ACTIVITY_AT, at),
+                Room.class);
+    }
+
+    @Override
+    public List<String> findReclaimableRoomIds(LocalDateTime emptyBefore, LocalDateTime dormantBefore, int limit) {
+        Query query = new Query(reclaimableCriteria(emptyBefore, dormantBefore)).limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Room.class).stream()
+                .map(Room::getId)
+                .toList();
+    }
+
+    @Override
+    public OptionalLong archiveRoomIfReclaimable(String roomId, LocalDateTime emptyBefore, LocalDateTime dormantBefore) {
+        Query query = new Query(new Criteria().andOperator(
+                Criteria.where("_id").is(roomId),
+                reclaimableCriteria(emptyBefore, dormantBefore)));
+        Room room = mongoTemplate.findOne(query, Room.class);
+        if (room == null) {
+            return OptionalLong.empty();
+        }
+
+        // 원본을 지우기 전에 보관본을 먼저 쓴다. 그 사이 중단되면 원본과 미완료 보관본이 함께 남고,
+        // 다음 실행에서 보관본을 버린 뒤 다시 후보로 처리한다.
+        Document archived = new Document();
+        mongoTemplate.getConverter().write(room, archived);
+        archived.append(MESSAGES_ARCHIVED, false).append("archivedAt", new Date());
+        mongoTemplate.getCollection(ROOMS_ARCHIVE).replaceOne(
+                new Document("_id", archived.get("_id")), archived, new ReplaceOptions().upsert(true));
+
+        // 조회 이후 참가자가 바뀌었거나 회수 조건이 깨졌으면 삭제되지 않는다
+        long version = room.getParticipantsVersion();
+        query.addCriteria(version == 0
+                ? Criteria.where(PARTICIPANTS_VERSION).in(0L, null)
+                : Criteria.where(PARTICIPANTS_VERSION).is(version));
+        if (mongoTemplate.remove(query, Room.class).getDeletedCount() == 0) {
+            discardArchivedRoom(roomId);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(BsonSize.of(archived));
+    }
+
+    @Override
+    public void discardArchivedRoom(String roomId) {
+        mongoTemplate.getCollection(ROOMS_ARCHIVE).deleteOne(
+                new Document("_id", archiveId(roomId)).append(MESSAGES_ARCHIVED, false));
+    }
+
+    @Override
+    public List<String> findPendingArchivedRoomIds(int limit) {
+        Query query = new Query(Criteria.where(MESSAGES_ARCHIVED).is(false)).limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, Document.class, ROOMS_ARCHIVE).stream()
+                .map(document -> String.valueOf(document.get("_id")))
+                .toList();
+    }
+
+    @Override
+    public void markMessagesArchived(String roomId) {
+        mongoTemplate.getCollection(ROOMS_ARCHIVE).updateOne(
+                new Document("_id", archiveId(roomId)),
+                new Document("$set", new Document(MESSAGES_ARCHIVED, true)));
+    }
+
+    private static Object archiveId(String roomId) {
+        return ObjectId.isValid(roomId) ? new ObjectId(roomId) : roomId;
+    }
+
+    private Criteria reclaimableCriteria(LocalDateTime emptyBefore, LocalDateTime dormantBefore) {
+        return new Criteria().orOperator(
+                Criteria.where(PARTICIPANT_COUNT).is(0).and(LAST_ACTIVITY_AT).lt(emptyBefore),
+                Criteria.where(LAST_ACTIVITY_AT).lt(dormantBefore));
+    }
+
+    /**
+     * 일치 gram 수, 부분 문자열 일치(gram 수만큼 가산), 접두어 일치(1 가산)로 검색 점수를 계산한다.
+     * 부분 문자열/접두어 판정도 gram과 같은 정규화 규칙을 따르도록 정규화된 검색어를 {@code nameKey}와 비교한다.
+     */
+    private AggregationOperation scoreStage(List<String> grams, String keyword) {
+        Document matched = new Document("$size",
+                new Document("$setIntersection", List.of("$" + NAME_GRAMS, grams)));
+        Document position = new Document("$indexOfCP",
+                List.of(new Document("$ifNull", List.of("$" + NAME_KEY, "")), keyword));
+        Document containsBonus = new Document("$cond",
+                List.of(new Document("$gte", List.of(position, 0)), grams.size(), 0));
+        Document prefixBonus = new Document("$cond",
+                List.of(new Document("$eq", List.of(position, 0)), 1, 0));
+
+        return context -> new Document("$addFields", new Document(MATCHED_GRAMS, matched)
+                .append(SEARCH_SCORE, new Document("$add", List.of(matched, containsBonus, prefixBonus))));
+    }
+
+    private OptionalLong modifyParticipants(Query query, Update update) {
+        query.fields().include(PARTICIPANTS_VERSION);
+
+        Room updated = mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                Room.class
+        );
+
+        return updated != null
+                ? OptionalLong.of(updated.getParticipantsVersion())
+                : OptionalLong.empty();
+    }
+}
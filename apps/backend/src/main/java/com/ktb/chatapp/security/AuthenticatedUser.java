@@ -0,0 +1,34 @@
+package com.ktb.chatapp.security;
+
+import java.util.Map;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+
+/**
+ * 인증된 요청의 호출자
+ * SessionAwareJwtAuthenticationConverter가 검증한 JWT 클레임(userId, sessionId, subject)으로 구성되므로
+ * 호출자 식별을 위해 사용자 문서를 다시 조회할 필요가 없다.
+ * 컨트롤러 메서드 파라미터로 선언하면 AuthenticatedUserArgumentResolver가 주입한다.
+ *
+ * @param userId 사용자 ID
+ * @param email 사용자 이메일 (JWT subject)
+ * @param sessionId 인증 세션 ID
+ */
+public record AuthenticatedUser(String userId, String email, String sessionId) {
+
+    /**
+     * Authentication의 details에서 호출자 정보를 꺼낸다.
+     *
+     * @throws AuthenticationCredentialsNotFoundException JWT로 인증된 요청이 아닌 경우
+     */
+    public static AuthenticatedUser from(Authentication authentication) {
+        if (authentication == null || !(authentication.getDetails() instanceof Map<?, ?> details)) {
+            throw new AuthenticationCredentialsNotFoundException("인증 정보가 없습니다.");
+        }
+        Object userId = details.get("userId");
+        if (!(userId instanceof String id)) {
+            throw new AuthenticationCredentialsNotFoundException("인증 정보에 사용자 ID가 없습니다.");
+        }
+        return new AuthenticatedUser(id, (String) details.get("email"), (String) details.get("sessionId"));
+    }
+}
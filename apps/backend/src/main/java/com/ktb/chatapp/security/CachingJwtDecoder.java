@@ -0,0 +1,85 @@
+package com.ktb.chatapp.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증된 JWT 캐시 디코더
+ * 서명 검증과 클레임 검증을 통과한 토큰을 토큰 문자열 키로 만료 시각(exp)까지 보관해
+ * 같은 토큰의 반복 요청에서 HMAC 검증과 JSON 파싱을 생략한다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ * 조회는 잠금 없이 처리하며, 상한을 넘으면 먼저 들어온 항목부터 제거한다.
+ * (토큰은 exp까지만 유효하므로 접근 순서를 추적하지 않는다)
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Counter hits;
+    private final Counter misses;
+    private final ConcurrentHashMap<String, Jwt> entries = new ConcurrentHashMap<>();
+    // 삽입 순서 (만료된 항목도 여기서만 제거해 맵과 크기를 맞춘다)
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    public CachingJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.hits = Counter.builder("jwt.decode.cache")
+                .tag("result", "hit")
+                .description("Verified JWT cache lookups")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.decode.cache")
+                .tag("result", "miss")
+                .description("Verified JWT cache lookups")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+
+        Instant now = clock.instant();
+        Jwt cached = entries.get(token);
+        if (cached != null && cached.getExpiresAt().isAfter(now)) {
+            hits.increment();
+            return cached;
+        }
+
+        // 만료된 항목은 원본 디코더가 거부하므로 다시 저장되지 않고, 삽입 순서대로 밀려난다
+        misses.increment();
+        Jwt jwt = delegate.decode(token);
+        // exp가 없는 토큰은 무기한 캐시되지 않도록 제외
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(now)
+                && entries.putIfAbsent(token, jwt) == null) {
+            insertionOrder.add(token);
+            evictOverflow();
+        }
+        return jwt;
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > MAX_ENTRIES) {
+            String eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            entries.remove(eldest);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.ktb.chatapp.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 연결 수명주기 지연 작업용 공유 타이머
+ * 현재는 AI 스트림 유휴 감시(멈춘 스트림 정리)가 사용하며, 지연 작업을 하나의 hashed-wheel 타이머로 처리한다.
+ * 대기 중인 작업은 스레드가 아닌 휠 슬롯의 작은 객체로만 유지되어 수천 개가 쌓여도 수 KB 수준이다.
+ * 작업은 타이머 스레드에서 실행되므로 짧게 끝나야 하며, 무거운 처리는 별도 실행기로 넘긴다.
+ */
+@Slf4j
+@Service
+public class LifecycleTimer {
+
+    // 지연 정밀도 100ms, 휠 한 바퀴 51.2초
+    private static final long TICK_MILLIS = 100L;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer;
+    private final MeterRegistry meterRegistry;
+    // 작업 종류별 실행 카운터 (예약마다 레지스트리를 조회하지 않도록 캐시)
+    private final Map<String, Counter> firedCounters = new ConcurrentHashMap<>();
+
+    public LifecycleTimer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.timer = new HashedWheelTimer(
+                new DefaultThreadFactory("lifecycle-timer", true),
+                TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL, false);
+
+        Gauge.builder("lifecycle.timers.pending", timer, HashedWheelTimer::pendingTimeouts)
+                .description("Pending delayed lifecycle actions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 지연 작업 예약
+     *
+     * @param purpose 메트릭 태그용 작업 종류
+     * @return 취소 가능한 핸들 (Timeout.cancel)
+     */
+    public Timeout schedule(String purpose, Duration delay, Runnable action) {
+        Counter fired = firedCounters.computeIfAbsent(purpose, tag -> Counter.builder("lifecycle.timers.fired")
+                .tag("purpose", tag)
+                .description("Delayed lifecycle actions executed")
+                .register(meterRegistry));
+
+        return timer.newTimeout(timeout -> {
+            fired.increment();
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("Lifecycle timer action failed - purpose: {}", purpose, e);
+            }
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        int unprocessed = timer.stop().size();
+        if (unprocessed > 0) {
+            log.info("Lifecycle timer stopped with {} pending actions", unprocessed);
+        }
+    }
+}
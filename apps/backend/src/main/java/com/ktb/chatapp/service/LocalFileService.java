@@ -2,10 +2,8 @@ package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.util.FileUtil;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
@@ -30,15 +28,15 @@ public class LocalFileService implements FileService {
     private final Path fileStorageLocation;
     private final FileRepository fileRepository;
     private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final RoomAccessGrants roomAccessGrants;
 
     public LocalFileService(@Value("${file.upload-dir:uploads}") String uploadDir,
                       FileRepository fileRepository,
                       MessageRepository messageRepository,
-                      RoomRepository roomRepository) {
+                      RoomAccessGrants roomAccessGrants) {
         this.fileRepository = fileRepository;
         this.messageRepository = messageRepository;
-        this.roomRepository = roomRepository;
+        this.roomAccessGrants = roomAccessGrants;
         this.fileStorageLocation = Paths.get(uploadDir).toAbsolutePath().normalize();
     }
     
@@ -155,17 +153,13 @@ public class LocalFileService implements FileService {
             Message message = messageRepository.findByFileId(fileEntity.getId())
                     .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
 
-            // 3. 방 조회 (사용자가 방 참가자인지 확인)
-            Room room = roomRepository.findById(message.getRoomId())
-                    .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
-
-            // 4. 권한 검증
-            if (!room.getParticipantIds().contains(requesterId)) {
+            // 3. 권한 검증 (사용자가 방 참가자인지 확인, 검증된 권한은 캐시됨)
+            if (!roomAccessGrants.checkAccess(message.getRoomId(), requesterId)) {
                 log.warn("파일 접근 권한 없음: {} (사용자: {})", fileName, requesterId);
                 throw new RuntimeException("파일에 접근할 권한이 없습니다");
             }
 
-            // 5. 파일 경로 검증 및 로드
+            // 4. 파일 경로 검증 및 로드
             Path filePath = this.fileStorageLocation.resolve(fileName).normalize();
             FileUtil.validatePath(filePath, this.fileStorageLocation);
 
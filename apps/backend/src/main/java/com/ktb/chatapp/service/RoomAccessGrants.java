@@ -0,0 +1,208 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.EventEnvelope;
+import com.ktb.chatapp.repository.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 접근 권한 캐시
+ * 방별 참가자 전체를 처음 확인할 때 한 번 적재해 멤버십 인덱스로 보관하고,
+ * 참가자가 아닌 사용자의 확인 결과는 크기와 수명이 제한된 부정 캐시에 보관한다.
+ * 입장/퇴장/방 보관은 Redis 토픽으로 모든 노드의 인덱스에 반영되므로
+ * 정상 상태에서는 권한 확인이 방 문서 조회나 BCrypt 비교 없이 처리된다.
+ */
+@Slf4j
+@Service
+public class RoomAccessGrants {
+
+    private static final String TOPIC = "chat:room-membership";
+    static final String EVENT_TYPE = "membershipChange";
+    private static final int MAX_NEGATIVE_ENTRIES = 10_000;
+    // 다른 노드의 입장 이벤트가 유실되어도 이 시간 안에 다시 확인된다
+    static final long NEGATIVE_TTL_MILLIS = 30_000L;
+
+    private final RoomRepository roomRepository;
+    private final RedissonClient redissonClient;
+    private final LongSupplier clock;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RoomMembershipIndex index = new RoomMembershipIndex();
+    private final Map<String, Long> negativeEntries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MAX_NEGATIVE_ENTRIES;
+        }
+    };
+
+    @Autowired
+    public RoomAccessGrants(RoomRepository roomRepository, RedissonClient redissonClient) {
+        this(roomRepository, redissonClient, System::currentTimeMillis);
+    }
+
+    RoomAccessGrants(RoomRepository roomRepository, RedissonClient redissonClient, LongSupplier clock) {
+        this.roomRepository = roomRepository;
+        this.redissonClient = redissonClient;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        // 레코드는 final이라 루트로 보내면 코덱이 타입 정보를 쓰지 않아 다른 노드에서 복원되지 않는다
+        topic().addListener(EventEnvelope.class, (channel, envelope) -> {
+            if (envelope.getPayload() instanceof MembershipChange change
+                    && !nodeId.equals(change.sourceNodeId())) {
+                apply(change);
+            }
+        });
+    }
+
+    /**
+     * 캐시된 권한만 확인한다.
+     */
+    public boolean isGranted(String roomId, String userId) {
+        return roomId != null && userId != null && index.contains(roomId, userId);
+    }
+
+    /**
+     * 사용자의 방 접근 권한을 확인한다.
+     * 처음 보는 방은 참가자 전체를 적재하고, 이미 적재된 방에서 찾지 못한 사용자는
+     * 부정 캐시가 만료된 경우에만 저장소에서 다시 확인한다.
+     */
+    public boolean checkAccess(String roomId, String userId) {
+        if (roomId == null || userId == null) {
+            return false;
+        }
+        if (index.contains(roomId, userId)) {
+            return true;
+        }
+        if (isNegativelyCached(roomId, userId)) {
+            return false;
+        }
+
+        boolean member;
+        if (index.isLoaded(roomId)) {
+            member = roomRepository.isParticipant(roomId, userId);
+            if (member) {
+                index.add(roomId, userId);
+            }
+        } else {
+            member = loadRoom(roomId, userId);
+        }
+
+        if (!member) {
+            cacheNegative(roomId, userId);
+        }
+        return member;
+    }
+
+    // 조회 중 도착한 퇴장/방 제거가 적재로 되돌려지지 않도록 조회 전후를 인덱스에 알린다
+    private boolean loadRoom(String roomId, String userId) {
+        index.beginLoad(roomId);
+        Optional<Set<String>> participantIds;
+        try {
+            participantIds = roomRepository.findParticipantIds(roomId);
+        } catch (RuntimeException e) {
+            index.abortLoad(roomId);
+            throw e;
+        }
+        if (participantIds.isEmpty()) {
+            index.abortLoad(roomId);
+            return false;
+        }
+        index.load(roomId, participantIds.get());
+        return index.contains(roomId, userId);
+    }
+
+    /**
+     * 검증된 사용자의 권한을 등록하고 다른 노드에도 반영한다.
+     */
+    public void grant(String roomId, String userId) {
+        publish(new MembershipChange(roomId, userId, MembershipChange.Type.ADDED, nodeId));
+    }
+
+    /**
+     * 사용자의 방 접근 권한을 모든 노드에서 회수한다.
+     */
+    public void revoke(String roomId, String userId) {
+        publish(new MembershipChange(roomId, userId, MembershipChange.Type.REMOVED, nodeId));
+    }
+
+    /**
+     * 방의 모든 접근 권한을 모든 노드에서 회수한다. (비밀번호 변경, 방 보관 등)
+     */
+    public void revokeRoom(String roomId) {
+        publish(new MembershipChange(roomId, null, MembershipChange.Type.ROOM_REMOVED, nodeId));
+    }
+
+    private void publish(MembershipChange change) {
+        apply(change);
+        try {
+            topic().publish(new EventEnvelope<>(EVENT_TYPE, TOPIC, change));
+        } catch (Exception e) {
+            log.warn("방 멤버십 변경 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(MembershipChange change) {
+        switch (change.type()) {
+            case ADDED -> {
+                index.add(change.roomId(), change.userId());
+                synchronized (negativeEntries) {
+                    negativeEntries.remove(negativeKey(change.roomId(), change.userId()));
+                }
+            }
+            case REMOVED -> index.remove(change.roomId(), change.userId());
+            case ROOM_REMOVED -> index.removeRoom(change.roomId());
+        }
+    }
+
+    private boolean isNegativelyCached(String roomId, String userId) {
+        String key = negativeKey(roomId, userId);
+        synchronized (negativeEntries) {
+            Long expiresAt = negativeEntries.get(key);
+            if (expiresAt == null) {
+                return false;
+            }
+            if (expiresAt <= clock.getAsLong()) {
+                negativeEntries.remove(key);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private void cacheNegative(String roomId, String userId) {
+        synchronized (negativeEntries) {
+            negativeEntries.put(negativeKey(roomId, userId), clock.getAsLong() + NEGATIVE_TTL_MILLIS);
+        }
+    }
+
+    private static String negativeKey(String roomId, String userId) {
+        return roomId + ":" + userId;
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC);
+    }
+
+    /**
+     * 멤버십 변경 메시지. ROOM_REMOVED면 userId는 null이다.
+     */
+    public record MembershipChange(String roomId, String userId, Type type, String sourceNodeId) {
+
+        public enum Type {
+            ADDED, REMOVED, ROOM_REMOVED
+        }
+    }
+}
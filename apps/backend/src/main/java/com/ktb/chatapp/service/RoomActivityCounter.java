@@ -0,0 +1,225 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.EventEnvelope;
+import com.ktb.chatapp.repository.RoomRepository;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방별 최근 메시지 수를 메모리에서 집계하는 슬라이딩 윈도우 카운터.
+ * 각 방은 10초 단위 버킷 60개(10분)로 이루어진 원시 배열 링을 가지며,
+ * 노드별 로컬 집계는 주기적으로 Redis 토픽에 게시되어 다른 노드의 값과 합산된다.
+ * 방 목록 조회 시 Mongo 집계 없이 O(1)로 최근 활동량을 읽을 수 있다.
+ * 같은 주기에 활동이 있었던 방의 lastActivityAt을 한 번의 updateMulti로 반영한다.
+ */
+@Slf4j
+@Service
+public class RoomActivityCounter {
+
+    static final int BUCKET_COUNT = 60;
+    static final long BUCKET_MILLIS = 10_000L;
+    private static final long PUBLISH_INTERVAL_MILLIS = 5_000L;
+    private static final long REMOTE_SNAPSHOT_TTL_MILLIS = PUBLISH_INTERVAL_MILLIS * 3;
+    private static final String TOPIC = "chat:room-activity";
+    static final String EVENT_TYPE = "roomActivitySnapshot";
+
+    private final RedissonClient redissonClient;
+    private final RoomRepository roomRepository;
+    private final LongSupplier clock;
+    private final Map<String, SlidingWindow> localWindows = new ConcurrentHashMap<>();
+    private final Set<String> activeSinceFlush = ConcurrentHashMap.newKeySet();
+    private final Map<String, RoomActivitySnapshot> remoteSnapshots = new ConcurrentHashMap<>();
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Autowired
+    public RoomActivityCounter(RedissonClient redissonClient, RoomRepository roomRepository) {
+        this(redissonClient, roomRepository, System::currentTimeMillis);
+    }
+
+    RoomActivityCounter(RedissonClient redissonClient, RoomRepository roomRepository, LongSupplier clock) {
+        this.redissonClient = redissonClient;
+        this.roomRepository = roomRepository;
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        // 레코드는 final이라 루트로 보내면 코덱이 타입 정보를 쓰지 않아 다른 노드에서 복원되지 않는다
+        topic().addListener(EventEnvelope.class, (channel, envelope) -> {
+            if (envelope.getPayload() instanceof RoomActivitySnapshot snapshot) {
+                merge(snapshot);
+            }
+        });
+    }
+
+    /**
+     * 방에 메시지가 한 건 저장되었음을 기록한다.
+     */
+    public void increment(String roomId) {
+        if (roomId == null) {
+            return;
+        }
+        long bucket = currentBucket();
+        localWindows.compute(roomId, (id, window) -> {
+            SlidingWindow target = window != null ? window : new SlidingWindow();
+            target.increment(bucket);
+            return target;
+        });
+        activeSinceFlush.add(roomId);
+    }
+
+    /**
+     * 최근 10분간 클러스터 전체에서 저장된 메시지 수를 반환한다.
+     * 다른 노드의 값은 마지막으로 수신한 스냅샷 기준이므로 게시 주기만큼 지연될 수 있다.
+     */
+    public int getRecentCount(String roomId) {
+        if (roomId == null) {
+            return 0;
+        }
+        int total = localCount(roomId, currentBucket());
+        long now = clock.getAsLong();
+        for (RoomActivitySnapshot snapshot : remoteSnapshots.values()) {
+            if (now - snapshot.publishedAt() > REMOTE_SNAPSHOT_TTL_MILLIS) {
+                continue;
+            }
+            total += snapshot.counts().getOrDefault(roomId, 0);
+        }
+        return total;
+    }
+
+    int localCount(String roomId, long bucket) {
+        SlidingWindow window = localWindows.get(roomId);
+        return window != null ? window.total(bucket) : 0;
+    }
+
+    void merge(RoomActivitySnapshot snapshot) {
+        if (snapshot == null || snapshot.nodeId() == null || snapshot.nodeId().equals(nodeId)) {
+            return;
+        }
+        if (snapshot.counts() == null || snapshot.counts().isEmpty()) {
+            remoteSnapshots.remove(snapshot.nodeId());
+            return;
+        }
+        remoteSnapshots.put(snapshot.nodeId(), snapshot);
+    }
+
+    @Scheduled(fixedRate = PUBLISH_INTERVAL_MILLIS, initialDelay = PUBLISH_INTERVAL_MILLIS)
+    public void publishLocalCounts() {
+        try {
+            RoomActivitySnapshot snapshot = snapshotLocalCounts();
+            topic().publish(new EventEnvelope<>(EVENT_TYPE, TOPIC, snapshot));
+            pruneExpiredSnapshots(snapshot.publishedAt());
+        } catch (Exception e) {
+            log.warn("Room activity snapshot publish failed: {}", e.getMessage());
+        }
+        flushLastActivity();
+    }
+
+    /**
+     * 직전 주기 이후 메시지가 있었던 방의 마지막 활동 시각을 모아서 갱신한다.
+     */
+    void flushLastActivity() {
+        List<String> roomIds = new ArrayList<>();
+        for (String roomId : activeSinceFlush) {
+            if (activeSinceFlush.remove(roomId)) {
+                roomIds.add(roomId);
+            }
+        }
+        if (roomIds.isEmpty()) {
+            return;
+        }
+        try {
+            roomRepository.touchLastActivity(roomIds, LocalDateTime.now());
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영
+            activeSinceFlush.addAll(roomIds);
+            log.warn("Room last activity flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 로컬 윈도우 합계를 스냅샷으로 만들고, 윈도우가 모두 만료된 방은 제거한다.
+     */
+    RoomActivitySnapshot snapshotLocalCounts() {
+        long bucket = currentBucket();
+        Map<String, Integer> counts = new HashMap<>();
+        for (String roomId : localWindows.keySet()) {
+            localWindows.computeIfPresent(roomId, (id, window) -> {
+                int total = window.total(bucket);
+                if (total == 0) {
+                    return null;
+                }
+                counts.put(id, total);
+                return window;
+            });
+        }
+        return new RoomActivitySnapshot(nodeId, counts, clock.getAsLong());
+    }
+
+    private void pruneExpiredSnapshots(long now) {
+        remoteSnapshots.values().removeIf(snapshot ->
+                now - snapshot.publishedAt() > REMOTE_SNAPSHOT_TTL_MILLIS);
+    }
+
+    private long currentBucket() {
+        return clock.getAsLong() / BUCKET_MILLIS;
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC);
+    }
+
+    /**
+     * 노드 하나의 방별 최근 메시지 수 스냅샷.
+     */
+    public record RoomActivitySnapshot(String nodeId, Map<String, Integer> counts, long publishedAt) {
+    }
+
+    /**
+     * 버킷 번호와 카운트를 원시 배열로 유지하는 고정 크기 링.
+     * 슬롯의 버킷 번호가 현재 윈도우를 벗어나면 해당 슬롯은 재사용 시 초기화된다.
+     */
+    static final class SlidingWindow {
+        private final long[] bucketIds = new long[BUCKET_COUNT];
+        private final int[] counts = new int[BUCKET_COUNT];
+
+        SlidingWindow() {
+            Arrays.fill(bucketIds, -1L);
+        }
+
+        synchronized void increment(long bucket) {
+            int slot = (int) (bucket % BUCKET_COUNT);
+            if (bucketIds[slot] != bucket) {
+                bucketIds[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+        }
+
+        synchronized int total(long currentBucket) {
+            int total = 0;
+            for (int slot = 0; slot < BUCKET_COUNT; slot++) {
+                long age = currentBucket - bucketIds[slot];
+                if (bucketIds[slot] >= 0 && age >= 0 && age < BUCKET_COUNT) {
+                    total += counts[slot];
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.model.Room;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 목록 전체 개수 캐시
+ * 요청마다 count를 실행하지 않도록 컬렉션 메타데이터 기반 추정치를 보관하고,
+ * 만료되면 조회를 막지 않고 백그라운드에서 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomCountCache {
+
+    private static final long REFRESH_INTERVAL_MILLIS = 30_000L;
+
+    private final MongoTemplate mongoTemplate;
+
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile long refreshedAt;
+
+    /**
+     * 캐시된 방 개수 추정치를 반환한다.
+     * 최초 조회 시에만 동기적으로 적재하고, 이후에는 만료 시 백그라운드 갱신을 예약한다.
+     */
+    public long getApproximateTotal() {
+        if (refreshedAt == 0) {
+            refresh();
+        } else if (System.currentTimeMillis() - refreshedAt > REFRESH_INTERVAL_MILLIS
+                && refreshing.compareAndSet(false, true)) {
+            Thread.startVirtualThread(() -> {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return total.get();
+    }
+
+    @EventListener
+    public void handleRoomCreated(RoomCreatedEvent event) {
+        // 다음 갱신 전까지 이 노드에서 생성된 방을 반영
+        total.incrementAndGet();
+    }
+
+    private void refresh() {
+        try {
+            total.set(mongoTemplate.estimatedCount(Room.class));
+            refreshedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("방 개수 추정치 갱신 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 문서 비정규화 필드 백필 서비스
+ * 필드가 도입되기 전에 생성된 방에 이름 n-gram 토큰, 참가자 수, 생성자/참가자 요약, 마지막 활동 시각을 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomFieldBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final RoomRepository roomRepository;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            int total = 0;
+            int updated;
+            do {
+                updated = roomRepository.backfillNameGrams(BATCH_SIZE);
+                total += updated;
+            } while (updated == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("방 이름 n-gram 백필 완료: {}개", total);
+            }
+        } catch (Exception e) {
+            log.error("방 이름 n-gram 백필 실패", e);
+        }
+
+        try {
+            long reconciled = roomRepository.reconcileParticipantCounts();
+            if (reconciled > 0) {
+                log.info("방 참가자 수 보정 완료: {}개", reconciled);
+            }
+        } catch (Exception e) {
+            log.error("방 참가자 수 보정 실패", e);
+        }
+
+        try {
+            int total = 0;
+            int scanned;
+            do {
+                scanned = roomRepository.backfillMemberSummaries(BATCH_SIZE);
+                total += scanned;
+            } while (scanned == BATCH_SIZE);
+
+            if (total > 0) {
+                log.info("방 멤버 요약 백필 완료: {}개", total);
+            }
+        } catch (Exception e) {
+            log.error("방 멤버 요약 백필 실패", e);
+        }
+
+        try {
+            long backfilled = roomRepository.backfillLastActivity();
+            if (backfilled > 0) {
+                log.info("방 마지막 활동 시각 백필 완료: {}개", backfilled);
+            }
+        } catch (Exception e) {
+            log.error("방 마지막 활동 시각 백필 실패", e);
+        }
+    }
+}
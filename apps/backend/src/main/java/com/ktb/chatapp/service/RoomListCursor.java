@@ -0,0 +1,92 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.InvalidCursorException;
+import com.ktb.chatapp.model.Room;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 방 목록 키셋 페이지네이션 커서.
+ * 마지막으로 반환한 방의 정렬 키 값과 ID를 담으며, 클라이언트에는 불투명한 Base64 문자열로 전달된다.
+ *
+ * @param sortField 커서가 만들어진 정렬 필드 (정렬이 바뀌면 커서를 무시하기 위함)
+ * @param sortOrder 커서가 만들어진 정렬 순서
+ * @param lastId    마지막 방 ID (동일 정렬 값 사이의 순서 결정)
+ * @param lastValue 마지막 방의 정렬 키 값 (문자열 표현, 값이 없는 방이면 null)
+ */
+public record RoomListCursor(String sortField, String sortOrder, String lastId, String lastValue) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 페이지의 마지막 방으로 다음 페이지 커서를 만든다.
+     */
+    public static RoomListCursor after(String sortField, String sortOrder, Room last) {
+        String value = switch (sortField) {
+            case "createdAt" -> last.getCreatedAt() != null ? last.getCreatedAt().toString() : null;
+            case "participantsCount" -> String.valueOf(last.getParticipantCount());
+            default -> last.getName();
+        };
+        return new RoomListCursor(sortField, sortOrder, last.getId(), value);
+    }
+
+    public String encode() {
+        // 값이 없으면 마지막 필드를 생략해 빈 문자열 값과 구분한다
+        String raw = lastValue != null
+                ? String.join(DELIMITER, sortField, sortOrder, lastId, lastValue)
+                : String.join(DELIMITER, sortField, sortOrder, lastId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석한다. 커서가 없으면 empty를 반환한다.
+     *
+     * @throws InvalidCursorException 형식이 잘못되었거나 정렬 값을 해석할 수 없는 경우
+     */
+    public static Optional<RoomListCursor> decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return Optional.empty();
+        }
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("커서 인코딩이 올바르지 않습니다.", e);
+        }
+        // 정렬 값(방 이름)에 구분자가 포함될 수 있으므로 마지막 필드는 나머지 전체를 사용
+        String[] parts = raw.split("\\" + DELIMITER, 4);
+        if (parts.length < 3 || parts[2].isEmpty()) {
+            throw new InvalidCursorException("커서 형식이 올바르지 않습니다.");
+        }
+        RoomListCursor cursor = new RoomListCursor(parts[0], parts[1], parts[2], parts.length == 4 ? parts[3] : null);
+        cursor.sortValue();
+        return Optional.of(cursor);
+    }
+
+    /**
+     * 정렬 필드 타입으로 변환한 마지막 정렬 값 (값이 없는 방이면 null)
+     *
+     * @throws InvalidCursorException 정렬 값을 해석할 수 없는 경우
+     */
+    public Object sortValue() {
+        if (lastValue == null) {
+            return null;
+        }
+        try {
+            return switch (sortField) {
+                case "createdAt" -> LocalDateTime.parse(lastValue);
+                case "participantsCount" -> Integer.parseInt(lastValue);
+                default -> lastValue;
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidCursorException("커서 정렬 값이 올바르지 않습니다.", e);
+        }
+    }
+
+    public boolean matches(String sortField, String sortOrder) {
+        return this.sortField.equals(sortField) && this.sortOrder.equals(sortOrder);
+    }
+}
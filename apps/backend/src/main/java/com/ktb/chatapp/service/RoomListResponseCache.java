@@ -0,0 +1,202 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.ParticipantsChangedEvent;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import jakarta.annotation.PostConstruct;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 목록 응답 캐시
+ * 조회 조건별로 직렬화된 응답 바이트와 강한 ETag를 보관하며 사용자 간에 공유한다. (키에 호출자를 넣지 않음)
+ * 방 생성/수정/참가자 변경 시 증가하는 전역 방 목록 버전으로 무효화한다.
+ * 버전 증가는 Redis 토픽으로 다른 노드에도 전파된다.
+ * 큰 방의 참가자 목록이 응답에 포함되므로 항목 수가 아니라 응답 바이트 합계로 크기를 제한한다.
+ */
+@Slf4j
+@Service
+public class RoomListResponseCache {
+
+    // 최근 메시지 수처럼 버전과 무관하게 변하는 값의 최대 지연 (Cache-Control max-age와 동일)
+    private static final long ENTRY_TTL_MILLIS = 10_000L;
+    // 키 문자열, ETag, 맵 노드 등 응답 본문 외의 항목당 대략적인 크기
+    private static final long ENTRY_OVERHEAD_BYTES = 160L;
+    private static final String TOPIC = "chat:room-list-version";
+
+    private final RedissonClient redissonClient;
+    private final long maxBytes;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public RoomListResponseCache(
+            RedissonClient redissonClient,
+            @Value("${room.list.cache.max-bytes:67108864}") long maxBytes) {
+        this.redissonClient = redissonClient;
+        this.maxBytes = maxBytes;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        topic().addListener(String.class, (channel, sourceNodeId) -> {
+            if (!nodeId.equals(sourceNodeId)) {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 현재 버전에서 유효한 캐시 응답을 반환하고, 없으면 loader로 생성해 저장한다.
+     * loader가 null을 반환하면(실패 응답 등) 캐시하지 않는다.
+     * 조회는 잠금 없이 처리하며, 상한을 넘겼을 때만 한 스레드가 정리한다.
+     */
+    public CachedResponse get(String key, Supplier<byte[]> loader) {
+        long currentVersion = version.get();
+        long now = System.currentTimeMillis();
+
+        Entry cached = entries.get(key);
+        if (cached != null && cached.isFresh(currentVersion, now)) {
+            return cached.response();
+        }
+
+        byte[] body = loader.get();
+        if (body == null) {
+            return null;
+        }
+
+        // 계산 중 버전이 바뀌었으면 오래된 버전으로 저장되어 다음 조회에서 다시 계산된다
+        CachedResponse response = new CachedResponse(body, etagOf(body), currentVersion, now);
+        Entry entry = new Entry(response, body.length + key.length() * 2L + ENTRY_OVERHEAD_BYTES);
+        if (entry.bytes() > maxBytes) {
+            return response;
+        }
+        Entry previous = entries.put(key, entry);
+        totalBytes.addAndGet(entry.bytes() - (previous != null ? previous.bytes() : 0));
+        if (totalBytes.get() > maxBytes) {
+            evict(now);
+        }
+        return response;
+    }
+
+    /**
+     * 캐시된 응답 바이트 합계 (항목당 오버헤드 포함 추정치)
+     */
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * 이전 버전이거나 만료된 항목을 모두 버리고, 그래도 상한을 넘으면 상한 아래로 내려갈 때까지 제거한다.
+     * 항목 수명이 짧아(10초) 접근 순서는 추적하지 않는다. 정리 중인 스레드가 있으면 기다리지 않는다.
+     */
+    private void evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long currentVersion = version.get();
+            for (Map.Entry<String, Entry> candidate : entries.entrySet()) {
+                if (!candidate.getValue().isFresh(currentVersion, now)) {
+                    remove(candidate);
+                }
+            }
+            Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+            while (totalBytes.get() > maxBytes && iterator.hasNext()) {
+                remove(iterator.next());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(Map.Entry<String, Entry> candidate) {
+        // 그사이 같은 키로 새 응답이 저장되었으면 건드리지 않는다
+        if (entries.remove(candidate.getKey(), candidate.getValue())) {
+            totalBytes.addAndGet(-candidate.getValue().bytes());
+        }
+    }
+
+    /**
+     * 방 목록 버전을 올리고 다른 노드에 전파한다.
+     */
+    public void invalidate() {
+        version.incrementAndGet();
+        try {
+            topic().publish(nodeId);
+        } catch (Exception e) {
+            log.warn("방 목록 버전 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void handleRoomCreated(RoomCreatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void handleRoomUpdated(RoomUpdatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void handleParticipantsChanged(ParticipantsChangedEvent event) {
+        invalidate();
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(TOPIC);
+    }
+
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(CachedResponse response, long bytes) {
+
+        boolean isFresh(long currentVersion, long now) {
+            return response.version() == currentVersion && now - response.createdAt() < ENTRY_TTL_MILLIS;
+        }
+    }
+
+    /**
+     * 직렬화된 방 목록 응답과 강한 ETag
+     */
+    public record CachedResponse(byte[] body, String etag, long version, long createdAt) {
+
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(etag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방 목록 요약 갱신 서비스
+ * 프로필 변경 시 사용자가 생성했거나 참여 중인 방의 생성자/참가자 요약을 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomMemberSummaryReconciler {
+
+    private final RoomRepository roomRepository;
+
+    @Async
+    @EventListener
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        User user = event.getUser();
+        try {
+            roomRepository.refreshMemberSummary(user);
+            log.debug("방 멤버 요약 갱신 완료: userId={}", user.getId());
+        } catch (Exception e) {
+            log.error("방 멤버 요약 갱신 실패: userId={}", user.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.util.IntHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 방별 멤버십 인덱스
+ * 사용자 ID를 int로 치환해 방별 참가자 집합을 int 집합으로 보관한다.
+ * 치환 번호는 참조하는 방 수로 관리되어, 어느 방에도 남지 않은 사용자는 번호가 회수된다.
+ * 방 전체 참가자를 한 번에 적재한 방은 loaded로 표시된다.
+ */
+final class RoomMembershipIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private int[] refCounts = new int[16];
+    private final Map<String, IntHashSet> membersByRoom = new HashMap<>();
+    private final Set<String> loadedRooms = new HashSet<>();
+    private final Map<String, PendingLoad> pendingLoads = new HashMap<>();
+
+    RoomMembershipIndex() {
+        // 0은 IntHashSet의 빈 슬롯이므로 사용하지 않는다
+        names.add(null);
+    }
+
+    boolean contains(String roomId, String userId) {
+        lock.readLock().lock();
+        try {
+            Integer user = ids.get(userId);
+            IntHashSet members = membersByRoom.get(roomId);
+            return user != null && members != null && members.contains(user);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    boolean isLoaded(String roomId) {
+        lock.readLock().lock();
+        try {
+            return loadedRooms.contains(roomId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소 조회 전에 호출한다. 조회가 끝날 때까지 도착한 퇴장/방 제거를 기록해
+     * 조회 시점의 참가자 목록이 그 변경을 되돌리지 않게 한다.
+     */
+    void beginLoad(String roomId) {
+        lock.writeLock().lock();
+        try {
+            pendingLoads.computeIfAbsent(roomId, key -> new PendingLoad()).loaders++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장소에서 읽은 방의 전체 참가자를 적재한다. 적재 전후에 추가된 참가자는 유지되고,
+     * beginLoad 이후 퇴장한 참가자는 다시 추가하지 않는다. 그 사이 방이 제거되었으면 적재하지 않는다.
+     */
+    void load(String roomId, Collection<String> userIds) {
+        lock.writeLock().lock();
+        try {
+            PendingLoad pending = finishLoad(roomId);
+            if (pending != null && pending.roomRemoved) {
+                return;
+            }
+            for (String userId : userIds) {
+                if (pending == null || !pending.removed.contains(userId)) {
+                    link(roomId, userId);
+                }
+            }
+            loadedRooms.add(roomId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 방이 없거나 조회에 실패해 적재하지 않을 때 beginLoad를 정리한다.
+     */
+    void abortLoad(String roomId) {
+        lock.writeLock().lock();
+        try {
+            finishLoad(roomId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void add(String roomId, String userId) {
+        lock.writeLock().lock();
+        try {
+            PendingLoad pending = pendingLoads.get(roomId);
+            if (pending != null) {
+                pending.removed.remove(userId);
+            }
+            link(roomId, userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(String roomId, String userId) {
+        lock.writeLock().lock();
+        try {
+            PendingLoad pending = pendingLoads.get(roomId);
+            if (pending != null) {
+                pending.removed.add(userId);
+            }
+            Integer user = ids.get(userId);
+            IntHashSet members = membersByRoom.get(roomId);
+            if (user == null || members == null || !members.remove(user)) {
+                return;
+            }
+            release(user);
+            if (members.isEmpty()) {
+                membersByRoom.remove(roomId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeRoom(String roomId) {
+        lock.writeLock().lock();
+        try {
+            PendingLoad pending = pendingLoads.get(roomId);
+            if (pending != null) {
+                pending.roomRemoved = true;
+            }
+            loadedRooms.remove(roomId);
+            IntHashSet members = membersByRoom.remove(roomId);
+            if (members != null) {
+                members.forEach(this::release);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int internedCount() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private PendingLoad finishLoad(String roomId) {
+        PendingLoad pending = pendingLoads.get(roomId);
+        if (pending != null && --pending.loaders == 0) {
+            pendingLoads.remove(roomId);
+        }
+        return pending;
+    }
+
+    private void link(String roomId, String userId) {
+        int user = intern(userId);
+        if (membersByRoom.computeIfAbsent(roomId, key -> new IntHashSet()).add(user)) {
+            refCounts[user]++;
+        }
+    }
+
+    private int intern(String id) {
+        Integer existing = ids.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        Integer reused = freeIds.poll();
+        int next;
+        if (reused != null) {
+            next = reused;
+            names.set(next, id);
+        } else {
+            next = names.size();
+            names.add(id);
+            if (next == refCounts.length) {
+                refCounts = Arrays.copyOf(refCounts, next * 2);
+            }
+        }
+        ids.put(id, next);
+        return next;
+    }
+
+    private void release(int user) {
+        if (--refCounts[user] > 0) {
+            return;
+        }
+        refCounts[user] = 0;
+        ids.remove(names.get(user));
+        names.set(user, null);
+        freeIds.push(user);
+    }
+
+    private static final class PendingLoad {
+        private int loaders;
+        private boolean roomRemoved;
+        private final Set<String> removed = new HashSet<>();
+    }
+}
@@ -0,0 +1,165 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomArchivedEvent;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl.ArchivedBatch;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 빈 방/휴면 방 정리 작업
+ * 참가자가 없는 채 유예 시간이 지난 방과 장기간 활동이 없는 방을 rooms_archive로 옮기고,
+ * 해당 방의 메시지를 제한된 크기의 배치로 messages_archive에 이관한다.
+ * 한 번에 하나의 노드만 실행하며, 실행당 방 개수와 배치 간 대기로 DB 부하를 제한한다.
+ * 배치 간 대기가 다른 주기 작업을 막지 않도록 스케줄러 풀은 여러 스레드로 설정한다. (spring.task.scheduling.pool.size)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "room.reclaim.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomReclaimer {
+
+    private static final String LOCK_KEY = "room:reclaim:lock";
+
+    private final RoomRepository roomRepository;
+    private final MessageRepositoryCustomImpl messageRepositoryCustom;
+    private final RoomListResponseCache roomListResponseCache;
+    private final RoomAccessGrants roomAccessGrants;
+    private final RedissonClient redissonClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter reclaimedRooms;
+    private final Counter reclaimedMessages;
+    private final Counter reclaimedBytes;
+
+    @Value("${room.reclaim.empty-grace:PT1H}")
+    private Duration emptyGrace;
+
+    @Value("${room.reclaim.dormant-after:P90D}")
+    private Duration dormantAfter;
+
+    @Value("${room.reclaim.max-rooms-per-run:200}")
+    private int maxRoomsPerRun;
+
+    @Value("${room.reclaim.message-batch-size:500}")
+    private int messageBatchSize;
+
+    @Value("${room.reclaim.batch-pause-ms:100}")
+    private long batchPauseMillis;
+
+    public RoomReclaimer(
+            RoomRepository roomRepository,
+            MessageRepositoryCustomImpl messageRepositoryCustom,
+            RoomListResponseCache roomListResponseCache,
+            RoomAccessGrants roomAccessGrants,
+            RedissonClient redissonClient,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry) {
+        this.roomRepository = roomRepository;
+        this.messageRepositoryCustom = messageRepositoryCustom;
+        this.roomListResponseCache = roomListResponseCache;
+        this.roomAccessGrants = roomAccessGrants;
+        this.redissonClient = redissonClient;
+        this.eventPublisher = eventPublisher;
+        this.reclaimedRooms = counter("chat.rooms.reclaimed", meterRegistry);
+        this.reclaimedMessages = counter("chat.rooms.reclaimed.messages", meterRegistry);
+        this.reclaimedBytes = counter("chat.rooms.reclaimed.bytes", meterRegistry);
+    }
+
+    @Scheduled(
+            initialDelayString = "${room.reclaim.initial-delay-ms:60000}",
+            fixedDelayString = "${room.reclaim.interval-ms:600000}")
+    public void reclaim() {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+        // 다른 노드가 실행 중이면 이번 주기는 건너뛴다 (락은 watchdog으로 실행 동안 연장)
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            int reclaimed = run();
+            if (reclaimed > 0) {
+                roomListResponseCache.invalidate();
+                log.info("방 정리 완료: {}개 보관 처리", reclaimed);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("방 정리 작업 실패", e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    int run() throws InterruptedException {
+        int budget = maxRoomsPerRun;
+
+        // 이전 실행에서 방만 옮겨지고 메시지 이관이 끝나지 않은 건을 먼저 마무리
+        for (String roomId : roomRepository.findPendingArchivedRoomIds(budget)) {
+            budget--;
+            // 원본 삭제 전에 중단된 보관본은 버리고, 방은 다시 후보 조건으로 판단한다
+            if (roomRepository.existsById(roomId)) {
+                roomRepository.discardArchivedRoom(roomId);
+                continue;
+            }
+            archiveMessages(roomId);
+        }
+        if (budget <= 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime emptyBefore = now.minus(emptyGrace);
+        LocalDateTime dormantBefore = now.minus(dormantAfter);
+
+        int reclaimed = 0;
+        List<String> candidates = roomRepository.findReclaimableRoomIds(emptyBefore, dormantBefore, budget);
+        for (String roomId : candidates) {
+            // 조회 이후 참가자가 들어온 방은 조건부 삭제에서 제외된다
+            OptionalLong roomBytes = roomRepository.archiveRoomIfReclaimable(roomId, emptyBefore, dormantBefore);
+            if (roomBytes.isEmpty()) {
+                continue;
+            }
+            reclaimed++;
+            roomAccessGrants.revokeRoom(roomId);
+            // 휴면 방에 남아 있던 참가자의 방 목록과 입장 상태를 정리하도록 알린다
+            eventPublisher.publishEvent(new RoomArchivedEvent(this, roomId));
+            reclaimedRooms.increment();
+            reclaimedBytes.increment(roomBytes.getAsLong());
+            archiveMessages(roomId);
+        }
+        return reclaimed;
+    }
+
+    private void archiveMessages(String roomId) throws InterruptedException {
+        ArchivedBatch batch;
+        do {
+            batch = messageRepositoryCustom.archiveMessageBatch(roomId, messageBatchSize);
+            if (batch.count() > 0) {
+                reclaimedMessages.increment(batch.count());
+                reclaimedBytes.increment(batch.bytes());
+                Thread.sleep(batchPauseMillis);
+            }
+        } while (batch.count() == messageBatchSize);
+
+        roomRepository.markMessagesArchived(roomId);
+    }
+
+    private static Counter counter(String name, MeterRegistry meterRegistry) {
+        return Counter.builder(name)
+                .description("Rooms and messages moved to archive collections")
+                .register(meterRegistry);
+    }
+}
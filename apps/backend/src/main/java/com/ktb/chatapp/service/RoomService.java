@@ -1,23 +1,31 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.dto.*;
+import com.ktb.chatapp.event.ParticipantsChangedEvent;
 import com.ktb.chatapp.event.RoomCreatedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.exception.PasswordMismatchException;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.security.AuthenticatedUser;
+import com.ktb.chatapp.util.NGramTokenizer;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,12 +38,17 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final RoomActivityCounter roomActivityCounter;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomCountCache roomCountCache;
+    private final RoomAccessGrants roomAccessGrants;
 
-    public RoomsResponse getAllRoomsWithPagination(
-            com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
+    /**
+     * 방 목록 페이지 조회
+     * 응답은 사용자 간에 공유 캐시되므로 호출자에 따라 달라지는 값(isCreator)을 채우지 않는다.
+     */
+    public RoomsResponse getAllRoomsWithPagination(com.ktb.chatapp.dto.PageRequest pageRequest) {
 
         try {
             // 정렬 설정 검증
@@ -51,45 +64,38 @@ public class RoomService {
                 ? Sort.Direction.DESC
                 : Sort.Direction.ASC;
 
-            // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
             String sortField = pageRequest.getSortField();
-            if ("participantsCount".equals(sortField)) {
-                sortField = "participantIds"; // MongoDB 필드명으로 변경
-            }
-
-            // Pageable 객체 생성
-            PageRequest springPageRequest = PageRequest.of(
-                pageRequest.getPage(),
-                pageRequest.getPageSize(),
-                Sort.by(direction, sortField)
-            );
-
-            // 검색어가 있는 경우와 없는 경우 분리
-            Page<Room> roomPage;
-            if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
-                roomPage = roomRepository.findByNameContainingIgnoreCase(
-                    pageRequest.getSearch().trim(), springPageRequest);
+            String search = pageRequest.getSearch() != null ? pageRequest.getSearch().trim() : "";
+
+            // 검색, 키셋 미지원 정렬, 커서 없는 깊은 페이지는 오프셋 방식으로 처리
+            RoomSlice slice;
+            if (!search.isEmpty()) {
+                slice = searchRooms(search, pageRequest, direction);
+            } else if (isKeysetSortable(sortField)
+                    && (pageRequest.getCursor() != null || pageRequest.getPage() == 0)) {
+                slice = findRoomsByKeyset(pageRequest, direction);
             } else {
-                roomPage = roomRepository.findAll(springPageRequest);
+                slice = findRoomsByOffset(pageRequest, direction);
             }
 
-            // Room을 RoomResponse로 변환
-            List<RoomResponse> roomResponses = roomPage.getContent().stream()
-                .map(room -> mapToRoomResponse(room, name))
-                .collect(Collectors.toList());
+            // Room을 RoomResponse로 변환 (방 문서의 요약 정보 사용)
+            List<RoomResponse> roomResponses = toRoomResponses(slice.rooms(), null);
 
-            // 메타데이터 생성
+            // 메타데이터 생성 (검색이 아니면 캐시된 추정치 사용)
+            long total = slice.total() >= 0 ? slice.total() : roomCountCache.getApproximateTotal();
             PageMetadata metadata = PageMetadata.builder()
-                .total(roomPage.getTotalElements())
+                .total(total)
                 .page(pageRequest.getPage())
                 .pageSize(pageRequest.getPageSize())
-                .totalPages(roomPage.getTotalPages())
-                .hasMore(roomPage.hasNext())
+                .totalPages((total + pageRequest.getPageSize() - 1) / pageRequest.getPageSize())
+                .hasMore(slice.hasMore())
                 .currentCount(roomResponses.size())
                 .sort(PageMetadata.SortInfo.builder()
                     .field(pageRequest.getSortField())
                     .order(pageRequest.getSortOrder())
                     .build())
+                .nextCursor(slice.nextCursor())
+                .totalApproximate(slice.total() < 0)
                 .build();
 
             return RoomsResponse.builder()
@@ -107,6 +113,63 @@ public class RoomService {
         }
     }
 
+    private boolean isKeysetSortable(String sortField) {
+        return "createdAt".equals(sortField)
+            || "name".equals(sortField)
+            || "participantsCount".equals(sortField);
+    }
+
+    private RoomSlice searchRooms(
+            String search, com.ktb.chatapp.dto.PageRequest pageRequest, Sort.Direction direction) {
+        Page<Room> page = roomRepository.searchByName(search, PageRequest.of(
+            pageRequest.getPage(), pageRequest.getPageSize(), Sort.by(direction, toMongoSortField(pageRequest.getSortField()))));
+        return new RoomSlice(page.getContent(), page.hasNext(), null, page.getTotalElements());
+    }
+
+    private RoomSlice findRoomsByOffset(com.ktb.chatapp.dto.PageRequest pageRequest, Sort.Direction direction) {
+        Slice<Room> slice = roomRepository.findAllBy(PageRequest.of(
+            pageRequest.getPage(), pageRequest.getPageSize(), Sort.by(direction, toMongoSortField(pageRequest.getSortField()))));
+        return new RoomSlice(slice.getContent(), slice.hasNext(), null, -1);
+    }
+
+    private RoomSlice findRoomsByKeyset(com.ktb.chatapp.dto.PageRequest pageRequest, Sort.Direction direction) {
+        String sortField = pageRequest.getSortField();
+        String sortOrder = pageRequest.getSortOrder();
+        int pageSize = pageRequest.getPageSize();
+
+        // 정렬이 바뀐 커서는 무시하고 첫 페이지부터 조회
+        Optional<RoomListCursor> cursor = RoomListCursor.decode(pageRequest.getCursor())
+            .filter(c -> c.matches(sortField, sortOrder));
+        Object lastValue = cursor.map(RoomListCursor::sortValue).orElse(null);
+        String lastId = cursor.map(RoomListCursor::lastId).orElse(null);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부 확인
+        List<Room> rooms = roomRepository.findRoomsAfter(
+            toMongoSortField(sortField), direction, lastValue, lastId, pageSize + 1);
+        boolean hasMore = rooms.size() > pageSize;
+        if (hasMore) {
+            rooms = rooms.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            Room last = rooms.get(rooms.size() - 1);
+            nextCursor = RoomListCursor.after(sortField, sortOrder, last).encode();
+        }
+        return new RoomSlice(rooms, hasMore, nextCursor, -1);
+    }
+
+    private String toMongoSortField(String sortField) {
+        // participantsCount는 비정규화된 participantCount 필드로 정렬 (인덱스 사용)
+        return "participantsCount".equals(sortField) ? "participantCount" : sortField;
+    }
+
+    /**
+     * 방 목록 한 페이지 조회 결과 (total이 음수면 캐시된 추정치를 사용)
+     */
+    private record RoomSlice(List<Room> rooms, boolean hasMore, String nextCursor, long total) {
+    }
+
     public HealthResponse getHealthStatus() {
         try {
             long startTime = System.currentTimeMillis();
@@ -153,14 +216,23 @@ public class RoomService {
         }
     }
 
-    public Room createRoom(CreateRoomRequest createRoomRequest, String name) {
-        User creator = userRepository.findByEmail(name)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + name));
+    /**
+     * 채팅방 생성
+     * 호출자 ID는 인증 클레임을 사용하고, 사용자 문서는 방에 저장할 생성자 요약(이름, 프로필 이미지)용으로만 조회한다.
+     */
+    public Room createRoom(CreateRoomRequest createRoomRequest, AuthenticatedUser caller) {
+        User creator = userRepository.findById(caller.userId())
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + caller.userId()));
 
         Room room = new Room();
         room.setName(createRoomRequest.getName().trim());
+        room.setNameGrams(NGramTokenizer.indexGrams(room.getName()));
+        room.setNameKey(NGramTokenizer.normalize(room.getName()));
         room.setCreator(creator.getId());
-        room.getParticipantIds().add(creator.getId());
+        room.addParticipant(creator.getId());
+        room.setLastActivityAt(LocalDateTime.now());
+        room.setCreatorSummary(Room.MemberSummary.from(creator));
+        room.getParticipantSummaries().add(Room.MemberSummary.from(creator));
 
         if (createRoomRequest.getPassword() != null && !createRoomRequest.getPassword().isEmpty()) {
             room.setHasPassword(true);
@@ -171,7 +243,7 @@ public class RoomService {
         
         // Publish event for room created
         try {
-            RoomResponse roomResponse = mapToRoomResponse(savedRoom, name);
+            RoomResponse roomResponse = toRoomResponse(savedRoom, caller.userId());
             eventPublisher.publishEvent(new RoomCreatedEvent(this, roomResponse));
         } catch (Exception e) {
             log.error("roomCreated 이벤트 발행 실패", e);
@@ -184,33 +256,37 @@ public class RoomService {
         return roomRepository.findById(roomId);
     }
 
-    public Room joinRoom(String roomId, String password, String name) {
+    /**
+     * 채팅방 참여
+     * 이미 참가자인 경우(재입장) 사용자 문서를 조회하지 않으며,
+     * 새로 참여할 때만 방에 저장할 참가자 요약용으로 조회한다.
+     */
+    public Room joinRoom(String roomId, String password, AuthenticatedUser caller) {
         Optional<Room> roomOpt = roomRepository.findById(roomId);
         if (roomOpt.isEmpty()) {
             return null;
         }
 
         Room room = roomOpt.get();
-        User user = userRepository.findByEmail(name)
-            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + name));
+        String userId = caller.userId();
+        boolean participant = room.getParticipantIds().contains(userId);
 
-        // 비밀번호 확인
-        if (room.isHasPassword()) {
+        // 비밀번호 확인 (이미 참가자이거나 검증된 사용자는 BCrypt 비교 생략)
+        boolean verified = participant || roomAccessGrants.isGranted(roomId, userId);
+        if (room.isHasPassword() && !verified) {
             if (password == null || !passwordEncoder.matches(password, room.getPassword())) {
-                throw new RuntimeException("비밀번호가 일치하지 않습니다.");
+                throw new PasswordMismatchException("비밀번호가 일치하지 않습니다.");
             }
         }
 
-        // 이미 참여중인지 확인
-        if (!room.getParticipantIds().contains(user.getId())) {
-            // 채팅방 참여
-            room.getParticipantIds().add(user.getId());
-            room = roomRepository.save(room);
+        roomAccessGrants.grant(roomId, userId);
+        if (!participant) {
+            addParticipant(room, userId);
         }
         
         // Publish event for room updated
         try {
-            RoomResponse roomResponse = mapToRoomResponse(room, name);
+            RoomResponse roomResponse = toRoomResponse(room, caller.userId());
             eventPublisher.publishEvent(new RoomUpdatedEvent(this, roomId, roomResponse));
         } catch (Exception e) {
             log.error("roomUpdate 이벤트 발행 실패", e);
@@ -219,44 +295,90 @@ public class RoomService {
         return room;
     }
 
-    private RoomResponse mapToRoomResponse(Room room, String name) {
-        if (room == null) return null;
+    private void addParticipant(Room room, String userId) {
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+
+        // 채팅방 참여 ($addToSet 원자적 업데이트, 이미 참여중이면 변경 없음)
+        OptionalLong addedVersion = roomRepository.addParticipant(room.getId(), user);
+        if (addedVersion.isPresent()) {
+            room.addParticipant(user.getId());
+            room.getParticipantSummaries().add(Room.MemberSummary.from(user));
+            room.setParticipantsVersion(addedVersion.getAsLong());
+            eventPublisher.publishEvent(new ParticipantsChangedEvent(this,
+                    ParticipantsDeltaResponse.added(room.getId(), addedVersion.getAsLong(), UserResponse.from(user))));
+        }
+    }
 
-        User creator = null;
-        if (room.getCreator() != null) {
-            creator = userRepository.findById(room.getCreator()).orElse(null);
+    /**
+     * 방 목록 응답 변환
+     * 방 문서에 저장된 생성자/참가자 요약을 사용하고, 요약이 없는 이전 방만 사용자 정보를 배치 조회한다.
+     * 최근 10분간 메시지 수는 페이지의 모든 방에 대해 한 번의 집계로 조회한다.
+     */
+    public List<RoomResponse> toRoomResponses(List<Room> rooms, String callerId) {
+        if (rooms.isEmpty()) {
+            return List.of();
         }
 
-        List<User> participants = room.getParticipantIds().stream()
-            .map(userRepository::findById)
-            .filter(Optional::isPresent)
-            .map(Optional::get)
-            .toList();
+        Set<String> legacyUserIds = rooms.stream()
+            .filter(room -> !room.hasMemberSummaries())
+            .flatMap(room -> Stream.concat(
+                Stream.ofNullable(room.getCreator()),
+                room.getParticipantIds().stream()))
+            .collect(Collectors.toSet());
+        Map<String, Room.MemberSummary> legacyMembers = new HashMap<>();
+        if (!legacyUserIds.isEmpty()) {
+            userRepository.findByIdIn(legacyUserIds)
+                .forEach(user -> legacyMembers.put(user.getId(), Room.MemberSummary.from(user)));
+        }
 
-        // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        return rooms.stream()
+            .map(room -> buildRoomResponse(room, callerId, legacyMembers,
+                roomActivityCounter.getRecentCount(room.getId())))
+            .collect(Collectors.toList());
+    }
+
+    public RoomResponse toRoomResponse(Room room, String callerId) {
+        if (room == null) return null;
+        return toRoomResponses(List.of(room), callerId).getFirst();
+    }
+
+    private RoomResponse buildRoomResponse(
+            Room room, String callerId, Map<String, Room.MemberSummary> legacyMembers, int recentMessageCount) {
+        Room.MemberSummary creator;
+        List<Room.MemberSummary> participants;
+        if (room.hasMemberSummaries()) {
+            creator = room.getCreatorSummary();
+            participants = room.getParticipantSummaries();
+        } else {
+            creator = room.getCreator() != null ? legacyMembers.get(room.getCreator()) : null;
+            participants = room.getParticipantIds().stream()
+                .map(legacyMembers::get)
+                .filter(Objects::nonNull)
+                .toList();
+        }
 
         return RoomResponse.builder()
             .id(room.getId())
             .name(room.getName() != null ? room.getName() : "제목 없음")
             .hasPassword(room.isHasPassword())
-            .creator(creator != null ? UserResponse.builder()
-                .id(creator.getId())
-                .name(creator.getName() != null ? creator.getName() : "알 수 없음")
-                .email(creator.getEmail() != null ? creator.getEmail() : "")
-                .build() : null)
+            .creator(creator != null ? toUserResponse(creator) : null)
             .participants(participants.stream()
-                .filter(p -> p != null && p.getId() != null)
-                .map(p -> UserResponse.builder()
-                    .id(p.getId())
-                    .name(p.getName() != null ? p.getName() : "알 수 없음")
-                    .email(p.getEmail() != null ? p.getEmail() : "")
-                    .build())
+                .map(this::toUserResponse)
                 .collect(Collectors.toList()))
-            .createdAtDateTime(room.getCreatedAt())
-            .isCreator(creator != null && creator.getId().equals(name))
-            .recentMessageCount((int) recentMessageCount)
+            .createdAtDateTime(room.getCreatedAt() != null ? room.getCreatedAt() : LocalDateTime.now())
+            .creatorId(room.getCreator())
+            .isCreator(room.getCreator() != null && room.getCreator().equals(callerId))
+            .recentMessageCount(recentMessageCount)
+            .build();
+    }
+
+    private UserResponse toUserResponse(Room.MemberSummary member) {
+        return UserResponse.builder()
+            .id(member.getUserId())
+            .name(member.getName() != null ? member.getName() : "알 수 없음")
+            .email(member.getEmail() != null ? member.getEmail() : "")
+            .profileImage(member.getProfileImage() != null ? member.getProfileImage() : "")
             .build();
     }
 }
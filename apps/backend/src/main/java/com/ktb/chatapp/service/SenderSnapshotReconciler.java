@@ -0,0 +1,45 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메시지 발신자 스냅샷 갱신 서비스
+ * 프로필 변경 이벤트를 받아 최근 메시지의 스냅샷을 백그라운드로 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SenderSnapshotReconciler {
+
+    // 스냅샷을 갱신할 최근 메시지 범위
+    private static final Duration RECONCILE_WINDOW = Duration.ofDays(30);
+
+    private final MessageRepositoryCustomImpl messageRepositoryCustom;
+
+    @Async
+    @EventListener
+    public void handleUserProfileUpdated(UserProfileUpdatedEvent event) {
+        User user = event.getUser();
+        try {
+            long updated = messageRepositoryCustom.refreshSenderSnapshots(
+                    user.getId(),
+                    Message.SenderSnapshot.from(user),
+                    LocalDateTime.now().minus(RECONCILE_WINDOW)
+            );
+            log.info("발신자 스냅샷 갱신 완료: userId={}, version={}, updated={}",
+                    user.getId(), user.getProfileVersion(), updated);
+        } catch (Exception e) {
+            log.error("발신자 스냅샷 갱신 실패: userId={}", user.getId(), e);
+        }
+    }
+}
@@ -1,14 +1,12 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.session.SessionActivityTracker;
 import com.ktb.chatapp.service.session.SessionStore;
 import java.time.Instant;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
 import org.springframework.boot.convert.DurationStyle;
 import org.springframework.stereotype.Service;
 
@@ -20,10 +18,9 @@ import static com.ktb.chatapp.model.Session.SESSION_TTL;
 public class SessionService {
 
     private final SessionStore sessionStore;
-    private final RedissonClient redissonClient;
+    private final SessionActivityTracker activityTracker;
     public static final long SESSION_TTL_SEC = DurationStyle.detectAndParse(SESSION_TTL).getSeconds();
     private static final long SESSION_TIMEOUT = SESSION_TTL_SEC * 1000;
-    private static final long SESSION_UPDATE_INTERVAL_MS = 60000L;
 
     private String generateSessionId() {
         return UUID.randomUUID().toString().replace("-", "");
@@ -40,64 +37,58 @@ public class SessionService {
     }
 
     public SessionCreationResult createSession(String userId, SessionMetadata metadata) {
-        // 분산 락을 사용하여 멀티 서버 환경에서 동시 세션 생성 방지
-        String lockKey = "session:create:lock:" + userId;
-        RLock lock = redissonClient.getLock(lockKey);
-        boolean lockAcquired = false;
-
+        // 단일 세션 정책: 기존 세션 교체와 종료 알림을 하나의 원자적 연산으로 처리
+        Session session = newSession(userId, metadata);
         try {
-            // 최대 5초 대기, 10초 후 자동 해제
-            lockAcquired = lock.tryLock(5, 10, TimeUnit.SECONDS);
-            if (!lockAcquired) {
-                log.warn("Failed to acquire session creation lock for userId: {}", userId);
-                throw new RuntimeException("세션 생성 중입니다. 잠시 후 다시 시도해주세요.");
-            }
-
-            // Remove all existing user sessions
-            removeAllUserSessions(userId);
-
-            String sessionId = generateSessionId();
-            long now = Instant.now().toEpochMilli();
-
-            Session session = Session.builder()
-                    .userId(userId)
-                    .sessionId(sessionId)
-                    .createdAt(now)
-                    .lastActivity(now)
-                    .metadata(metadata)
-                    .expiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC))
-                    .build();
-
-            session = sessionStore.save(session);
-
-            SessionData sessionData = toSessionData(session);
-
-            log.info("Session created successfully for userId: {} with sessionId: {}", userId, sessionId);
-
-            return SessionCreationResult.builder()
-                    .sessionId(sessionId)
-                    .expiresIn(SESSION_TTL_SEC)
-                    .sessionData(sessionData)
-                    .build();
-
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Session creation interrupted for userId: {}", userId, e);
-            throw new RuntimeException("세션 생성이 중단되었습니다.", e);
+            sessionStore.replace(session, null, true);
         } catch (Exception e) {
             log.error("Session creation error for userId: {}", userId, e);
             throw new RuntimeException("세션 생성 중 오류가 발생했습니다.", e);
-        } finally {
-            // 락을 획득했고 현재 스레드가 보유 중일 때만 해제
-            if (lockAcquired && lock.isHeldByCurrentThread()) {
-                try {
-                    lock.unlock();
-                    log.debug("Session creation lock released for userId: {}", userId);
-                } catch (Exception e) {
-                    log.error("Failed to unlock session creation lock for userId: {}", userId, e);
-                }
+        }
+
+        log.info("Session created successfully for userId: {} with sessionId: {}", userId, session.getSessionId());
+        return toCreationResult(session);
+    }
+
+    /**
+     * 현재 세션이 currentSessionId일 때만 새 세션으로 교체한다. (토큰 갱신)
+     *
+     * @return 새 세션 정보, 현재 세션이 일치하지 않으면 null
+     */
+    public SessionCreationResult refreshSession(String userId, String currentSessionId, SessionMetadata metadata) {
+        Session session = newSession(userId, metadata);
+        try {
+            if (!sessionStore.replace(session, currentSessionId, false)) {
+                log.warn("Session refresh rejected for userId: {} - current session mismatch", userId);
+                return null;
             }
+        } catch (Exception e) {
+            log.error("Session refresh error for userId: {}", userId, e);
+            throw new RuntimeException("세션 갱신 중 오류가 발생했습니다.", e);
         }
+
+        log.info("Session refreshed for userId: {} with sessionId: {}", userId, session.getSessionId());
+        return toCreationResult(session);
+    }
+
+    private Session newSession(String userId, SessionMetadata metadata) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(userId)
+                .sessionId(generateSessionId())
+                .createdAt(now)
+                .lastActivity(now)
+                .metadata(metadata)
+                .expiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC))
+                .build();
+    }
+
+    private SessionCreationResult toCreationResult(Session session) {
+        return SessionCreationResult.builder()
+                .sessionId(session.getSessionId())
+                .expiresIn(SESSION_TTL_SEC)
+                .sessionData(toSessionData(session))
+                .build();
     }
 
     public SessionValidationResult validateSession(String userId, String sessionId) {
@@ -119,21 +110,18 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
             }
 
-            // Check if session has timed out
+            // Check if session has timed out (아직 반영되지 않은 활동 포함)
             long now = Instant.now().toEpochMilli();
+            applyPendingActivity(session);
             if (now - session.getLastActivity() > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
-            // Update DB after 1 min over form access
-            long lastUpdateDiff = now - session.getLastActivity();
-            if (lastUpdateDiff > SESSION_UPDATE_INTERVAL_MS) {
-                session.setLastActivity(now);
-                session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-                session = sessionStore.save(session);
-            }
+            // 활동 시각과 TTL은 SessionActivityTracker가 주기적으로 일괄 반영
+            activityTracker.record(userId);
+            applyPendingActivity(session);
 
             SessionData sessionData = toSessionData(session);
             return SessionValidationResult.valid(sessionData);
@@ -144,29 +132,22 @@ public class SessionService {
         }
     }
 
-    // FIXME: 과도한 업데이트 쿼리
+    /**
+     * 사용자 활동 기록. 메모리에만 기록되며 세션 저장소 반영은 SessionActivityTracker가 일괄 처리한다.
+     */
     public void updateLastActivity(String userId) {
-        try {
-            if (userId == null) {
-                log.warn("updateLastActivity called with null userId");
-                return;
-            }
-
-            Session session = sessionStore.findByUserId(userId).orElse(null);
-            if (session == null) {
-                log.debug("No session found to update last activity for user: {}", userId);
-                return;
-            }
+        if (userId == null) {
+            log.warn("updateLastActivity called with null userId");
+            return;
+        }
+        activityTracker.record(userId);
+    }
 
-            long now = Instant.now().toEpochMilli();
-            if(now - session.getLastActivity() > SESSION_UPDATE_INTERVAL_MS) {
-                session.setLastActivity(now);
-                session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-                sessionStore.save(session);
-            }
-            
-        } catch (Exception e) {
-            log.error("Failed to update session activity for user: {}", userId, e);
+    private void applyPendingActivity(Session session) {
+        long pending = activityTracker.pendingActivity(session.getUserId());
+        if (pending > session.getLastActivity()) {
+            session.setLastActivity(pending);
+            session.setExpiresAt(Instant.ofEpochMilli(pending).plusSeconds(SESSION_TTL_SEC));
         }
     }
 
@@ -204,6 +185,7 @@ public class SessionService {
                 return null;
             }
 
+            applyPendingActivity(session);
             return toSessionData(session);
         } catch (Exception e) {
             log.error("Get active session error for userId: {}", userId, e);
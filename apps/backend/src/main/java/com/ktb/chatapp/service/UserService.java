@@ -4,6 +4,7 @@ import com.ktb.chatapp.dto.ProfileImageRegisterRequest;
 import com.ktb.chatapp.dto.ProfileImageResponse;
 import com.ktb.chatapp.dto.UpdateProfileRequest;
 import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.event.UserProfileUpdatedEvent;
 import com.ktb.chatapp.exception.PasswordMismatchException;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.UserRepository;
@@ -11,6 +12,7 @@ import com.ktb.chatapp.util.FileUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -38,6 +40,7 @@ public class UserService {
     private final FileService fileService;
     private final PasswordEncoder passwordEncoder;
     private final MongoTemplate mongoTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.upload.dir:uploads}")
     private String uploadDir;
@@ -54,26 +57,27 @@ public class UserService {
 
     /**
      * 현재 사용자 프로필 조회
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      */
-    public UserResponse getCurrentUserProfile(String email) {
-        User user = userRepository.findByEmail(email.toLowerCase())
+    public UserResponse getCurrentUserProfile(String userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
         return UserResponse.from(user);
     }
 
     /**
      * 사용자 프로필 업데이트 (Partial Update - 최적화)
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      */
-    public UserResponse updateUserProfile(String email, UpdateProfileRequest request) {
-        // 쿼리 조건 생성 (이메일 기준)
-        Query query = new Query(Criteria.where("email").is(email.toLowerCase()));
+    public UserResponse updateUserProfile(String userId, UpdateProfileRequest request) {
+        // 쿼리 조건 생성 (_id 기준)
+        Query query = new Query(Criteria.where("id").is(userId));
 
         // 변경할 필드만 정의 ($set 사용)
         Update update = new Update()
                 .set("name", request.getName())
-                .set("updatedAt", LocalDateTime.now());
+                .set("updatedAt", LocalDateTime.now())
+                .inc("profileVersion", 1);
 
         // Partial Update 실행 (변경된 필드만 업데이트)
         // - UserEventListener를 타지 않아 불필요한 이메일 암호화가 발생하지 않음
@@ -89,20 +93,22 @@ public class UserService {
             throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
         }
 
-        log.info("사용자 프로필 업데이트 완료 (Partial Update) - Email: {}, Name: {}",
-                email, request.getName());
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(this, updatedUser));
+
+        log.info("사용자 프로필 업데이트 완료 (Partial Update) - User ID: {}, Name: {}",
+                userId, request.getName());
 
         return UserResponse.from(updatedUser);
     }
 
     /**
      * 프로필 이미지 업로드 (기존 방식 - 로컬 저장)
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      * @deprecated S3 직접 업로드를 사용하세요. {@link #registerProfileImage(String, ProfileImageRegisterRequest)}
      */
-    public ProfileImageResponse uploadProfileImage(String email, MultipartFile file) {
+    public ProfileImageResponse uploadProfileImage(String userId, MultipartFile file) {
         // 사용자 조회
-        User user = userRepository.findByEmail(email.toLowerCase())
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         // 파일 유효성 검증
@@ -117,9 +123,7 @@ public class UserService {
         String profileImageUrl = fileService.storeFile(file, "profiles");
 
         // 사용자 프로필 이미지 URL 업데이트
-        user.setProfileImage(profileImageUrl);
-        user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+        updateProfileImage(userId, profileImageUrl);
 
         log.info("프로필 이미지 업로드 완료 - User ID: {}, File: {}", user.getId(), profileImageUrl);
 
@@ -132,18 +136,12 @@ public class UserService {
 
     /**
      * 프로필 이미지 등록 (S3 key 기반)
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      * @param request S3 key 및 메타데이터
      */
-    public ProfileImageResponse registerProfileImage(String email, ProfileImageRegisterRequest request) {
-        // 사용자 조회
-        User user = userRepository.findByEmail(email.toLowerCase())
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
-
-        // S3 key를 DB에 저장
-        user.setProfileImage(request.getS3Key());
-        user.setUpdatedAt(LocalDateTime.now());
-        userRepository.save(user);
+    public ProfileImageResponse registerProfileImage(String userId, ProfileImageRegisterRequest request) {
+        // S3 key를 DB에 저장 (사용자가 없으면 UsernameNotFoundException)
+        User user = updateProfileImage(userId, request.getS3Key());
 
         log.info("프로필 이미지 등록 완료 - User ID: {}, S3 Key: {}", user.getId(), request.getS3Key());
 
@@ -157,6 +155,33 @@ public class UserService {
         );
     }
 
+    /**
+     * 프로필 이미지와 프로필 버전을 한 번의 원자적 갱신으로 바꾼다.
+     * 전체 문서 save는 동시에 진행된 이름 변경을 덮어쓰고, 읽은 버전 + 1은 동시 변경끼리 같은 버전을 만들어
+     * 발신자 스냅샷 갱신(version 비교)이 한쪽을 건너뛰므로 updateUserProfile과 같이 $inc를 사용한다.
+     */
+    private User updateProfileImage(String userId, String profileImage) {
+        Query query = new Query(Criteria.where("id").is(userId));
+        Update update = new Update()
+                .set("profileImage", profileImage)
+                .set("updatedAt", LocalDateTime.now())
+                .inc("profileVersion", 1);
+
+        User updatedUser = mongoTemplate.findAndModify(
+                query,
+                update,
+                FindAndModifyOptions.options().returnNew(true),
+                User.class
+        );
+
+        if (updatedUser == null) {
+            throw new UsernameNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(this, updatedUser));
+        return updatedUser;
+    }
+
     /**
      * 특정 사용자 프로필 조회
      */
@@ -221,27 +246,25 @@ public class UserService {
 
     /**
      * 프로필 이미지 삭제
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      */
-    public void deleteProfileImage(String email) {
-        User user = userRepository.findByEmail(email.toLowerCase())
+    public void deleteProfileImage(String userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         if (user.getProfileImage() != null && !user.getProfileImage().isEmpty()) {
             deleteOldProfileImage(user.getProfileImage());
-            user.setProfileImage("");
-            user.setUpdatedAt(LocalDateTime.now());
-            userRepository.save(user);
+            updateProfileImage(userId, "");
             log.info("프로필 이미지 삭제 완료 - User ID: {}", user.getId());
         }
     }
 
     /**
      * 회원 탈퇴 처리
-     * @param email 사용자 이메일
+     * @param userId 사용자 ID
      */
-    public void deleteUserAccount(String email) {
-        User user = userRepository.findByEmail(email.toLowerCase())
+    public void deleteUserAccount(String userId) {
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다."));
 
         if (user.getProfileImage() != null && !user.getProfileImage().isEmpty()) {
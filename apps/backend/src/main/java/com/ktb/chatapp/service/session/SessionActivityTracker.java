@@ -0,0 +1,74 @@
+package com.ktb.chatapp.service.session;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션 활동 시간 쓰기 병합기
+ * 요청/메시지마다 세션을 읽고 다시 쓰는 대신 사용자별 최신 활동 시각만 메모리에 기록하고,
+ * 주기마다 변경된 사용자만 모아 한 번의 파이프라인으로 활동 시각과 TTL을 갱신한다.
+ * 기록 경로에는 원격 I/O가 없다.
+ */
+@Slf4j
+@Component
+public class SessionActivityTracker {
+
+    private final SessionStore sessionStore;
+    private final LongSupplier clock;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SessionActivityTracker(SessionStore sessionStore) {
+        this(sessionStore, System::currentTimeMillis);
+    }
+
+    SessionActivityTracker(SessionStore sessionStore, LongSupplier clock) {
+        this.sessionStore = sessionStore;
+        this.clock = clock;
+    }
+
+    /**
+     * 사용자 활동 기록 (메모리만 갱신)
+     */
+    public void record(String userId) {
+        pending.merge(userId, clock.getAsLong(), Math::max);
+    }
+
+    /**
+     * 아직 반영되지 않은 최신 활동 시각, 없으면 0
+     */
+    public long pendingActivity(String userId) {
+        return pending.getOrDefault(userId, 0L);
+    }
+
+    @Scheduled(fixedDelayString = "${session.activity.flush-interval-ms:30000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> batch = new HashMap<>(pending);
+        try {
+            sessionStore.touch(batch);
+        } catch (Exception e) {
+            // 남겨둔 항목은 다음 주기에 다시 반영된다
+            log.warn("Failed to flush session activity for {} users", batch.size(), e);
+            return;
+        }
+        // 반영 도중 새로 기록된 활동은 지우지 않는다
+        batch.forEach(pending::remove);
+        log.debug("Flushed session activity for {} users", batch.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
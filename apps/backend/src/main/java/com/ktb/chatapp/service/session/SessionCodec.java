@@ -0,0 +1,86 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * 세션 값의 바이너리 인코딩
+ * userId는 키, sessionId는 sid 필드에 이미 있으므로 나머지 필드만 고정 순서로 기록한다.
+ * JSON 대비 필드 이름과 숫자 문자열이 빠져 세션당 저장 크기가 절반 이하로 줄어든다.
+ *
+ * 형식: version(1) createdAt(8) lastActivity(8) expiresAt(8, 없으면 -1) metadata 존재(1) [userAgent ipAddress deviceInfo]
+ * 문자열은 존재 여부(1) + modified UTF-8
+ */
+final class SessionCodec {
+
+    private static final byte VERSION = 1;
+    private static final long NO_EXPIRY = -1L;
+
+    private SessionCodec() {
+    }
+
+    static byte[] encode(Session session) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeLong(session.getCreatedAt());
+            out.writeLong(session.getLastActivity());
+            out.writeLong(session.getExpiresAt() != null ? session.getExpiresAt().toEpochMilli() : NO_EXPIRY);
+
+            SessionMetadata metadata = session.getMetadata();
+            out.writeBoolean(metadata != null);
+            if (metadata != null) {
+                writeNullable(out, metadata.userAgent());
+                writeNullable(out, metadata.ipAddress());
+                writeNullable(out, metadata.deviceInfo());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 직렬화 실패", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Session decode(String userId, String sessionId, byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("지원하지 않는 세션 형식: " + version);
+            }
+            long createdAt = in.readLong();
+            long lastActivity = in.readLong();
+            long expiresAt = in.readLong();
+            SessionMetadata metadata = in.readBoolean()
+                    ? new SessionMetadata(readNullable(in), readNullable(in), readNullable(in))
+                    : null;
+
+            return Session.builder()
+                    .userId(userId)
+                    .sessionId(sessionId)
+                    .createdAt(createdAt)
+                    .lastActivity(lastActivity)
+                    .expiresAt(expiresAt != NO_EXPIRY ? Instant.ofEpochMilli(expiresAt) : null)
+                    .metadata(metadata)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세션 역직렬화 실패", e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,233 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.CompositeCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 키 기반 SessionStore
+ * 사용자마다 하나의 해시(sid, data)를 두고 Redis 기본 만료(PEXPIRE)를 사용한다.
+ * data는 SessionCodec의 바이너리 값이며, RMapCache와 달리 만료 관리를 위한 보조 정렬 집합과
+ * 클라이언트 측 eviction 작업이 필요 없다.
+ * 세션 교체는 비교, 교체, TTL 설정, 종료 알림 발행을 하나의 Lua 스크립트로 처리해
+ * 분산 락 없이 한 번의 왕복으로 원자적으로 수행된다.
+ * 이전 배포가 RMapCache에 저장한 세션은 조회 시 이 저장소로 옮겨 배포 직후에도 기존 로그인이 유지된다.
+ * 이전 세션의 TTL(30분)이 지나면 옮길 항목이 남지 않으므로, 그 뒤에는
+ * session.legacy-migration.enabled=false로 조회 실패마다 생기는 추가 왕복을 끈다.
+ */
+@Component
+@Primary
+public class SessionRedisStore implements SessionStore {
+
+    /** 이전 배포의 RMapCache 세션 저장소 키 */
+    static final String LEGACY_SESSION_MAP_KEY = "user_sessions";
+
+    static final String KEY_PREFIX = "session:user:";
+    /** 교체된 세션 알림 채널 (메시지 형식: userId:sessionId) */
+    public static final String ENDED_CHANNEL = "chat:session-ended";
+    private static final long TTL_MILLIS = DurationStyle.detectAndParse(Session.SESSION_TTL).toMillis();
+    static final String SID_FIELD = "sid";
+    static final String DATA_FIELD = "data";
+    // 활동 시각은 바이너리 값을 다시 쓰지 않고 갱신할 수 있도록 별도 필드(epoch millis 문자열)에 둔다
+    static final String ACTIVITY_FIELD = "at";
+    // 해시 필드 이름은 문자열, 값은 바이트 배열(sid는 UTF-8)
+    static final CompositeCodec HASH_CODEC =
+            new CompositeCodec(StringCodec.INSTANCE, ByteArrayCodec.INSTANCE, ByteArrayCodec.INSTANCE);
+
+    // KEYS[1]=세션 키, ARGV: 기대 sid('' 이면 비교 생략), 새 sid, data, 활동 시각, ttl(ms), 알림 여부, 채널, userId
+    private static final String REPLACE_SCRIPT = """
+            local current = redis.call('HGET', KEYS[1], 'sid')
+            if ARGV[1] ~= '' and current ~= ARGV[1] then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'sid', ARGV[2], 'data', ARGV[3], 'at', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            if current and current ~= ARGV[2] and ARGV[6] == '1' then
+                redis.call('PUBLISH', ARGV[7], ARGV[8] .. ':' .. current)
+            end
+            return 1
+            """;
+
+    // KEYS[1]=세션 키, ARGV[1]=활동 시각, ARGV[2]=ttl(ms). 없는 세션은 다시 만들지 않는다
+    private static final String TOUCH_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            local at = tonumber(redis.call('HGET', KEYS[1], 'at') or '0')
+            if tonumber(ARGV[1]) > at then
+                redis.call('HSET', KEYS[1], 'at', ARGV[1])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """;
+
+    // KEYS[1]=세션 키, ARGV: sid, data, 활동 시각, ttl(ms). 그사이 새 로그인으로 세션이 생겼으면 덮어쓰지 않는다
+    private static final String MIGRATE_SCRIPT = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            redis.call('HSET', KEYS[1], 'sid', ARGV[1], 'data', ARGV[2], 'at', ARGV[3])
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            return 1
+            """;
+
+    // KEYS[1]=세션 키, ARGV[1]=삭제할 sid
+    private static final String DELETE_SCRIPT = """
+            if redis.call('HGET', KEYS[1], 'sid') == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """;
+
+    private final RedissonClient redissonClient;
+    private final boolean legacyMigration;
+
+    public SessionRedisStore(
+            RedissonClient redissonClient,
+            @Value("${session.legacy-migration.enabled:true}") boolean legacyMigration) {
+        this.redissonClient = redissonClient;
+        this.legacyMigration = legacyMigration;
+    }
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        Optional<Session> session = read(userId);
+        return session.isPresent() || !legacyMigration ? session : migrateLegacy(userId);
+    }
+
+    private Optional<Session> read(String userId) {
+        Map<String, byte[]> fields = redissonClient.<String, byte[]>getMap(key(userId), HASH_CODEC)
+                .getAll(Set.of(SID_FIELD, DATA_FIELD, ACTIVITY_FIELD));
+        byte[] sid = fields.get(SID_FIELD);
+        byte[] data = fields.get(DATA_FIELD);
+        if (sid == null || data == null) {
+            return Optional.empty();
+        }
+
+        Session session = SessionCodec.decode(userId, new String(sid, StandardCharsets.UTF_8), data);
+        byte[] activity = fields.get(ACTIVITY_FIELD);
+        if (activity != null) {
+            long lastActivity = Long.parseLong(new String(activity, StandardCharsets.UTF_8));
+            if (lastActivity > session.getLastActivity()) {
+                session.setLastActivity(lastActivity);
+                session.setExpiresAt(Instant.ofEpochMilli(lastActivity + TTL_MILLIS));
+            }
+        }
+        return Optional.of(session);
+    }
+
+    /**
+     * 이전 저장소(RMapCache)에 남은 세션을 옮긴다. 꺼낸 항목은 지우므로 사용자당 한 번만 옮겨진다.
+     */
+    private Optional<Session> migrateLegacy(String userId) {
+        RMapCache<String, Session> legacy = redissonClient.getMapCache(LEGACY_SESSION_MAP_KEY);
+        Session session = legacy.remove(userId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        long remaining = session.getLastActivity() + TTL_MILLIS - System.currentTimeMillis();
+        if (remaining > 0) {
+            script().eval(
+                    key(userId),
+                    RScript.Mode.READ_WRITE,
+                    MIGRATE_SCRIPT,
+                    RScript.ReturnType.BOOLEAN,
+                    List.<Object>of(key(userId)),
+                    utf8(session.getSessionId()),
+                    SessionCodec.encode(session),
+                    utf8(String.valueOf(session.getLastActivity())),
+                    utf8(String.valueOf(remaining)));
+        }
+        // 옮기는 사이 새 로그인이 있었다면 그 세션을 돌려준다
+        return read(userId);
+    }
+
+    @Override
+    public Session save(Session session) {
+        // 활동 시간 갱신용 저장이므로 그사이 다른 로그인으로 교체된 세션은 되살리지 않는다
+        replace(session, session.getSessionId(), false);
+        return session;
+    }
+
+    @Override
+    public boolean replace(Session session, String expectedSessionId, boolean notifyEnded) {
+        return script().eval(
+                key(session.getUserId()),
+                RScript.Mode.READ_WRITE,
+                REPLACE_SCRIPT,
+                RScript.ReturnType.BOOLEAN,
+                List.<Object>of(key(session.getUserId())),
+                utf8(expectedSessionId != null ? expectedSessionId : ""),
+                utf8(session.getSessionId()),
+                SessionCodec.encode(session),
+                utf8(String.valueOf(session.getLastActivity())),
+                utf8(String.valueOf(TTL_MILLIS)),
+                utf8(notifyEnded ? "1" : "0"),
+                utf8(ENDED_CHANNEL),
+                utf8(session.getUserId()));
+    }
+
+    @Override
+    public void touch(Map<String, Long> lastActivityByUser) {
+        RBatch batch = redissonClient.createBatch();
+        RScriptAsync script = batch.getScript(ByteArrayCodec.INSTANCE);
+        byte[] ttl = utf8(String.valueOf(TTL_MILLIS));
+        lastActivityByUser.forEach((userId, lastActivity) -> script.evalAsync(
+                key(userId),
+                RScript.Mode.READ_WRITE,
+                TOUCH_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key(userId)),
+                utf8(String.valueOf(lastActivity)),
+                ttl));
+        batch.execute();
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        script().eval(
+                key(userId),
+                RScript.Mode.READ_WRITE,
+                DELETE_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                List.<Object>of(key(userId)),
+                utf8(sessionId));
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        redissonClient.getKeys().delete(key(userId));
+        if (legacyMigration) {
+            redissonClient.getMapCache(LEGACY_SESSION_MAP_KEY).fastRemove(userId);
+        }
+    }
+
+    private RScript script() {
+        // 스크립트 인자에 바이너리 세션 값이 포함되므로 모든 인자를 바이트 배열로 전달
+        return redissonClient.getScript(ByteArrayCodec.INSTANCE);
+    }
+
+    private static byte[] utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
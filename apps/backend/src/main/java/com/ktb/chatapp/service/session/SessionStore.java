@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,6 +25,24 @@ public interface SessionStore {
      * @return the saved session
      */
     Session save(Session session);
+
+    /**
+     * Atomically replace the user's session and reset its TTL
+     *
+     * @param session           the new session
+     * @param expectedSessionId replace only if the current session has this ID (null to replace unconditionally)
+     * @param notifyEnded       publish an ended-session notification for the replaced session
+     * @return true if replaced, false if the current session did not match expectedSessionId
+     */
+    boolean replace(Session session, String expectedSessionId, boolean notifyEnded);
+
+    /**
+     * Record last activity and reset the TTL of existing sessions in one batch.
+     * Users without a session are skipped; sessions are never recreated.
+     *
+     * @param lastActivityByUser last activity timestamp (epoch millis) per user ID
+     */
+    void touch(Map<String, Long> lastActivityByUser);
     
     /**
      * Delete all sessions for a user
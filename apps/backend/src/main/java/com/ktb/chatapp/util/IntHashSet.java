@@ -0,0 +1,134 @@
+package com.ktb.chatapp.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * int 전용 해시 집합 (오픈 어드레싱, 선형 탐사).
+ * 원소를 박싱하지 않으므로 원소 하나당 4~8바이트만 사용한다.
+ * 0은 빈 슬롯 표시로 쓰이므로 원소로 저장할 수 없다. 스레드 안전하지 않다.
+ */
+public final class IntHashSet {
+
+    private static final int EMPTY = 0;
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private int[] slots;
+    private int size;
+
+    public IntHashSet() {
+        this(8);
+    }
+
+    public IntHashSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        slots = new int[capacity];
+    }
+
+    public boolean add(int value) {
+        checkValue(value);
+        int index = indexOf(value);
+        if (slots[index] == value) {
+            return false;
+        }
+        slots[index] = value;
+        if (++size > slots.length * LOAD_FACTOR) {
+            rehash(slots.length << 1);
+        }
+        return true;
+    }
+
+    public boolean contains(int value) {
+        return value != EMPTY && slots[indexOf(value)] == value;
+    }
+
+    public boolean remove(int value) {
+        if (value == EMPTY) {
+            return false;
+        }
+        int index = indexOf(value);
+        if (slots[index] != value) {
+            return false;
+        }
+        slots[index] = EMPTY;
+        size--;
+        shiftBack(index);
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void forEach(IntConsumer action) {
+        for (int value : slots) {
+            if (value != EMPTY) {
+                action.accept(value);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * value가 있는 슬롯, 없으면 value가 들어갈 빈 슬롯의 위치를 반환한다.
+     */
+    private int indexOf(int value) {
+        int mask = slots.length - 1;
+        int index = mix(value) & mask;
+        while (slots[index] != EMPTY && slots[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    /**
+     * 삭제된 슬롯 뒤의 탐사 체인을 당겨서 툼스톤 없이 탐색이 끊기지 않게 한다.
+     */
+    private void shiftBack(int removed) {
+        int mask = slots.length - 1;
+        int hole = removed;
+        int index = (hole + 1) & mask;
+        while (slots[index] != EMPTY) {
+            int home = mix(slots[index]) & mask;
+            // home이 (hole, index] 구간 밖이면 hole로 옮겨도 탐색 가능
+            boolean movable = hole <= index
+                    ? home <= hole || home > index
+                    : home <= hole && home > index;
+            if (movable) {
+                slots[hole] = slots[index];
+                slots[index] = EMPTY;
+                hole = index;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        for (int value : old) {
+            if (value != EMPTY) {
+                slots[indexOf(value)] = value;
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void checkValue(int value) {
+        if (value == EMPTY) {
+            throw new IllegalArgumentException("0 cannot be stored in IntHashSet");
+        }
+    }
+}
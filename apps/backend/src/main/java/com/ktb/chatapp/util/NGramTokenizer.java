@@ -0,0 +1,99 @@
+package com.ktb.chatapp.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 방 이름 검색용 n-gram 토크나이저.
+ * 한글 음절과 라틴 문자를 모두 코드 포인트 단위로 다루며,
+ * 저장 시에는 1-gram과 2-gram을, 검색 시에는 질의 길이에 맞는 gram만 사용한다.
+ */
+public final class NGramTokenizer {
+
+    // 이 개수 이하의 gram으로 이루어진 검색어는 모든 gram이 일치해야 한다
+    private static final int STRICT_QUERY_GRAMS = 3;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * NFKC 정규화 후 소문자로 바꾸고 공백과 구두점을 제거한다.
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        normalized.codePoints()
+                .filter(Character::isLetterOrDigit)
+                .forEach(builder::appendCodePoint);
+        return builder.toString();
+    }
+
+    /**
+     * 색인에 저장할 gram 목록 (1-gram + 2-gram, 중복 제거).
+     */
+    public static List<String> indexGrams(String text) {
+        int[] codePoints = normalize(text).codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        collect(codePoints, 1, grams);
+        collect(codePoints, 2, grams);
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 이름 일치 판정용 gram 집합. 여러 검색 조건에 대해 판정할 때는 한 번만 만들어 재사용한다.
+     */
+    public static Set<String> indexGramSet(String text) {
+        return new HashSet<>(indexGrams(text));
+    }
+
+    /**
+     * 검색어에서 매칭에 사용할 gram 목록.
+     * 두 글자 이상이면 2-gram만 사용해 1-gram의 낮은 선택도를 피한다.
+     */
+    public static List<String> queryGrams(String query) {
+        int[] codePoints = normalize(query).codePoints().toArray();
+        Set<String> grams = new LinkedHashSet<>();
+        collect(codePoints, codePoints.length >= 2 ? 2 : 1, grams);
+        return new ArrayList<>(grams);
+    }
+
+    /**
+     * 후보로 인정하는 최소 일치 gram 수.
+     * gram이 3개 이하인 짧은 검색어는 절반만 일치해도 무관한 방이 대량으로 걸리므로 모두 일치해야 하고,
+     * 그보다 긴 검색어는 오타를 허용하도록 절반 이상만 일치하면 된다.
+     */
+    public static int minMatches(List<String> queryGrams) {
+        if (queryGrams.size() <= STRICT_QUERY_GRAMS) {
+            return queryGrams.size();
+        }
+        return (queryGrams.size() + 1) / 2;
+    }
+
+    /**
+     * 이름이 검색어 gram과 검색 기준만큼 일치하는지 판단한다.
+     * DB 검색({@code nameGrams} 교집합 크기)과 같은 기준을 메모리에서 적용할 때 사용한다.
+     *
+     * @param nameGrams {@link #indexGramSet(String)}으로 만든 이름 gram 집합
+     */
+    public static boolean matches(List<String> queryGrams, Set<String> nameGrams) {
+        if (queryGrams.isEmpty()) {
+            return true;
+        }
+        long matched = queryGrams.stream().filter(nameGrams::contains).count();
+        return matched >= minMatches(queryGrams);
+    }
+
+    private static void collect(int[] codePoints, int size, Set<String> grams) {
+        for (int start = 0; start + size <= codePoints.length; start++) {
+            grams.add(new String(codePoints, start, size));
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.AckRequest;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnConnect;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Socket.IO 핸들러 등록기
+ * SpringAnnotationScanner 대신 @OnEvent/@OnConnect/@OnDisconnect 메서드를 등록한다.
+ * @OnEvent 핸들러는 SocketAuthGate.dispatch로 감싸 등록하므로, 핸드셰이크 인증이 끝나기 전에
+ * 도착한 이벤트는 핸들러마다 따로 처리하지 않아도 보관되었다가 순서대로 처리된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AuthGatedAnnotationScanner implements BeanPostProcessor {
+
+    private final SocketIOServer socketIOServer;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        Class<?> beanClass = ClassUtils.getUserClass(bean);
+        ReflectionUtils.doWithMethods(beanClass, method -> register(bean, method), method ->
+                method.isAnnotationPresent(OnEvent.class)
+                        || method.isAnnotationPresent(OnConnect.class)
+                        || method.isAnnotationPresent(OnDisconnect.class));
+        return bean;
+    }
+
+    private void register(Object bean, Method method) {
+        ReflectionUtils.makeAccessible(method);
+        OnEvent onEvent = method.getAnnotation(OnEvent.class);
+        if (onEvent != null) {
+            socketIOServer.addEventListener(onEvent.value(), dataType(method), (client, data, ackRequest) ->
+                    SocketAuthGate.dispatch(client, () -> invoke(bean, method, client, data, ackRequest)));
+            log.debug("Socket.IO event handler registered: {} -> {}.{}",
+                    onEvent.value(), method.getDeclaringClass().getSimpleName(), method.getName());
+        }
+        if (method.isAnnotationPresent(OnConnect.class)) {
+            socketIOServer.addConnectListener(client -> invoke(bean, method, client, null, null));
+        }
+        if (method.isAnnotationPresent(OnDisconnect.class)) {
+            socketIOServer.addDisconnectListener(client -> invoke(bean, method, client, null, null));
+        }
+    }
+
+    /**
+     * SocketIOClient와 AckRequest가 아닌 첫 파라미터가 이벤트 데이터 타입이다. 없으면 데이터를 무시한다.
+     */
+    @SuppressWarnings("unchecked")
+    static Class<Object> dataType(Method method) {
+        for (Class<?> type : method.getParameterTypes()) {
+            if (!SocketIOClient.class.isAssignableFrom(type) && !AckRequest.class.isAssignableFrom(type)) {
+                return (Class<Object>) type;
+            }
+        }
+        return Object.class;
+    }
+
+    private static void invoke(Object bean, Method method, SocketIOClient client, Object data, AckRequest ackRequest) {
+        Class<?>[] types = method.getParameterTypes();
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (SocketIOClient.class.isAssignableFrom(types[i])) {
+                args[i] = client;
+            } else if (AckRequest.class.isAssignableFrom(types[i])) {
+                args[i] = ackRequest;
+            } else {
+                args[i] = data;
+            }
+        }
+        ReflectionUtils.invokeMethod(method, bean, args);
+    }
+}
@@ -9,6 +9,7 @@ import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.websocket.socketio.handler.ConnectionLoginHandler;
+import io.netty.util.concurrent.EventExecutorGroup;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,9 +18,17 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Component;
 
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ERROR;
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.SESSION_ENDED;
+
 /**
  * Socket.IO Authorization Handler
  * socket.handshake.auth.token과 sessionId를 처리한다.
+ * Netty 이벤트 루프에서는 토큰 파싱과 JWT 검증(메모리 캐시)만 수행하고,
+ * 세션 검증과 사용자 조회, 연결 완료 처리는 socketAuthExecutor에서 비동기로 수행한다.
+ * 인증이 끝나기 전에 도착한 이벤트는 SocketAuthGate에 보관된다.
+ * 토큰 누락/검증 실패처럼 바로 판단할 수 있는 거절은 connect_error로 돌려주고,
+ * 연결 후 세션 검증에 실패하면 session_ended를 보내 클라이언트가 다시 로그인하게 한다.
  */
 @Slf4j
 @Component
@@ -31,6 +40,7 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
     private final SessionService sessionService;
     private final UserRepository userRepository;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
+    private final EventExecutorGroup socketAuthExecutor;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
@@ -52,30 +62,68 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
                 return new AuthTokenResult(false, Map.of("message", "Invalid token"));
             }
 
-            // Validate session using SessionService
+            HistoryFormat.parse(authToken.get("historyFormat")).applyTo(client);
+            SocketAuthGate.hold(client);
+            socketAuthExecutor.submit(() -> authenticate(client, userId, sessionId));
+            return AuthTokenResult.AuthTokenResultSuccess;
+        } catch (Exception e) {
+            log.error("Socket.IO authentication error: {}", e.getMessage(), e);
+            return new AuthTokenResult(false, Map.of("message", e.getMessage()));
+        }
+    }
+
+    /**
+     * 세션 검증과 사용자 조회 후 연결을 완료한다. 실패하면 오류를 알리고 연결을 끊는다.
+     */
+    private void authenticate(SocketIOClient client, String userId, String sessionId) {
+        try {
             SessionValidationResult validationResult =
                     sessionService.validateSession(userId, sessionId);
-
             if (!validationResult.isValid()) {
                 log.error("Session validation failed: {}", validationResult.getMessage());
-                return new AuthTokenResult(false, Map.of("message", "Invalid session"));
+                SocketAuthGate.reject(client);
+                client.sendEvent(SESSION_ENDED, Map.of(
+                        "reason", "invalid_session",
+                        "message", "세션이 만료되었습니다. 다시 로그인해주세요."
+                ));
+                client.disconnect();
+                return;
             }
 
-            // Load user from database
             User user = userRepository.findById(userId).orElse(null);
             if (user == null) {
                 log.error("User not found: {}", userId);
-                return new AuthTokenResult(false, Map.of("message", "User not found"));
+                reject(client, "User not found");
+                return;
+            }
+
+            if (!client.isChannelOpen()) {
+                SocketAuthGate.reject(client);
+                return;
             }
 
             log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
-            
-            var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
-            socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
-            return AuthTokenResult.AuthTokenResultSuccess;
+
+            var socketUser = SocketUser.of(user, sessionId, client.getSessionId().toString());
+            ConnectionLoginHandler connectionLoginHandler = socketIOChatHandlerProvider.getObject();
+            connectionLoginHandler.onConnect(client, socketUser);
+
+            // 인증 도중 연결이 끊긴 경우 onDisconnect가 이미 지나갔으므로 직접 정리
+            if (!client.isChannelOpen()) {
+                SocketAuthGate.reject(client);
+                connectionLoginHandler.onDisconnect(client);
+                return;
+            }
+            SocketAuthGate.open(client);
         } catch (Exception e) {
             log.error("Socket.IO authentication error: {}", e.getMessage(), e);
-            return new AuthTokenResult(false, Map.of("message", e.getMessage()));
+            reject(client, "Authentication error");
         }
     }
+
+    private void reject(SocketIOClient client, String message) {
+        SocketAuthGate.reject(client);
+        client.sendEvent(ERROR, Map.of("message", message));
+        client.disconnect();
+    }
 }
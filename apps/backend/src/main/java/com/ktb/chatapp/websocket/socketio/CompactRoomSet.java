@@ -0,0 +1,86 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 사용자별 참여 방 ID 불변 집합
+ * 정렬된 String 배열 하나로 구성되어 HashSet(HashMap, 테이블, 항목별 Node) 대비 항목당 참조 하나만 사용한다.
+ * 조회는 이진 탐색이며, 변경은 새 배열을 만드는 방식이라 조회 측은 복사 없이 그대로 공유할 수 있다.
+ * 방 ID는 intern하여 같은 방에 참여한 사용자들이 같은 문자열 인스턴스를 공유한다.
+ */
+public final class CompactRoomSet extends AbstractSet<String> {
+
+    public static final CompactRoomSet EMPTY = new CompactRoomSet(new String[0]);
+
+    private final String[] roomIds;
+
+    private CompactRoomSet(String[] roomIds) {
+        this.roomIds = roomIds;
+    }
+
+    /**
+     * roomId를 추가한 집합. 이미 있으면 자기 자신을 반환한다.
+     */
+    public CompactRoomSet with(String roomId) {
+        int index = Arrays.binarySearch(roomIds, roomId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        String[] next = new String[roomIds.length + 1];
+        System.arraycopy(roomIds, 0, next, 0, insertAt);
+        next[insertAt] = roomId.intern();
+        System.arraycopy(roomIds, insertAt, next, insertAt + 1, roomIds.length - insertAt);
+        return new CompactRoomSet(next);
+    }
+
+    /**
+     * roomId를 제거한 집합. 없으면 자기 자신을 반환한다.
+     */
+    public CompactRoomSet without(String roomId) {
+        int index = Arrays.binarySearch(roomIds, roomId);
+        if (index < 0) {
+            return this;
+        }
+        if (roomIds.length == 1) {
+            return EMPTY;
+        }
+        String[] next = new String[roomIds.length - 1];
+        System.arraycopy(roomIds, 0, next, 0, index);
+        System.arraycopy(roomIds, index + 1, next, index, roomIds.length - index - 1);
+        return new CompactRoomSet(next);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof String roomId && Arrays.binarySearch(roomIds, roomId) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return roomIds.length;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < roomIds.length;
+            }
+
+            @Override
+            public String next() {
+                if (next >= roomIds.length) {
+                    throw new NoSuchElementException();
+                }
+                return roomIds[next++];
+            }
+        };
+    }
+}
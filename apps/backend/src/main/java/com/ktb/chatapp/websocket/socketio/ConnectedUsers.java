@@ -1,35 +1,39 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import lombok.RequiredArgsConstructor;
+import java.util.function.UnaryOperator;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+/**
+ * 사용자별 현재 활성 연결, 단일 노드 인메모리
+ * 사용자 ID를 12바이트 값으로 저장하여 키 문자열을 만들지 않는다.
+ */
 @Component
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
-@RequiredArgsConstructor
 public class ConnectedUsers {
     
-    private static final String USER_SOCKET_KEY_PREFIX = "conn_users:userid:";
-    
-    private final ChatDataStore chatDataStore;
+    private final ObjectIdMap<SocketUser> users = new ObjectIdMap<>();
     
     public SocketUser get(String userId) {
-        return chatDataStore.get(buildKey(userId), SocketUser.class).orElse(null);
+        return users.get(userId);
     }
     
     public void set(String userId, SocketUser sockerUser) {
-        chatDataStore.set(buildKey(userId), sockerUser);
+        users.put(userId, sockerUser);
     }
     
+    /**
+     * 현재 연결이 있을 때만 원자적으로 바꾼다 (그사이 연결이 끊겼으면 되살리지 않음).
+     */
+    public void update(String userId, UnaryOperator<SocketUser> remapping) {
+        users.update(userId, current -> current != null ? remapping.apply(current) : null);
+    }
+
     public void del(String userId) {
-        chatDataStore.delete(buildKey(userId));
+        users.remove(userId);
     }
     
     public int size() {
-        return chatDataStore.size();
-    }
-    
-    private String buildKey(String userId) {
-        return USER_SOCKET_KEY_PREFIX + userId;
+        return users.size();
     }
 }
@@ -0,0 +1,27 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+
+/**
+ * 메시지 히스토리 응답 포맷
+ * 클라이언트가 핸드셰이크 auth에 historyFormat: "compact"를 보낸 경우에만 압축 포맷을 사용한다.
+ */
+public enum HistoryFormat {
+    FULL,
+    COMPACT;
+
+    private static final String CLIENT_KEY = "historyFormat";
+
+    public static HistoryFormat parse(Object value) {
+        return value != null && "compact".equalsIgnoreCase(value.toString()) ? COMPACT : FULL;
+    }
+
+    public static HistoryFormat of(SocketIOClient client) {
+        HistoryFormat format = client.get(CLIENT_KEY);
+        return format != null ? format : FULL;
+    }
+
+    public void applyTo(SocketIOClient client) {
+        client.set(CLIENT_KEY, this);
+    }
+}
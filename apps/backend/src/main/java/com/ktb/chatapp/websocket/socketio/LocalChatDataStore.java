@@ -1,42 +0,0 @@
-package com.ktb.chatapp.websocket.socketio;
-
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-
-/**
- * Local in-memory implementation of ChatDataStore using ConcurrentHashMap.
- * Thread-safe storage for chat-related data without external dependencies.
- */
-public class LocalChatDataStore implements ChatDataStore {
-    
-    private final ConcurrentHashMap<String, Object> storage = new ConcurrentHashMap<>();
-    
-    @Override
-    public <T> Optional<T> get(String key, Class<T> type) {
-        Object value = storage.get(key);
-        if (value == null) {
-            return Optional.empty();
-        }
-        
-        try {
-            return Optional.of(type.cast(value));
-        } catch (ClassCastException e) {
-            return Optional.empty();
-        }
-    }
-    
-    @Override
-    public void set(String key, Object value) {
-        storage.put(key, value);
-    }
-    
-    @Override
-    public void delete(String key) {
-        storage.remove(key);
-    }
-    
-    @Override
-    public int size() {
-        return storage.size();
-    }
-}
@@ -0,0 +1,180 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * ObjectId 문자열 키 전용 동시성 맵
+ * 키를 12바이트(long + int)로 풀어 병렬 배열에 저장하므로 "prefix:" + id 형태의 키 문자열과 항목별 Node를 만들지 않는다.
+ * 조회 시에도 키 문자열을 바로 해석하여 할당이 없다.
+ * 세그먼트별 잠금으로 동시성을 확보하고, ObjectId 형식이 아닌 키는 ConcurrentHashMap으로 처리한다.
+ * 값으로 null은 저장할 수 없다.
+ */
+final class ObjectIdMap<V> {
+
+    private static final int SEGMENT_BITS = 6;
+    private static final int SEGMENTS = 1 << SEGMENT_BITS;
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final ConcurrentHashMap<String, V> others = new ConcurrentHashMap<>();
+
+    ObjectIdMap() {
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(String id) {
+        if (!ObjectIds.isObjectId(id)) {
+            return others.get(id);
+        }
+        long high = ObjectIds.high(id);
+        int low = ObjectIds.low(id);
+        int hash = ObjectIds.hash(high, low);
+        return (V) segmentFor(hash).get(high, low, hash);
+    }
+
+    void put(String id, V value) {
+        update(id, previous -> value);
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(String id) {
+        if (!ObjectIds.isObjectId(id)) {
+            return others.remove(id);
+        }
+        long high = ObjectIds.high(id);
+        int low = ObjectIds.low(id);
+        int hash = ObjectIds.hash(high, low);
+        return (V) segmentFor(hash).update(high, low, hash, previous -> null);
+    }
+
+    /**
+     * 현재 값(없으면 null)으로 새 값을 계산하여 원자적으로 반영한다. 새 값이 null이면 항목을 삭제한다.
+     *
+     * @return 갱신 전 값
+     */
+    @SuppressWarnings("unchecked")
+    V update(String id, UnaryOperator<V> remapping) {
+        if (!ObjectIds.isObjectId(id)) {
+            Object[] previous = new Object[1];
+            others.compute(id, (key, current) -> {
+                previous[0] = current;
+                return remapping.apply(current);
+            });
+            return (V) previous[0];
+        }
+        long high = ObjectIds.high(id);
+        int low = ObjectIds.low(id);
+        int hash = ObjectIds.hash(high, low);
+        return (V) segmentFor(hash).update(high, low, hash, current -> remapping.apply((V) current));
+    }
+
+    int size() {
+        int size = others.size();
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    /**
+     * 오픈 어드레싱(선형 탐사) 테이블. values[i] == null 이면 빈 슬롯이다.
+     */
+    private static final class Segment {
+
+        private static final float LOAD_FACTOR = 0.6f;
+
+        private long[] highs = new long[16];
+        private int[] lows = new int[16];
+        private Object[] values = new Object[16];
+        private int size;
+
+        synchronized Object get(long high, int low, int hash) {
+            return values[indexOf(high, low, hash)];
+        }
+
+        synchronized Object update(long high, int low, int hash, UnaryOperator<Object> remapping) {
+            int index = indexOf(high, low, hash);
+            Object previous = values[index];
+            Object next = remapping.apply(previous);
+            if (next == null) {
+                if (previous != null) {
+                    values[index] = null;
+                    size--;
+                    shiftBack(index);
+                }
+                return previous;
+            }
+            highs[index] = high;
+            lows[index] = low;
+            values[index] = next;
+            if (previous == null && ++size > values.length * LOAD_FACTOR) {
+                rehash(values.length << 1);
+            }
+            return previous;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        /**
+         * 키가 있는 슬롯, 없으면 키가 들어갈 빈 슬롯의 위치를 반환한다.
+         */
+        private int indexOf(long high, int low, int hash) {
+            int mask = values.length - 1;
+            int index = hash & mask;
+            while (values[index] != null && (highs[index] != high || lows[index] != low)) {
+                index = (index + 1) & mask;
+            }
+            return index;
+        }
+
+        /**
+         * 삭제된 슬롯 뒤의 탐사 체인을 당겨서 툼스톤 없이 탐색이 끊기지 않게 한다.
+         */
+        private void shiftBack(int removed) {
+            int mask = values.length - 1;
+            int hole = removed;
+            int index = (hole + 1) & mask;
+            while (values[index] != null) {
+                int home = ObjectIds.hash(highs[index], lows[index]) & mask;
+                // home이 (hole, index] 구간 밖이면 hole로 옮겨도 탐색 가능
+                boolean movable = hole <= index
+                        ? home <= hole || home > index
+                        : home <= hole && home > index;
+                if (movable) {
+                    highs[hole] = highs[index];
+                    lows[hole] = lows[index];
+                    values[hole] = values[index];
+                    values[index] = null;
+                    hole = index;
+                }
+                index = (index + 1) & mask;
+            }
+        }
+
+        private void rehash(int capacity) {
+            long[] oldHighs = highs;
+            int[] oldLows = lows;
+            Object[] oldValues = values;
+            highs = new long[capacity];
+            lows = new int[capacity];
+            values = new Object[capacity];
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    int index = indexOf(oldHighs[i], oldLows[i], ObjectIds.hash(oldHighs[i], oldLows[i]));
+                    highs[index] = oldHighs[i];
+                    lows[index] = oldLows[i];
+                    values[index] = oldValues[i];
+                }
+            }
+        }
+    }
+}
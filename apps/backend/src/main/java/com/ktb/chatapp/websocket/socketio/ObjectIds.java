@@ -0,0 +1,66 @@
+package com.ktb.chatapp.websocket.socketio;
+
+/**
+ * MongoDB ObjectId 16진 문자열(24자)을 12바이트 값(long 상위 8바이트 + int 하위 4바이트)으로 다루는 유틸리티
+ * 문자열을 새로 만들지 않고 원본 문자를 바로 해석하므로 조회 경로에서 할당이 없다.
+ * ObjectId.toHexString()이 만드는 소문자 형식만 ObjectId로 취급한다.
+ */
+final class ObjectIds {
+
+    private static final int HEX_LENGTH = 24;
+    private static final int HIGH_DIGITS = 16;
+
+    private ObjectIds() {
+    }
+
+    static boolean isObjectId(String id) {
+        if (id == null || id.length() != HEX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < HEX_LENGTH; i++) {
+            if (digit(id.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 앞 8바이트 (timestamp + random 일부). isObjectId로 검증된 문자열만 전달해야 한다.
+     */
+    static long high(String id) {
+        long value = 0;
+        for (int i = 0; i < HIGH_DIGITS; i++) {
+            value = (value << 4) | digit(id.charAt(i));
+        }
+        return value;
+    }
+
+    /**
+     * 뒤 4바이트 (counter 포함). isObjectId로 검증된 문자열만 전달해야 한다.
+     */
+    static int low(String id) {
+        int value = 0;
+        for (int i = HIGH_DIGITS; i < HEX_LENGTH; i++) {
+            value = (value << 4) | digit(id.charAt(i));
+        }
+        return value;
+    }
+
+    static int hash(long high, int low) {
+        // counter가 들어 있는 하위 바이트가 가장 잘 분산되므로 섞어서 상위 비트까지 퍼뜨린다
+        long h = (high ^ (high >>> 32)) * 0x9E3779B97F4A7C15L + low;
+        h *= 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int digit(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+}
@@ -2,15 +2,21 @@ package com.ktb.chatapp.websocket.socketio;
 
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.*;
+import com.ktb.chatapp.service.session.SessionRedisStore;
+import com.ktb.chatapp.util.NGramTokenizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RTopic;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 
@@ -22,6 +28,8 @@ public class RedisEventListener {
     private final SocketIOServer socketIOServer;
     private final RedissonClient redissonClient;
     private final RedisTopicRouter topicRouter;
+    private final UserRooms userRooms;
+    private final ConnectedUsers connectedUsers;
 
     @EventListener(ContextRefreshedEvent.class)
     public void subscribeAllTopics() {
@@ -35,6 +43,11 @@ public class RedisEventListener {
             });
             log.info("Subscribed Redis topic: {}", topic);
         });
+
+        // 세션 저장소의 Lua 스크립트가 직접 PUBLISH 하므로 EventEnvelope가 아닌 문자열 채널
+        redissonClient.getTopic(SessionRedisStore.ENDED_CHANNEL, StringCodec.INSTANCE)
+                .addListener(String.class, (channel, message) -> endReplacedSession(message));
+        log.info("Subscribed Redis topic: {}", SessionRedisStore.ENDED_CHANNEL);
     }
 
     private void route(EventEnvelope<?> envelope) {
@@ -51,10 +64,10 @@ public class RedisEventListener {
                         .sendEvent(SocketIOEvents.MESSAGE_REACTION_UPDATE, response);
             }
 
-            case PARTICIPANTS_UPDATE -> {
-                ParticipantsUpdateResponse response = (ParticipantsUpdateResponse) envelope.getPayload();
+            case PARTICIPANTS_DELTA -> {
+                ParticipantsDeltaResponse response = (ParticipantsDeltaResponse) envelope.getPayload();
                 socketIOServer.getRoomOperations(response.getRoomId())
-                        .sendEvent(PARTICIPANTS_UPDATE, response.getParticipants());
+                        .sendEvent(PARTICIPANTS_DELTA, response);
             }
 
             case USER_LEFT -> {
@@ -72,18 +85,17 @@ public class RedisEventListener {
                         .sendEvent(MESSAGES_READ, response);
             }
 
-            case ROOM_CREATED -> {
-                RoomResponse response = (RoomResponse) envelope.getPayload();
-                socketIOServer.getRoomOperations("room-list")
-                        .sendEvent(ROOM_CREATED, response);
-            }
+            case ROOM_LIST_DELTA -> sendRoomListDelta((RoomListDeltaResponse) envelope.getPayload());
 
             case ROOM_UPDATE -> {
                 RoomUpdatePayload payload = (RoomUpdatePayload) envelope.getPayload();
                 socketIOServer.getRoomOperations(payload.getRoomId())
                         .sendEvent(ROOM_UPDATE, payload.getRoomResponse());
+                sendRoomListDelta(RoomListDeltaResponse.updated(payload.getRoomResponse()));
             }
 
+            case ROOM_DELETED -> sendRoomDeleted((String) envelope.getPayload());
+
             case SESSION_ENDED -> {
                 SessionEndedPayload payload = (SessionEndedPayload) envelope.getPayload();
                 socketIOServer.getRoomOperations("user:" + payload.getUserId())
@@ -93,6 +105,84 @@ public class RedisEventListener {
                         ));
                 log.info("session_ended 이벤트 전송: userId={}, reason={}", payload.getUserId(), payload.getReason());
             }
+
+            case USER_PROFILE_UPDATED -> refreshSocketProfiles((UserProfilePayload) envelope.getPayload());
+        }
+    }
+
+    /**
+     * 다른 로그인으로 교체된 세션을 사용 중인 이 노드의 소켓에만 세션 종료를 통보한다.
+     * 메시지 형식: userId:sessionId
+     */
+    private void endReplacedSession(String message) {
+        int separator = message.indexOf(':');
+        if (separator < 0) {
+            return;
         }
+        String userId = message.substring(0, separator);
+        String sessionId = message.substring(separator + 1);
+
+        socketIOServer.getRoomOperations("user:" + userId).getClients().forEach(client -> {
+            SocketUser user = client.get("user");
+            if (user != null && sessionId.equals(user.authSessionId())) {
+                client.sendEvent(SESSION_ENDED, Map.of(
+                        "reason", "duplicate_login",
+                        "message", "다른 기기에서 로그인하여 현재 세션이 종료되었습니다."
+                ));
+                log.info("교체된 세션 종료 통보: userId={}, sessionId={}", userId, sessionId);
+            }
+        });
+    }
+
+    /**
+     * 이 노드에 연결된 사용자 소켓의 발신자 정보를 새 프로필로 바꾼다.
+     * 연결 시점 프로필을 그대로 쓰면 변경 이후 보낸 메시지에 이전 이름/이미지가 저장된다.
+     */
+    private void refreshSocketProfiles(UserProfilePayload payload) {
+        socketIOServer.getRoomOperations("user:" + payload.getUserId()).getClients().forEach(client -> {
+            SocketUser user = client.get("user");
+            if (user != null) {
+                client.set("user", user.withProfile(
+                        payload.getName(), payload.getProfileImage(), payload.getProfileVersion()));
+            }
+        });
+        connectedUsers.update(payload.getUserId(), user -> user.withProfile(
+                payload.getName(), payload.getProfileImage(), payload.getProfileVersion()));
+    }
+
+    /**
+     * 보관된 방에 입장해 있던 이 노드의 소켓을 방에서 내보내고, 방 목록 구독자와 함께 삭제를 알린다.
+     */
+    private void sendRoomDeleted(String roomId) {
+        Set<UUID> notified = new HashSet<>();
+        socketIOServer.getRoomOperations(roomId).getClients().forEach(client -> {
+            SocketUser user = client.get("user");
+            if (user != null) {
+                userRooms.remove(user.id(), roomId);
+            }
+            client.leaveRoom(roomId);
+            client.sendEvent(ROOM_DELETED, roomId);
+            notified.add(client.getSessionId());
+        });
+        socketIOServer.getRoomOperations(RoomListSubscription.ROOM).getClients().forEach(client -> {
+            if (notified.add(client.getSessionId())) {
+                client.sendEvent(ROOM_DELETED, roomId);
+            }
+        });
+        log.info("roomDeleted 이벤트 전송: roomId={}", roomId);
+    }
+
+    /**
+     * 이 노드에서 방 목록을 구독 중인 소켓 중 조건에 맞는 소켓에만 델타를 전송한다.
+     */
+    private void sendRoomListDelta(RoomListDeltaResponse delta) {
+        // 방 이름은 구독자 수와 무관하게 한 번만 토큰화한다
+        Set<String> nameGrams = NGramTokenizer.indexGramSet(delta.getName());
+        socketIOServer.getRoomOperations(RoomListSubscription.ROOM).getClients().forEach(client -> {
+            RoomListSubscription subscription = RoomListSubscription.of(client);
+            if (subscription != null && subscription.accepts(delta, nameGrams)) {
+                client.sendEvent(ROOM_LIST_DELTA, delta);
+            }
+        });
     }
 }
@@ -11,12 +11,14 @@ public class RedisTopicRouter {
     private final Map<String, String> topicMap = Map.of(
             SocketIOEvents.MESSAGE,                 "chat:message",
             SocketIOEvents.MESSAGE_REACTION_UPDATE, "chat:reaction",
-            SocketIOEvents.PARTICIPANTS_UPDATE,     "chat:participants",
+            SocketIOEvents.PARTICIPANTS_DELTA,      "chat:participants",
             SocketIOEvents.USER_LEFT,               "chat:room",
             SocketIOEvents.MESSAGES_READ,           "chat:read",
-            SocketIOEvents.ROOM_CREATED,            "chat:room-list",
+            SocketIOEvents.ROOM_LIST_DELTA,         "chat:room-list",
             SocketIOEvents.ROOM_UPDATE,             "chat:room-update",
-            SocketIOEvents.SESSION_ENDED,           "chat:session"
+            SocketIOEvents.ROOM_DELETED,            "chat:room-update",
+            SocketIOEvents.SESSION_ENDED,           "chat:session",
+            SocketIOEvents.USER_PROFILE_UPDATED,    "chat:session"
     );
 
     public String resolve(String eventType) {
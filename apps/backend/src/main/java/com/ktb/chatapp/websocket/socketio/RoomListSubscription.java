@@ -0,0 +1,55 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.ktb.chatapp.dto.RoomListDeltaResponse;
+import com.ktb.chatapp.dto.RoomListSubscribeRequest;
+import com.ktb.chatapp.util.NGramTokenizer;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 소켓별 방 목록 구독 조건.
+ * 목록 화면에 보이지 않을 델타는 보내지 않도록 검색어와 정렬로 필터링한다.
+ * 검색어 판정은 REST 검색과 같은 n-gram 일치 기준({@link NGramTokenizer#matches})을 사용한다.
+ *
+ * @param searchGrams  검색어 gram 목록 (비어 있으면 전체)
+ * @param newestFirst  최신순 정렬 여부 (생성 델타는 목록 맨 위에 추가되는 경우에만 전송)
+ */
+public record RoomListSubscription(List<String> searchGrams, boolean newestFirst) {
+
+    public static final String ROOM = "room-list";
+    private static final String CLIENT_KEY = "roomListSubscription";
+
+    public static RoomListSubscription from(RoomListSubscribeRequest request) {
+        if (request == null) {
+            return new RoomListSubscription(List.of(), true);
+        }
+        boolean createdAtSort = request.sortField() == null || "createdAt".equals(request.sortField());
+        boolean descending = request.sortOrder() == null || "desc".equals(request.sortOrder());
+        return new RoomListSubscription(NGramTokenizer.queryGrams(request.search()), createdAtSort && descending);
+    }
+
+    public static RoomListSubscription of(SocketIOClient client) {
+        return client.get(CLIENT_KEY);
+    }
+
+    public void applyTo(SocketIOClient client) {
+        client.set(CLIENT_KEY, this);
+        client.joinRoom(ROOM);
+    }
+
+    public static void clear(SocketIOClient client) {
+        client.leaveRoom(ROOM);
+        client.del(CLIENT_KEY);
+    }
+
+    /**
+     * @param nameGrams 델타 방 이름의 gram 집합 (구독자마다 다시 만들지 않도록 호출자가 한 번만 계산)
+     */
+    public boolean accepts(RoomListDeltaResponse delta, Set<String> nameGrams) {
+        if (!NGramTokenizer.matches(searchGrams, nameGrams)) {
+            return false;
+        }
+        return !RoomListDeltaResponse.CREATED.equals(delta.getType()) || newestFirst;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ERROR;
+
+/**
+ * 비동기 핸드셰이크 인증 대기열
+ * 핸드셰이크는 토큰 파싱만 하고 즉시 연결되므로, 세션 검증이 끝나기 전에 도착한 이벤트는
+ * 이 게이트에 보관했다가 인증이 완료되면 도착 순서대로 다시 처리한다.
+ * 인증에 실패하면 보관한 이벤트는 버린다.
+ * 모든 @OnEvent 핸들러는 AuthGatedAnnotationScanner가 등록할 때 dispatch를 거치도록 감싼다.
+ */
+@Slf4j
+public final class SocketAuthGate {
+
+    private static final String KEY = "authGate";
+    // 인증 전 클라이언트가 쌓을 수 있는 최대 이벤트 수
+    static final int MAX_DEFERRED = 32;
+
+    private final List<Runnable> deferred = new ArrayList<>();
+    private State state = State.HOLDING;
+
+    private SocketAuthGate() {
+    }
+
+    /**
+     * 인증 대기 시작 (핸드셰이크 시점)
+     */
+    public static void hold(SocketIOClient client) {
+        client.set(KEY, new SocketAuthGate());
+    }
+
+    /**
+     * 인증 대기 중이면 핸들러를 보관하고, 아니면 바로 처리한다.
+     * 대기열이 가득 차면 이벤트를 조용히 버리지 않고 오류를 알린 뒤 연결을 끊는다.
+     */
+    public static void dispatch(SocketIOClient client, Runnable handler) {
+        SocketAuthGate gate = client.get(KEY);
+        if (gate == null) {
+            handler.run();
+            return;
+        }
+        switch (gate.enqueue(handler)) {
+            case RUN -> handler.run();
+            case DEFERRED, DROP -> {
+            }
+            case OVERFLOW -> {
+                log.warn("인증 전 이벤트 한도 초과로 연결 종료: socketId={}", client.getSessionId());
+                client.sendEvent(ERROR, Map.of("message", "Too many events before authentication"));
+                client.disconnect();
+            }
+        }
+    }
+
+    /**
+     * 인증 완료. 보관한 이벤트를 도착 순서대로 처리한다.
+     * 재생 중 도착한 이벤트도 대기열 뒤에 붙으므로, 대기열이 빌 때까지 재생한 뒤에만 게이트를 연다.
+     */
+    public static void open(SocketIOClient client) {
+        SocketAuthGate gate = client.get(KEY);
+        if (gate == null) {
+            return;
+        }
+        List<Runnable> batch;
+        while (!(batch = gate.drain()).isEmpty()) {
+            batch.forEach(SocketAuthGate::replay);
+        }
+        client.del(KEY);
+    }
+
+    /**
+     * 인증 실패. 보관한 이벤트를 버린다.
+     */
+    public static void reject(SocketIOClient client) {
+        SocketAuthGate gate = client.get(KEY);
+        if (gate == null) {
+            return;
+        }
+        gate.discard();
+        client.del(KEY);
+    }
+
+    private static void replay(Runnable handler) {
+        try {
+            handler.run();
+        } catch (Exception e) {
+            log.error("보관된 소켓 이벤트 처리 실패", e);
+        }
+    }
+
+    private synchronized Outcome enqueue(Runnable handler) {
+        if (state == State.OPEN) {
+            return Outcome.RUN;
+        }
+        if (state == State.CLOSED) {
+            return Outcome.DROP;
+        }
+        if (deferred.size() >= MAX_DEFERRED) {
+            discard();
+            return Outcome.OVERFLOW;
+        }
+        deferred.add(handler);
+        return Outcome.DEFERRED;
+    }
+
+    /**
+     * 보관된 이벤트를 꺼낸다. 비어 있으면 이후 이벤트가 바로 처리되도록 게이트를 연다.
+     */
+    private synchronized List<Runnable> drain() {
+        if (state == State.CLOSED) {
+            return List.of();
+        }
+        if (deferred.isEmpty()) {
+            state = State.OPEN;
+            return List.of();
+        }
+        List<Runnable> drained = new ArrayList<>(deferred);
+        deferred.clear();
+        return drained;
+    }
+
+    private synchronized void discard() {
+        state = State.CLOSED;
+        deferred.clear();
+    }
+
+    private enum State {
+        HOLDING, OPEN, CLOSED
+    }
+
+    private enum Outcome {
+        RUN, DEFERRED, DROP, OVERFLOW
+    }
+}
@@ -1,8 +1,11 @@
 package com.ktb.chatapp.websocket.socketio;
 
 import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.RoomListDeltaResponse;
 import com.ktb.chatapp.dto.RoomUpdatePayload;
 import com.ktb.chatapp.dto.SessionEndedPayload;
+import com.ktb.chatapp.dto.UserProfilePayload;
+import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.event.*;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
@@ -40,12 +43,27 @@ public class SocketIOEventListener {
         }
     }
 
+    @Async
+    @EventListener
+    public void handleUserProfileUpdatedEvent(UserProfileUpdatedEvent event) {
+        User user = event.getUser();
+        try {
+            // 모든 서버의 연결된 소켓이 이후 메시지를 새 프로필로 저장하도록 전파
+            redisEventPublisher.publish(USER_PROFILE_UPDATED, new UserProfilePayload(
+                    user.getId(), user.getName(), user.getProfileImage(), user.getProfileVersion()));
+            log.debug("userProfileUpdated 이벤트 Redis 발행: userId={}, version={}",
+                    user.getId(), user.getProfileVersion());
+        } catch (Exception e) {
+            log.error("userProfileUpdated 이벤트 발송 실패: userId={}", user.getId(), e);
+        }
+    }
+
     @Async
     @EventListener
     public void handleRoomCreatedEvent(RoomCreatedEvent event) {
         try {
             // Redis로 publish하여 모든 서버에 전파
-            redisEventPublisher.publish(ROOM_CREATED, event.getRoomResponse());
+            redisEventPublisher.publish(ROOM_LIST_DELTA, RoomListDeltaResponse.created(event.getRoomResponse()));
             log.info("roomCreated 이벤트 Redis 발행: roomId={}", event.getRoomResponse().getId());
         } catch (Exception e) {
             log.error("roomCreated 이벤트 발송 실패", e);
@@ -65,6 +83,31 @@ public class SocketIOEventListener {
         }
     }
 
+    @Async
+    @EventListener
+    public void handleRoomArchivedEvent(RoomArchivedEvent event) {
+        try {
+            // Redis로 publish하여 모든 서버에 전파
+            redisEventPublisher.publish(ROOM_DELETED, event.getRoomId());
+            log.info("roomDeleted 이벤트 Redis 발행: roomId={}", event.getRoomId());
+        } catch (Exception e) {
+            log.error("roomDeleted 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
+        }
+    }
+
+    @Async
+    @EventListener
+    public void handleParticipantsChangedEvent(ParticipantsChangedEvent event) {
+        try {
+            // Redis로 publish하여 모든 서버에 전파
+            redisEventPublisher.publish(PARTICIPANTS_DELTA, event.getDelta());
+            log.debug("participantsDelta 이벤트 Redis 발행: roomId={}, version={}",
+                    event.getDelta().getRoomId(), event.getDelta().getVersion());
+        } catch (Exception e) {
+            log.error("participantsDelta 이벤트 발송 실패: roomId={}", event.getDelta().getRoomId(), e);
+        }
+    }
+
     @Async
     @EventListener
     public void handleAiMessageStartEvent(AiMessageStartEvent event) {
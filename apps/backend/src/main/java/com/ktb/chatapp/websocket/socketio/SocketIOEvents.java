@@ -46,6 +46,24 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 참가자 스냅샷 요청 (멤버십 버전 누락 감지 시)
+     * Payload: roomId (String)
+     */
+    public static final String FETCH_PARTICIPANTS = "fetchParticipants";
+
+    /**
+     * 재연결 시 세션 재개 (시스템 메시지/참가자 브로드캐스트 없이 소켓 방만 재연결)
+     * Payload: { rooms: [{ roomId, lastMessageTimestamp }] }
+     */
+    public static final String RESUME_SESSION = "resumeSession";
+
+    /**
+     * 참여 중인 모든 방의 요약 요청 (로그인 직후 부트스트랩)
+     * Payload: 없음
+     */
+    public static final String FETCH_ROOM_SUMMARIES = "fetchRoomSummaries";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -81,22 +99,51 @@ public final class SocketIOEvents {
      */
     public static final String PREVIOUS_MESSAGES_LOADED = "previousMessagesLoaded";
 
+    /**
+     * 세션 재개 결과
+     * Payload: ResumeSessionResponse
+     */
+    public static final String SESSION_RESUMED = "sessionResumed";
+
+    /**
+     * 참여 중인 방 요약 (마지막 메시지, 안 읽은 메시지 수, 최근 활동 여부)
+     * Payload: { rooms: RoomSummaryResponse[] }
+     */
+    public static final String ROOM_SUMMARIES = "roomSummaries";
+
     /**
      * 메시지 로드 시작
      */
     public static final String MESSAGE_LOAD_START = "messageLoadStart";
 
     /**
-     * 참가자 업데이트
-     * Payload: List<UserDto>
+     * 참가자 변경 델타
+     * Payload: { roomId, version, type(added|removed), participant }
      */
-    public static final String PARTICIPANTS_UPDATE = "participantsUpdate";
+    public static final String PARTICIPANTS_DELTA = "participantsDelta";
 
     /**
-     * 채팅방 생성 알림
-     * Payload: RoomResponse
+     * 참가자 전체 목록 (요청한 클라이언트에게만 전송)
+     * Payload: { roomId, version, participants }
+     */
+    public static final String PARTICIPANTS_SNAPSHOT = "participantsSnapshot";
+
+    /**
+     * 방 목록 구독 시작/조건 변경 (목록 화면이 열려 있는 동안만)
+     * Payload: { search?, sortField?, sortOrder? }
+     */
+    public static final String JOIN_ROOM_LIST = "joinRoomList";
+
+    /**
+     * 방 목록 구독 해제
      */
-    public static final String ROOM_CREATED = "roomCreated";
+    public static final String LEAVE_ROOM_LIST = "leaveRoomList";
+
+    /**
+     * 방 목록 델타 (구독 조건에 맞는 소켓에만 전송)
+     * Payload: { type: created|updated, _id, name, hasPassword, participantsCount, recentMessageCount, createdAt }
+     */
+    public static final String ROOM_LIST_DELTA = "roomListDelta";
 
     /**
      * 채팅방 정보 업데이트
@@ -105,7 +152,7 @@ public final class SocketIOEvents {
     public static final String ROOM_UPDATE = "roomUpdated";
     
     /**
-     * 채팅방 정보 업데이트
+     * 채팅방 삭제(보관) 알림
      * Payload: roomId
      */
     public static final String ROOM_DELETED = "roomDeleted";
@@ -140,6 +187,12 @@ public final class SocketIOEvents {
      */
     public static final String SESSION_ENDED = "session_ended";
 
+    /**
+     * 사용자 프로필 변경 (노드 간 Redis 전파 전용, 클라이언트로 전송하지 않음)
+     * Payload: UserProfilePayload
+     */
+    public static final String USER_PROFILE_UPDATED = "userProfileUpdated";
+
 
     // ============================================
     // AI Streaming Events
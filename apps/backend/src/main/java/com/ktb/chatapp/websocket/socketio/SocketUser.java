@@ -1,11 +1,45 @@
 package com.ktb.chatapp.websocket.socketio;
 
+import com.ktb.chatapp.model.User;
+
 /**
  * Socket User Record
- * @param id user id
+ * 연결별 상태. 핸들러가 사용하는 필드만 보관하며 User 엔티티(비밀번호 해시, 암호화 이메일, 시각 필드)는 들고 있지 않는다.
+ * @param id user id (intern)
  * @param name user name
  * @param authSessionId user auth session id
  * @param socketId user websocket session id
+ * @param profile 메시지 발신자 정보, 아직 적재되지 않았으면 null
  */
-public record SocketUser(String id, String name, String authSessionId, String socketId) {
+public record SocketUser(String id, String name, String authSessionId, String socketId, Profile profile) {
+
+    public SocketUser(String id, String name, String authSessionId, String socketId) {
+        this(id, name, authSessionId, socketId, null);
+    }
+
+    public static SocketUser of(User user, String authSessionId, String socketId) {
+        return new SocketUser(user.getId().intern(), user.getName(), authSessionId, socketId, Profile.from(user));
+    }
+
+    /**
+     * 프로필 변경을 반영한 연결 상태. 이미 같거나 새 버전이면 그대로 반환한다.
+     * 메시지 저장 시 이 값으로 발신자 스냅샷을 만들므로 연결 중 변경도 반영해야 한다.
+     */
+    public SocketUser withProfile(String name, String profileImage, long profileVersion) {
+        if (profile != null && profile.profileVersion() >= profileVersion) {
+            return this;
+        }
+        Profile updated = profile != null ? new Profile(profile.email(), profileImage, profileVersion) : null;
+        return new SocketUser(id, name, authSessionId, socketId, updated);
+    }
+
+    /**
+     * 메시지 발신자 표시에 필요한 프로필 필드
+     */
+    public record Profile(String email, String profileImage, long profileVersion) {
+
+        static Profile from(User user) {
+            return new Profile(user.getEmail(), user.getProfileImage(), user.getProfileVersion());
+        }
+    }
 }
@@ -1,31 +1,25 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import java.util.HashSet;
 import java.util.Set;
-import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
 @ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
-@RequiredArgsConstructor
 public class UserRooms {
 
-    private static final String USER_ROOM_KEY_PREFIX = "userroom:roomids:";
-
-    private final ChatDataStore chatDataStore;
+    // 사용자 ID는 12바이트 값으로, 방 ID는 intern된 문자열 참조로 보관한다
+    private final ObjectIdMap<CompactRoomSet> rooms = new ObjectIdMap<>();
 
     /**
      * Get all room IDs for a user
      *
      * @param userId the user ID
-     * @return the set of room IDs the user is currently in, or empty set if not in any room
+     * @return the immutable set of room IDs the user is currently in, or empty set if not in any room
      */
-    @SuppressWarnings("unchecked")
     public Set<String> get(String userId) {
-        return chatDataStore.get(buildKey(userId), Set.class)
-                .map(obj -> (Set<String>) obj)
-                .orElse(new HashSet<>());
+        CompactRoomSet roomIds = rooms.get(userId);
+        return roomIds != null ? roomIds : CompactRoomSet.EMPTY;
     }
 
     /**
@@ -35,9 +29,7 @@ public class UserRooms {
      * @param roomId the room ID to add to the user's room set
      */
     public void add(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.add(roomId);
-        chatDataStore.set(buildKey(userId), rooms);
+        rooms.update(userId, current -> (current != null ? current : CompactRoomSet.EMPTY).with(roomId));
     }
 
     /**
@@ -47,13 +39,13 @@ public class UserRooms {
      * @param roomId the room ID to remove
      */
     public void remove(String userId, String roomId) {
-        Set<String> rooms = new HashSet<>(get(userId));
-        rooms.remove(roomId);
-        if (rooms.isEmpty()) {
-            chatDataStore.delete(buildKey(userId));
-        } else {
-            chatDataStore.set(buildKey(userId), rooms);
-        }
+        rooms.update(userId, current -> {
+            if (current == null) {
+                return null;
+            }
+            CompactRoomSet updated = current.without(roomId);
+            return updated.isEmpty() ? null : updated;
+        });
     }
 
     /**
@@ -62,7 +54,7 @@ public class UserRooms {
      * @param userId the user ID
      */
     public void clear(String userId) {
-        chatDataStore.delete(buildKey(userId));
+        rooms.remove(userId);
     }
 
     /**
@@ -75,10 +67,6 @@ public class UserRooms {
     public boolean isInRoom(String userId, String roomId) {
         return get(userId).contains(roomId);
     }
-
-    private String buildKey(String userId) {
-        return USER_ROOM_KEY_PREFIX + userId;
-    }
     
     public void removeAllRooms(String userId) {
         get(userId).forEach(roomId -> remove(userId, roomId));
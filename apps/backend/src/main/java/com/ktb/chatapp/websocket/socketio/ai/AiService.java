@@ -8,11 +8,15 @@ import com.ktb.chatapp.model.AiType;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.service.LifecycleTimer;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import java.time.Duration;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
@@ -31,14 +35,23 @@ public class AiService {
     private final ChatClient chatClient;
     private final ApplicationEventPublisher eventPublisher;
     private final MessageRepository messageRepository;
+    private final LifecycleTimer lifecycleTimer;
+    private final RoomActivityCounter roomActivityCounter;
+    private final Duration streamIdleTimeout;
 
     public AiService(
             ChatClient.Builder chatClientBuilder,
             ApplicationEventPublisher eventPublisher,
-            MessageRepository messageRepository) {
+            MessageRepository messageRepository,
+            LifecycleTimer lifecycleTimer,
+            RoomActivityCounter roomActivityCounter,
+            @Value("${ai.stream.idle-timeout:PT60S}") Duration streamIdleTimeout) {
         this.chatClient = chatClientBuilder.build();
         this.eventPublisher = eventPublisher;
         this.messageRepository = messageRepository;
+        this.lifecycleTimer = lifecycleTimer;
+        this.roomActivityCounter = roomActivityCounter;
+        this.streamIdleTimeout = streamIdleTimeout;
     }
 
     public void handleAIMentions(String roomId, String userId, MessageContent messageContent) {
@@ -74,7 +87,7 @@ public class AiService {
         
         
         streamResponse(session)
-                .subscribe(new AiStreamHandler(session, eventPublisher));
+                .subscribe(new AiStreamHandler(session, eventPublisher, lifecycleTimer, streamIdleTimeout));
     }
 
     Flux<ChunkData> streamResponse(StreamingSession session) {
@@ -108,6 +121,7 @@ public class AiService {
         try {
             // 메시지 저장
             Message savedMessage = messageRepository.save(getMessage(event));
+            roomActivityCounter.increment(event.getRoomId());
             log.info("AI message saved - messageId: {}, savedId: {}, roomId: {}",
                 event.getMessageId(), savedMessage.getId(), event.getRoomId());
 
@@ -3,7 +3,10 @@ package com.ktb.chatapp.websocket.socketio.ai;
 import com.ktb.chatapp.event.AiMessageChunkEvent;
 import com.ktb.chatapp.event.AiMessageCompleteEvent;
 import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.service.LifecycleTimer;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.netty.util.Timeout;
+import java.time.Duration;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,16 +19,25 @@ import org.springframework.context.ApplicationEventPublisher;
 public class AiStreamHandler implements Subscriber<ChunkData> {
     private final StreamingSession session;
     private final ApplicationEventPublisher eventPublisher;
+    private final LifecycleTimer lifecycleTimer;
+    // 이 시간 동안 청크가 없으면 멈춘 스트림으로 보고 종료
+    private final Duration idleTimeout;
     private Subscription subscription;
+    private volatile Timeout idleCheck;
+    private volatile boolean finished;
 
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
+        scheduleIdleCheck(idleTimeout.toMillis());
         subscription.request(Long.MAX_VALUE);
     }
 
     @Override
     public void onNext(ChunkData chunk) {
+        if (finished) {
+            return;
+        }
         session.appendContent(chunk.currentChunk());
         
         String messageId = session.getMessageId();
@@ -43,6 +55,9 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
 
     @Override
     public void onError(Throwable error) {
+        if (!finish()) {
+            return;
+        }
         String messageId = session.getMessageId();
         log.error("AI streaming error for messageId: {}", messageId, error);
 
@@ -54,6 +69,9 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
 
     @Override
     public void onComplete() {
+        if (!finish()) {
+            return;
+        }
         String messageId = session.getMessageId();
 
         try {
@@ -76,6 +94,46 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
         }
     }
 
+    /**
+     * 청크마다 타이머를 다시 걸지 않고, 만료 시점에 마지막 청크 이후 경과 시간을 확인해 남은 시간만큼 재예약한다.
+     */
+    private void scheduleIdleCheck(long delayMillis) {
+        idleCheck = lifecycleTimer.schedule("ai-stream-idle", Duration.ofMillis(delayMillis), this::checkIdle);
+    }
+
+    private void checkIdle() {
+        if (finished) {
+            return;
+        }
+        long idleMillis = System.currentTimeMillis() - session.getLastUpdate();
+        long remaining = idleTimeout.toMillis() - idleMillis;
+        if (remaining > 0) {
+            scheduleIdleCheck(remaining);
+            return;
+        }
+        if (!finish()) {
+            return;
+        }
+        log.warn("AI stream idle for {} ms, cancelling - messageId: {}", idleMillis, session.getMessageId());
+        cancel();
+        sendErrorEvent("AI 응답 시간이 초과되었습니다.");
+    }
+
+    /**
+     * 완료/오류/시간 초과 중 처음 한 번만 true
+     */
+    private synchronized boolean finish() {
+        if (finished) {
+            return false;
+        }
+        finished = true;
+        Timeout check = idleCheck;
+        if (check != null) {
+            check.cancel();
+        }
+        return true;
+    }
+
     private void sendCompletionEvent() {
         eventPublisher.publishEvent(new AiMessageCompleteEvent(
             this, session.getRoomId(), session.getMessageId(),
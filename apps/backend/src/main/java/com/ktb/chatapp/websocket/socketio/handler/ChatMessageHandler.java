@@ -6,8 +6,9 @@ import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.model.*;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.util.BannedWordChecker;
 import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
@@ -41,7 +42,7 @@ public class ChatMessageHandler {
     private final EventExecutorGroup socketBizExecutor;
     private final EventExecutorGroup socketAuxExecutor;
     private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final RoomAccessGrants roomAccessGrants;
     private final UserRepository userRepository;
     private final FileRepository fileRepository;
     private final AiService aiService;
@@ -50,6 +51,7 @@ public class ChatMessageHandler {
     private final RateLimitService rateLimitService;
     private final MeterRegistry meterRegistry;
     private final UserRooms userRooms;
+    private final RoomActivityCounter roomActivityCounter;
     
     @OnEvent(CHAT_MESSAGE)
     public void handleChatMessage(SocketIOClient client, ChatMessageRequest data) {
@@ -127,13 +129,15 @@ public class ChatMessageHandler {
         String messageType = data.getMessageType();
 
         try {
-            // 소켓 세션에 캐싱된 유저 정보
-            User sender = client.get("userInfo");
+            // 연결 시 SocketUser에 담긴 발신자 정보
+            SocketUser sender = socketUser.profile() != null ? socketUser : null;
             if (sender == null) {
-                // 세션에 없으면 DB 조회(Fallback)
-                sender = userRepository.findById(socketUser.id()).orElse(null);
+                // 프로필이 없으면 DB 조회(Fallback)
+                sender = userRepository.findById(socketUser.id())
+                        .map(user -> SocketUser.of(user, socketUser.authSessionId(), socketUser.socketId()))
+                        .orElse(null);
                 if (sender != null) {
-                    client.set("userInfo", sender);
+                    client.set("user", sender);
                 }
             }
 
@@ -150,11 +154,10 @@ public class ChatMessageHandler {
             // 1차: UserRooms 체크 (빠름)
             boolean isParticipant = userRooms.isInRoom(socketUser.id(), roomId);
 
-            // 2차: UserRooms에 없으면 DB 확인 (fallback)
+            // 2차: UserRooms에 없으면 멤버십 인덱스 확인 (비참가자는 부정 캐시로 DB 조회 없이 거절)
             if (!isParticipant) {
-                Room room = roomRepository.findById(roomId).orElse(null);
-                if (room != null && room.getParticipantIds() != null && room.getParticipantIds().contains(socketUser.id())) {
-                    // DB에는 있으니 UserRooms 동기화
+                if (roomAccessGrants.checkAccess(roomId, socketUser.id())) {
+                    // 참가자이므로 UserRooms 동기화
                     userRooms.add(socketUser.id(), roomId);
                     isParticipant = true;
                 }
@@ -195,12 +198,15 @@ public class ChatMessageHandler {
                 return;
             }
 
+            // 히스토리 조회 시 사용자 조인을 생략할 수 있도록 발신자 스냅샷 저장
+            message.setSenderSnapshot(senderSnapshot(sender));
             Message savedMessage = messageRepository.save(message);
+            roomActivityCounter.increment(roomId);
 
             redisEventPublisher.publish(MESSAGE, createMessageResponse(savedMessage, sender));
 
             socketAuxExecutor.submit(() -> aiService.handleAIMentions(roomId, socketUser.id(), messageContent));
-            socketAuxExecutor.submit(() -> sessionService.updateLastActivity(socketUser.id()));
+            // 세션 활동 시각은 위의 validateSession에서 메모리에 기록되어 주기적으로 일괄 반영된다
 
             // Record success metrics
             recordMessageSuccess(messageType);
@@ -267,7 +273,24 @@ public class ChatMessageHandler {
         return message;
     }
 
-    private MessageResponse createMessageResponse(Message message, User sender) {
+    private static Message.SenderSnapshot senderSnapshot(SocketUser sender) {
+        return Message.SenderSnapshot.builder()
+                .name(sender.name())
+                .profileImage(sender.profile().profileImage())
+                .version(sender.profile().profileVersion())
+                .build();
+    }
+
+    private static UserResponse userResponse(SocketUser sender) {
+        return UserResponse.builder()
+                .id(sender.id())
+                .name(sender.name())
+                .email(sender.profile().email())
+                .profileImage(sender.profile().profileImage() != null ? sender.profile().profileImage() : "")
+                .build();
+    }
+
+    private MessageResponse createMessageResponse(Message message, SocketUser sender) {
         var messageResponse = new MessageResponse();
         messageResponse.setId(message.getId());
         messageResponse.setRoomId(message.getRoomId());
@@ -275,7 +298,7 @@ public class ChatMessageHandler {
         messageResponse.setType(message.getType());
         messageResponse.setTimestamp(message.toTimestampMillis());
         messageResponse.setReactions(message.getReactions() != null ? message.getReactions() : Collections.emptyMap());
-        messageResponse.setSender(UserResponse.from(sender));
+        messageResponse.setSender(userResponse(sender));
         messageResponse.setMetadata(message.getMetadata());
 
         if (message.getFileId() != null) {
@@ -3,14 +3,12 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
-import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.RoomListSubscription;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
-import java.time.Duration;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -33,54 +31,47 @@ public class ConnectionLoginHandler {
     private final SocketIOServer socketIOServer;
     private final ConnectedUsers connectedUsers;
     private final UserRooms userRooms;
-    private final RoomJoinHandler roomJoinHandler;
     private final RoomLeaveHandler roomLeaveHandler;
-    private final UserRepository userRepository;
 
     public ConnectionLoginHandler(
             SocketIOServer socketIOServer,
             ConnectedUsers connectedUsers,
             UserRooms userRooms,
-            RoomJoinHandler roomJoinHandler,
             RoomLeaveHandler roomLeaveHandler,
-            MeterRegistry meterRegistry, UserRepository userRepository) {
+            MeterRegistry meterRegistry) {
         this.socketIOServer = socketIOServer;
         this.connectedUsers = connectedUsers;
         this.userRooms = userRooms;
-        this.roomJoinHandler = roomJoinHandler;
         this.roomLeaveHandler = roomLeaveHandler;
 
         // Register gauge metric for concurrent users
         Gauge.builder("socketio.concurrent.users", connectedUsers::size)
                 .description("Current number of concurrent Socket.IO users")
                 .register(meterRegistry);
-        this.userRepository = userRepository;
     }
     
     /**
      * auth 처리가 선행되어야 해서 @OnConnect 대신 별도 메서드로 구현
+     * 인증 단계에서 조회한 사용자 정보는 SocketUser에 필요한 필드만 담겨 전달된다.
      */
     public void onConnect(SocketIOClient client, SocketUser user) {
         String userId = user.id();
         
         try {
             notifyDuplicateLogin(client, userId);
-            // 유저 정보를 한 번 조회하여 소켓 세션에 캐싱
-            User dbUser = userRepository.findById(userId).orElseThrow();
-            client.set("userInfo", dbUser);
             client.set("user", user);
             
-            userRooms.get(userId).forEach(roomId -> {
-                // 재접속 시 기존 참여 방 재입장 처리
-                roomJoinHandler.handleJoinRoom(client, roomId);
-            });
+            // 재접속 시 기존 참여 방의 소켓 방만 다시 연결 (시스템 메시지/메시지 로드 없음)
+            // 놓친 메시지는 클라이언트가 resumeSession으로 요청한다
+            userRooms.get(userId).forEach(client::joinRoom);
             
             connectedUsers.set(userId, user);
 
             log.info("Socket.IO user connected: {} ({}) - Total concurrent users: {}",
                     getUserName(client), userId, connectedUsers.size());
 
-            client.joinRooms(Set.of("user:" + userId, "room-list"));
+            // 방 목록 델타는 목록 화면에서 joinRoomList로 구독한 소켓에만 전송
+            client.joinRoom("user:" + userId);
             
         } catch (Exception e) {
             log.error("Error handling Socket.IO connection", e);
@@ -113,7 +104,7 @@ public class ConnectionLoginHandler {
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
 
-            client.leaveRooms(Set.of("user:" + userId, "room-list"));
+            client.leaveRooms(Set.of("user:" + userId, RoomListSubscription.ROOM));
             client.del("user");
             client.disconnect();
             
@@ -143,8 +134,9 @@ public class ConnectionLoginHandler {
     }
     
     /**
-     * TODO 멀티 클러스터에서 동작 안함 다중 노드의 경우 다른  노드에 접속된 사용자는 통보 불가함
-     * socketIOServer.getRoomOperations("user:" + userId) 로 처리 변경.
+     * 같은 노드의 기존 소켓에 새 로그인 시도를 알린다. (안내용)
+     * 세션 종료(session_ended)는 로그인 시 세션 저장소가 교체된 세션을 발행하면
+     * RedisEventListener가 모든 노드에서 보내므로 여기서는 보내지 않는다.
      */
     private void notifyDuplicateLogin(SocketIOClient client, String userId) {
         var socketUser = connectedUsers.get(userId);
@@ -164,18 +156,5 @@ public class ConnectionLoginHandler {
                 "ipAddress", client.getRemoteAddress().toString(),
                 "timestamp", System.currentTimeMillis()
         ));
-        
-        new Thread(() -> {
-            try {
-                Thread.sleep(Duration.ofSeconds(10));
-                existingClient.sendEvent(SESSION_ENDED, Map.of(
-                        "reason", "duplicate_login",
-                        "message", "다른 기기에서 로그인하여 현재 세션이 종료되었습니다."
-                ));
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Error in duplicate login notification thread", e);
-            }
-        }).start();
     }
 }
@@ -2,10 +2,11 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.CompactMessagesResponse;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
-import com.ktb.chatapp.model.Room;
-import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.websocket.socketio.HistoryFormat;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
 
@@ -28,7 +29,7 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 public class MessageFetchHandler {
 
     private final EventExecutorGroup socketBizExecutor;
-    private final RoomRepository roomRepository;
+    private final RoomAccessGrants roomAccessGrants;
     private final MessageLoader messageLoader;
 
     @OnEvent(FETCH_PREVIOUS_MESSAGES)
@@ -49,8 +50,7 @@ public class MessageFetchHandler {
     private void fetchMessages(String userId, SocketIOClient client, FetchMessagesRequest data) {
         try {
             // 권한 체크
-            Room room = roomRepository.findById(data.roomId()).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomAccessGrants.checkAccess(data.roomId(), userId)) {
                 client.sendEvent(ERROR, Map.of(
                         "code", "LOAD_ERROR",
                         "message", "채팅방 접근 권한이 없습니다."
@@ -64,6 +64,11 @@ public class MessageFetchHandler {
                     userId, data.roomId(), data.limit(), data.before());
 
             log.debug("Loading messages for room {}", data.roomId());
+            if (HistoryFormat.of(client) == HistoryFormat.COMPACT) {
+                CompactMessagesResponse compactResult = messageLoader.loadCompactMessages(data, userId);
+                client.sendEvent(PREVIOUS_MESSAGES_LOADED, compactResult);
+                return;
+            }
             FetchMessagesResponse result = messageLoader.loadMessages(data, userId);
 
             log.debug("Previous messages loaded - room: {}, count: {}, hasMore: {}",
@@ -1,8 +1,11 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.ktb.chatapp.dto.CompactMessageResponse;
+import com.ktb.chatapp.dto.CompactMessagesResponse;
 import com.ktb.chatapp.dto.FetchMessagesRequest;
 import com.ktb.chatapp.dto.FetchMessagesResponse;
 import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.model.File;
@@ -20,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -66,23 +70,149 @@ public class MessageLoader {
         List<Message> messages = messagePage.getContent();
 
         // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
-        List<Message> sortedMessages = messages.reversed();
-        
-        var messageIds = sortedMessages.stream().map(Message::getId).toList();
+        List<MessageResponse> messageResponses = toMessageResponses(messages.reversed(), userId);
+
+        boolean hasMore = messagePage.hasNext();
+
+        log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
+                roomId, limit, messageResponses.size(), hasMore);
+
+        return FetchMessagesResponse.builder()
+                .messages(messageResponses)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 특정 시간 이후의 메시지 로드 (세션 재개용)
+     * 오래된 순으로 최대 limit개를 반환하며, 초과분이 있으면 hasMore가 true
+     */
+    public FetchMessagesResponse loadMessagesAfter(String roomId, LocalDateTime after, int limit, String userId) {
+        try {
+            Pageable pageable = PageRequest.of(0, limit, Sort.by("timestamp").ascending());
+
+            Slice<Message> messageSlice = messageRepository
+                    .findByRoomIdAndIsDeletedAndTimestampAfter(roomId, false, after, pageable);
+
+            List<MessageResponse> messageResponses = toMessageResponses(messageSlice.getContent(), userId);
+
+            log.debug("Missed messages loaded - roomId: {}, after: {}, count: {}, hasMore: {}",
+                    roomId, after, messageResponses.size(), messageSlice.hasNext());
+
+            return FetchMessagesResponse.builder()
+                    .messages(messageResponses)
+                    .hasMore(messageSlice.hasNext())
+                    .build();
+        } catch (Exception e) {
+            log.error("Error loading missed messages for room {}", roomId, e);
+            return FetchMessagesResponse.builder()
+                    .messages(emptyList())
+                    .hasMore(true)
+                    .build();
+        }
+    }
+
+    /**
+     * 압축 포맷 메시지 로드
+     * 메시지에는 발신자 ID만 담고, 페이지 단위 사용자 사전을 함께 반환한다.
+     */
+    public CompactMessagesResponse loadCompactMessages(FetchMessagesRequest data, String userId) {
+        try {
+            Pageable pageable = PageRequest.of(0, data.limit(BATCH_SIZE), Sort.by("timestamp").descending());
+
+            Page<Message> messagePage = messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                    data.roomId(), false, data.before(LocalDateTime.now()), pageable);
+
+            // DESC로 조회했으므로 ASC로 재정렬 (채팅 UI 표시 순서)
+            List<Message> sortedMessages = messagePage.getContent().reversed();
+            markAsRead(sortedMessages, userId);
+
+            Map<String, User> userMap = loadSendersWithoutSnapshot(sortedMessages);
+            Map<String, File> fileMap = loadFiles(sortedMessages);
+
+            // 발신자 사전 (스냅샷은 최신 메시지 기준으로 덮어씀)
+            Map<String, UserResponse> users = new LinkedHashMap<>();
+            List<CompactMessageResponse> messages = new ArrayList<>(sortedMessages.size());
+            for (Message message : sortedMessages) {
+                String senderId = message.getSenderId();
+                if (senderId != null) {
+                    User user = userMap.get(senderId);
+                    if (user != null) {
+                        users.putIfAbsent(senderId, UserResponse.from(user));
+                    } else if (message.getSenderSnapshot() != null) {
+                        users.put(senderId, messageResponseMapper.toSenderResponse(senderId, message.getSenderSnapshot()));
+                    }
+                }
+                messages.add(messageResponseMapper.mapToCompactResponse(message, fileMap.get(message.getFileId())));
+            }
+
+            return CompactMessagesResponse.builder()
+                    .messages(messages)
+                    .users(users)
+                    .hasMore(messagePage.hasNext())
+                    .build();
+        } catch (Exception e) {
+            log.error("Error loading compact messages for room {}", data.roomId(), e);
+            return CompactMessagesResponse.builder()
+                    .messages(emptyList())
+                    .users(Map.of())
+                    .hasMore(false)
+                    .build();
+        }
+    }
+
+    /**
+     * 정렬된 메시지 목록을 응답으로 변환 (발신자/파일 배치 로드, 읽음 상태 업데이트 포함)
+     */
+    private List<MessageResponse> toMessageResponses(List<Message> sortedMessages, String userId) {
+        if (sortedMessages.isEmpty()) {
+            return emptyList();
+        }
+
+        markAsRead(sortedMessages, userId);
+
+        Map<String, User> userMap = loadSendersWithoutSnapshot(sortedMessages);
+        Map<String, File> fileMap = loadFiles(sortedMessages);
+
+        return sortedMessages.stream()
+                .map(message -> {
+                    User user = userMap.get(message.getSenderId());
+                    File file = fileMap.get(message.getFileId());       // file from memory
+
+                    return messageResponseMapper.mapToMessageResponse(message, user, file);
+                })
+                .toList();
+    }
+
+    private void markAsRead(List<Message> messages, String userId) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        var messageIds = messages.stream().map(Message::getId).toList();
         messageReadStatusService.updateReadStatus(messageIds, userId);
-        
-        // 메시지 응답 생성
-        Set<String> senderIds = sortedMessages.stream()
+    }
+
+    /**
+     * 발신자 스냅샷이 없는 메시지(이전 데이터)의 발신자만 배치 조회
+     */
+    private Map<String, User> loadSendersWithoutSnapshot(List<Message> messages) {
+        Set<String> senderIds = messages.stream()
+                .filter(message -> message.getSenderSnapshot() == null)
                 .map(Message::getSenderId)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toSet());
 
-        List<User> users = userRepository.findByIdIn(senderIds);
+        if (senderIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
 
-        Map<String, User> userMap = users.stream()
+        return userRepository.findByIdIn(senderIds).stream()
                 .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
 
+    private Map<String, File> loadFiles(List<Message> messages) {
         // File Batch Load
-        Set<String> fileIds = sortedMessages.stream()
+        Set<String> fileIds = messages.stream()
                 .map(Message::getFileId)
                 .filter(Objects::nonNull)       // when fileid present
                 .collect(Collectors.toSet());
@@ -93,25 +223,7 @@ public class MessageLoader {
                     fileMap.put(file.getId(), file)
             );
         }
-
-        List<MessageResponse> messageResponses = sortedMessages.stream()
-                .map(message -> {
-                    User user = userMap.get(message.getSenderId());
-                    File file = fileMap.get(message.getFileId());       // file from memory
-
-                    return messageResponseMapper.mapToMessageResponse(message, user, file);
-                })
-                .toList();
-
-        boolean hasMore = messagePage.hasNext();
-
-        log.debug("Messages loaded - roomId: {}, limit: {}, count: {}, hasMore: {}",
-                roomId, limit, messageResponses.size(), hasMore);
-
-        return FetchMessagesResponse.builder()
-                .messages(messageResponses)
-                .hasMore(hasMore)
-                .build();
+        return fileMap;
     }
 
     /**
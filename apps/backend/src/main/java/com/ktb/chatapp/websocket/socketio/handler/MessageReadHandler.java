@@ -6,12 +6,11 @@ import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MarkAsReadRequest;
 import com.ktb.chatapp.dto.MessagesReadResponse;
 import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.MessageReadStatusService;
+import com.ktb.chatapp.service.RoomAccessGrants;
 import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import java.util.Map;
@@ -39,7 +38,7 @@ public class MessageReadHandler {
     private final EventExecutorGroup socketBizExecutor;
     private final MessageReadStatusService messageReadStatusService;
     private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final RoomAccessGrants roomAccessGrants;
     private final UserRepository userRepository;
     
     @OnEvent(MARK_MESSAGES_AS_READ)
@@ -73,8 +72,7 @@ public class MessageReadHandler {
                 return;
             }
 
-            Room room = roomRepository.findById(roomId).orElse(null);
-            if (room == null || !room.getParticipantIds().contains(userId)) {
+            if (!roomAccessGrants.checkAccess(roomId, userId)) {
                 client.sendEvent(ERROR, Map.of("message", "Room access denied"));
                 return;
             }
@@ -1,5 +1,6 @@
 package com.ktb.chatapp.websocket.socketio.handler;
 
+import com.ktb.chatapp.dto.CompactMessageResponse;
 import com.ktb.chatapp.dto.FileResponse;
 import com.ktb.chatapp.dto.MessageResponse;
 import com.ktb.chatapp.dto.UserResponse;
@@ -38,7 +39,7 @@ public class MessageResponseMapper {
      * Message 엔티티를 MessageResponse DTO로 변환
      *
      * @param message 변환할 메시지 엔티티
-     * @param sender 메시지 발신자 정보 (null 가능)
+     * @param sender 메시지 발신자 정보 (null이면 발신자 스냅샷 사용)
      * @return MessageResponse DTO
      */
     public MessageResponse mapToMessageResponse(Message message, User sender, File file) {
@@ -61,7 +62,7 @@ public class MessageResponseMapper {
                                 : new ArrayList<>()
                 );
 
-        // 발신자 정보 설정
+        // 발신자 정보 설정 (조회한 사용자가 없으면 메시지에 저장된 스냅샷 사용)
         if (sender != null) {
             builder.sender(UserResponse.builder()
                     .id(sender.getId())
@@ -69,6 +70,8 @@ public class MessageResponseMapper {
                     .email(sender.getEmail())
                     .profileImage(sender.getProfileImage())
                     .build());
+        } else if (message.getSenderSnapshot() != null && message.getSenderId() != null) {
+            builder.sender(toSenderResponse(message.getSenderId(), message.getSenderSnapshot()));
         }
 
         if (file != null ) {
@@ -82,4 +85,32 @@ public class MessageResponseMapper {
 
         return builder.build();
     }
+
+    /**
+     * Message 엔티티를 압축 포맷 DTO로 변환 (발신자 정보 및 읽은 시각 제외)
+     */
+    public CompactMessageResponse mapToCompactResponse(Message message, File file) {
+        return CompactMessageResponse.builder()
+                .id(message.getId())
+                .content(message.getContent())
+                .sender(message.getSenderId())
+                .type(message.getType())
+                .file(file != null ? FileResponse.from(file) : null)
+                .aiType(message.getAiType())
+                .timestamp(message.toTimestampMillis())
+                .reactions(message.getReactions())
+                .readBy(message.getReaders() != null
+                        ? new ArrayList<>(message.getReaders().keySet())
+                        : null)
+                .metadata(message.getMetadata())
+                .build();
+    }
+
+    public UserResponse toSenderResponse(String senderId, Message.SenderSnapshot snapshot) {
+        return UserResponse.builder()
+                .id(senderId)
+                .name(snapshot.getName())
+                .profileImage(snapshot.getProfileImage())
+                .build();
+    }
 }
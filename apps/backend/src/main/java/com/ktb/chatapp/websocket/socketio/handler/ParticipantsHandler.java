@@ -0,0 +1,101 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.ParticipantsDeltaResponse;
+import com.ktb.chatapp.dto.ParticipantsSnapshotResponse;
+import com.ktb.chatapp.dto.UserResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomListResponseCache;
+import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 참가자 목록 동기화 핸들러
+ * 입장/퇴장 시 버전이 붙은 델타를 브로드캐스트하고,
+ * 클라이언트가 버전 누락을 감지한 경우에만 전체 스냅샷을 전송한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ParticipantsHandler {
+
+    private final RedisEventPublisher redisEventPublisher;
+    private final EventExecutorGroup socketBizExecutor;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final UserRooms userRooms;
+    private final RoomListResponseCache roomListResponseCache;
+
+    @OnEvent(FETCH_PARTICIPANTS)
+    public void handleFetchParticipants(SocketIOClient client, String roomId) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+
+        if (!userRooms.isInRoom(user.id(), roomId)) {
+            client.sendEvent(ERROR, Map.of("message", "Room access denied"));
+            return;
+        }
+
+        socketBizExecutor.submit(() -> {
+            try {
+                loadSnapshot(roomId).ifPresent(snapshot ->
+                        client.sendEvent(PARTICIPANTS_SNAPSHOT, snapshot));
+            } catch (Exception e) {
+                log.error("Error handling fetchParticipants", e);
+                client.sendEvent(ERROR, Map.of("message", "참가자 목록을 불러오는 중 오류가 발생했습니다."));
+            }
+        });
+    }
+
+    /**
+     * 참가자 전체 목록과 현재 멤버십 버전을 조회한다.
+     * 참가자 정보는 한 번의 배치 쿼리로 조회한다.
+     */
+    public Optional<ParticipantsSnapshotResponse> loadSnapshot(String roomId) {
+        return roomRepository.findById(roomId).map(this::toSnapshot);
+    }
+
+    public ParticipantsSnapshotResponse toSnapshot(Room room) {
+        var participants = userRepository.findByIdIn(room.getParticipantIds())
+                .stream()
+                .map(UserResponse::from)
+                .toList();
+        return new ParticipantsSnapshotResponse(room.getId(), room.getParticipantsVersion(), participants);
+    }
+
+    public void publishAdded(String roomId, long version, UserResponse participant) {
+        roomListResponseCache.invalidate();
+        redisEventPublisher.publish(
+                PARTICIPANTS_DELTA,
+                ParticipantsDeltaResponse.added(roomId, version, participant)
+        );
+    }
+
+    public void publishRemoved(String roomId, long version, String userId, String userName) {
+        roomListResponseCache.invalidate();
+        redisEventPublisher.publish(
+                PARTICIPANTS_DELTA,
+                ParticipantsDeltaResponse.removed(roomId, version, UserResponse.builder()
+                        .id(userId)
+                        .name(userName)
+                        .build())
+        );
+    }
+}
@@ -6,10 +6,13 @@ import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
-import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.websocket.socketio.HistoryFormat;
 import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
@@ -45,6 +48,9 @@ public class RoomJoinHandler {
     private final MessageLoader messageLoader;
     private final MessageResponseMapper messageResponseMapper;
     private final RoomLeaveHandler roomLeaveHandler;
+    private final ParticipantsHandler participantsHandler;
+    private final RoomAccessGrants roomAccessGrants;
+    private final RoomActivityCounter roomActivityCounter;
     
     @OnEvent(JOIN_ROOM)
     public void handleJoinRoom(SocketIOClient client, String roomId) {
@@ -69,22 +75,24 @@ public class RoomJoinHandler {
     
     private void proccessJoinRoom(String userId, String userName, SocketIOClient client, String roomId) {
         try {
-            if (userRepository.findById(userId).isEmpty()) {
+            User user = userRepository.findById(userId).orElse(null);
+            if (user == null) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "User not found"));
                 return;
             }
 
-            if (roomRepository.findById(roomId).isEmpty()) {
+            if (!roomRepository.existsById(roomId)) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
 
-            // MongoDB의 $addToSet 연산자를 사용한 원자적 업데이트
-            roomRepository.addParticipant(roomId, userId);
+            // MongoDB의 $addToSet + $inc를 사용한 원자적 업데이트 (새로 추가된 경우에만 버전 증가)
+            OptionalLong addedVersion = roomRepository.addParticipant(roomId, user);
 
             // Join socket room and add to user's room set
             client.joinRoom(roomId);
             userRooms.add(userId, roomId);
+            roomAccessGrants.grant(roomId, userId);
 
             Message joinMessage = Message.builder()
                     .roomId(roomId)
@@ -99,32 +107,30 @@ public class RoomJoinHandler {
                     .build();
 
             joinMessage = messageRepository.save(joinMessage);
+            roomActivityCounter.increment(roomId);
 
             // 초기 메시지 로드 (페이지 새로고침 시 충분한 메시지 로드)
             FetchMessagesRequest req = new FetchMessagesRequest(roomId, 100, null);
-            FetchMessagesResponse messageLoadResult = messageLoader.loadMessages(req, userId);
-
-            // 업데이트된 room 다시 조회하여 최신 participantIds 가져오기
-            Optional<Room> roomOpt = roomRepository.findById(roomId);
-            if (roomOpt.isEmpty()) {
+            boolean compact = HistoryFormat.of(client) == HistoryFormat.COMPACT;
+            FetchMessagesResponse messageLoadResult = compact ? null : messageLoader.loadMessages(req, userId);
+            CompactMessagesResponse compactHistory = compact ? messageLoader.loadCompactMessages(req, userId) : null;
+            int messageCount = compact ? compactHistory.getMessages().size() : messageLoadResult.getMessages().size();
+            boolean hasMore = compact ? compactHistory.isHasMore() : messageLoadResult.isHasMore();
+
+            // 입장한 사용자에게만 참가자 스냅샷 전달 (참가자 목록과 버전을 같은 문서에서 조회)
+            Optional<ParticipantsSnapshotResponse> snapshot = participantsHandler.loadSnapshot(roomId);
+            if (snapshot.isEmpty()) {
                 client.sendEvent(JOIN_ROOM_ERROR, Map.of("message", "채팅방을 찾을 수 없습니다."));
                 return;
             }
 
-            // 참가자 정보 조회
-            List<UserResponse> participants = roomOpt.get().getParticipantIds()
-                    .stream()
-                    .map(userRepository::findById)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .map(UserResponse::from)
-                    .toList();
-
             JoinRoomSuccessResponse response = JoinRoomSuccessResponse.builder()
                     .roomId(roomId)
-                    .participants(participants)
-                    .messages(messageLoadResult.getMessages())
-                    .hasMore(messageLoadResult.isHasMore())
+                    .participants(snapshot.get().getParticipants())
+                    .participantsVersion(snapshot.get().getVersion())
+                    .messages(compact ? Collections.emptyList() : messageLoadResult.getMessages())
+                    .history(compactHistory)
+                    .hasMore(hasMore)
                     .activeStreams(Collections.emptyList())
                     .build();
 
@@ -133,11 +139,12 @@ public class RoomJoinHandler {
             // 입장 메시지 브로드캐스트
             redisEventPublisher.publish(MESSAGE, messageResponseMapper.mapToMessageResponse(joinMessage, null));
 
-            // 참가자 목록 업데이트 브로드캐스트
+            // 참가자 변경 델타 브로드캐스트 (이미 참가자였던 경우 변경 없음)
             socketAuxExecutor.submit(() -> {
-                redisEventPublisher.publish(PARTICIPANTS_UPDATE, new ParticipantsUpdateResponse(roomId, participants));
+                addedVersion.ifPresent(version ->
+                        participantsHandler.publishAdded(roomId, version, UserResponse.from(user)));
                 log.info("User {} joined room {} successfully. Message count: {}, hasMore: {}",
-                        userName, roomId, messageLoadResult.getMessages().size(), messageLoadResult.isHasMore());
+                        userName, roomId, messageCount, hasMore);
             });
 
         } catch (Exception e) {
@@ -4,9 +4,7 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnEvent;
 import com.ktb.chatapp.dto.MessageResponse;
-import com.ktb.chatapp.dto.ParticipantsUpdateResponse;
 import com.ktb.chatapp.dto.UserLeftResponse;
-import com.ktb.chatapp.dto.UserResponse;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.model.Room;
@@ -14,6 +12,8 @@ import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
@@ -21,7 +21,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
+import java.util.OptionalLong;
 
 import io.netty.util.concurrent.EventExecutorGroup;
 import lombok.RequiredArgsConstructor;
@@ -49,6 +49,9 @@ public class RoomLeaveHandler {
     private final UserRepository userRepository;
     private final UserRooms userRooms;
     private final MessageResponseMapper messageResponseMapper;
+    private final ParticipantsHandler participantsHandler;
+    private final RoomAccessGrants roomAccessGrants;
+    private final RoomActivityCounter roomActivityCounter;
     
     @OnEvent(LEAVE_ROOM)
     public void handleLeaveRoom(SocketIOClient client, String roomId) {
@@ -78,17 +81,20 @@ public class RoomLeaveHandler {
                 return;
             }
 
-            roomRepository.removeParticipant(roomId, userId);
+            // 실제로 제거된 경우에만 멤버십 버전이 증가한다
+            OptionalLong removedVersion = roomRepository.removeParticipant(roomId, userId);
 
             client.leaveRoom(roomId);
             userRooms.remove(userId, roomId);
+            roomAccessGrants.revoke(roomId, userId);
 
             log.info("User {} left room {}", userName, room.getName());
 
             log.debug("Leave room cleanup - roomId: {}, userId: {}", roomId, userId);
 
             sendSystemMessage(roomId, userName + "님이 퇴장하였습니다.");
-            broadcastParticipantList(roomId);
+            removedVersion.ifPresent(version ->
+                    participantsHandler.publishRemoved(roomId, version, userId, userName));
 
             redisEventPublisher.publish(USER_LEFT, new UserLeftResponse(roomId, userId, userName));
 
@@ -112,6 +118,7 @@ public class RoomLeaveHandler {
             systemMessage.setMetadata(new HashMap<>());
 
             Message savedMessage = messageRepository.save(systemMessage);
+            roomActivityCounter.increment(roomId);
             MessageResponse response = messageResponseMapper.mapToMessageResponse(savedMessage, null);
 
             redisEventPublisher.publish(MESSAGE, response);
@@ -121,31 +128,6 @@ public class RoomLeaveHandler {
         }
     }
     
-    private void broadcastParticipantList(String roomId) {
-        Optional<Room> roomOpt = roomRepository.findById(roomId);
-        if (roomOpt.isEmpty()) {
-            return;
-        }
-        
-        var participantList = roomOpt.get()
-                .getParticipantIds()
-                .stream()
-                .map(userRepository::findById)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .map(UserResponse::from)
-                .toList();
-        
-        if (participantList.isEmpty()) {
-            return;
-        }
-
-        redisEventPublisher.publish(
-                PARTICIPANTS_UPDATE,
-                new ParticipantsUpdateResponse(roomId, participantList)
-        );
-    }
-
     private SocketUser getUserDto(SocketIOClient client) {
         return client.get("user");
     }
@@ -0,0 +1,41 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.RoomListSubscribeRequest;
+import com.ktb.chatapp.websocket.socketio.RoomListSubscription;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 방 목록 구독 핸들러
+ * 목록 화면이 열려 있는 소켓만 room-list 방에 참여시켜 방 생성/변경 델타를 받도록 한다.
+ * 검색어나 정렬이 바뀌면 같은 이벤트를 다시 보내 구독 조건을 갱신한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomListSubscriptionHandler {
+
+    @OnEvent(JOIN_ROOM_LIST)
+    public void handleJoinRoomList(SocketIOClient client, RoomListSubscribeRequest request) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+
+        RoomListSubscription.from(request).applyTo(client);
+        log.debug("Room list subscribed: userId={}, request={}", user.id(), request);
+    }
+
+    @OnEvent(LEAVE_ROOM_LIST)
+    public void handleLeaveRoomList(SocketIOClient client) {
+        RoomListSubscription.clear(client);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.RoomSummaryResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl;
+import com.ktb.chatapp.repository.RoomMessageSummary;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 방 요약 부트스트랩 핸들러
+ * 로그인 직후 참여 중인 모든 방의 마지막 메시지, 안 읽은 메시지 수, 최근 활동 여부를
+ * 한 번의 집계로 조회하여 전달한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomSummaryHandler {
+
+    // 최근 활동으로 간주하는 구간
+    private static final Duration RECENT_ACTIVITY_WINDOW = Duration.ofMinutes(10);
+    // 안 읽은 메시지로 세는 구간. 오래 방치된 방의 전체 이력을 세지 않도록 제한한다
+    private static final Duration UNREAD_WINDOW = Duration.ofDays(7);
+
+    private final EventExecutorGroup socketBizExecutor;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+    private final FileRepository fileRepository;
+    private final MessageRepositoryCustomImpl messageRepositoryCustom;
+    private final MessageResponseMapper messageResponseMapper;
+    private final UserRooms userRooms;
+
+    @OnEvent(FETCH_ROOM_SUMMARIES)
+    public void handleFetchRoomSummaries(SocketIOClient client) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+
+        socketBizExecutor.submit(() -> {
+            try {
+                client.sendEvent(ROOM_SUMMARIES, Map.of("rooms", loadSummaries(user.id())));
+            } catch (Exception e) {
+                log.error("Error handling fetchRoomSummaries", e);
+                client.sendEvent(ERROR, Map.of("message", "채팅방 요약을 불러오는 중 오류가 발생했습니다."));
+            }
+        });
+    }
+
+    private List<RoomSummaryResponse> loadSummaries(String userId) {
+        // 현재 소켓에 연결된 방 + 참여 중인 방
+        Set<String> roomIds = new LinkedHashSet<>(userRooms.get(userId));
+        roomRepository.findIdsByParticipant(userId).stream()
+                .map(Room::getId)
+                .forEach(roomIds::add);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, RoomMessageSummary> summaries = messageRepositoryCustom
+                .summarizeRooms(roomIds, userId, now.minus(RECENT_ACTIVITY_WINDOW), now.minus(UNREAD_WINDOW))
+                .stream()
+                .collect(Collectors.toMap(RoomMessageSummary::getRoomId, Function.identity()));
+
+        List<Message> lastMessages = summaries.values().stream()
+                .map(RoomMessageSummary::getLastMessage)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 마지막 메시지 발신자(스냅샷 없는 메시지만)/파일 배치 조회
+        Set<String> senderIds = lastMessages.stream()
+                .filter(message -> message.getSenderSnapshot() == null)
+                .map(Message::getSenderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, User> senders = new HashMap<>();
+        if (!senderIds.isEmpty()) {
+            userRepository.findByIdIn(senderIds).forEach(user -> senders.put(user.getId(), user));
+        }
+
+        Set<String> fileIds = lastMessages.stream()
+                .map(Message::getFileId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, File> files = new HashMap<>();
+        if (!fileIds.isEmpty()) {
+            fileRepository.findAllById(fileIds).forEach(file -> files.put(file.getId(), file));
+        }
+
+        return roomIds.stream()
+                .map(roomId -> {
+                    RoomMessageSummary summary = summaries.get(roomId);
+                    if (summary == null || summary.getLastMessage() == null) {
+                        return RoomSummaryResponse.builder().roomId(roomId).build();
+                    }
+                    Message lastMessage = summary.getLastMessage();
+                    return RoomSummaryResponse.builder()
+                            .roomId(roomId)
+                            .lastMessage(messageResponseMapper.mapToMessageResponse(
+                                    lastMessage,
+                                    senders.get(lastMessage.getSenderId()),
+                                    files.get(lastMessage.getFileId())))
+                            .unreadCount(summary.getUnreadCount())
+                            .active(summary.getRecentCount() > 0)
+                            .build();
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.FetchMessagesResponse;
+import com.ktb.chatapp.dto.ResumeSessionRequest;
+import com.ktb.chatapp.dto.ResumeSessionResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 세션 재개 처리 핸들러
+ * 재연결한 클라이언트의 소켓 방을 다시 연결하고 놓친 메시지만 전달한다.
+ * 입장 시스템 메시지 저장과 참가자 브로드캐스트는 하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SessionResumeHandler {
+
+    // 방별 최대 재전송 메시지 수 (초과 시 클라이언트가 전체 기록을 다시 로드)
+    private static final int MISSED_MESSAGE_LIMIT = 50;
+    // 한 번에 재개할 수 있는 최대 방 수
+    private static final int MAX_RESUME_ROOMS = 100;
+
+    private final EventExecutorGroup socketBizExecutor;
+    private final RoomRepository roomRepository;
+    private final UserRooms userRooms;
+    private final MessageLoader messageLoader;
+
+    @OnEvent(RESUME_SESSION)
+    public void handleResumeSession(SocketIOClient client, ResumeSessionRequest data) {
+        SocketUser user = client.get("user");
+        if (user == null) {
+            client.sendEvent(ERROR, Map.of("message", "Unauthorized"));
+            return;
+        }
+
+        socketBizExecutor.submit(() -> resumeSession(user.id(), client, data));
+    }
+
+    private void resumeSession(String userId, SocketIOClient client, ResumeSessionRequest data) {
+        try {
+            // 방 ID 기준 중복 제거 (마지막 요청 값 우선)
+            Map<String, ResumeSessionRequest.ResumeRoom> requested = new LinkedHashMap<>();
+            data.rooms().stream()
+                    .filter(Objects::nonNull)
+                    .filter(room -> room.roomId() != null)
+                    .limit(MAX_RESUME_ROOMS)
+                    .forEach(room -> requested.put(room.roomId(), room));
+
+            // 참여 여부를 한 번의 쿼리로 확인
+            Set<String> memberRoomIds = requested.isEmpty()
+                    ? Set.of()
+                    : roomRepository.findIdsByIdInAndParticipant(requested.keySet(), userId)
+                            .stream()
+                            .map(Room::getId)
+                            .collect(Collectors.toSet());
+
+            List<ResumeSessionResponse.ResumedRoom> resumed = new ArrayList<>();
+            List<String> rejected = new ArrayList<>();
+
+            for (ResumeSessionRequest.ResumeRoom room : requested.values()) {
+                String roomId = room.roomId();
+                if (!memberRoomIds.contains(roomId)) {
+                    rejected.add(roomId);
+                    continue;
+                }
+
+                client.joinRoom(roomId);
+                userRooms.add(userId, roomId);
+
+                // 같은 밀리초에 저장된 메시지를 놓치지 않도록 경계 포함 (클라이언트가 ID로 중복 제거)
+                LocalDateTime after = room.lastSeen(LocalDateTime.now()).minusNanos(1_000_000);
+                FetchMessagesResponse missed = messageLoader.loadMessagesAfter(
+                        roomId, after, MISSED_MESSAGE_LIMIT, userId);
+
+                resumed.add(new ResumeSessionResponse.ResumedRoom(
+                        roomId, missed.getMessages(), missed.isHasMore()));
+            }
+
+            client.sendEvent(SESSION_RESUMED, ResumeSessionResponse.builder()
+                    .rooms(resumed)
+                    .rejectedRoomIds(rejected)
+                    .build());
+
+            log.debug("Session resumed - userId: {}, resumed: {}, rejected: {}",
+                    userId, resumed.size(), rejected.size());
+
+        } catch (Exception e) {
+            log.error("Error handling resumeSession", e);
+            client.sendEvent(ERROR, Map.of("message", "세션 재개 중 오류가 발생했습니다."));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.ktb.chatapp.config;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import org.redisson.codec.JsonJacksonCodec;
+
+/**
+ * 애플리케이션과 같은 설정의 Redisson 코덱으로 토픽 메시지를 직렬화/역직렬화한다.
+ */
+public final class RedissonCodecs {
+
+    private RedissonCodecs() {
+    }
+
+    public static Object roundTrip(Object message) throws IOException {
+        JsonJacksonCodec codec = new JsonJacksonCodec(new JacksonConfig().objectMapper());
+        ByteBuf encoded = codec.getValueEncoder().encode(message);
+        try {
+            return codec.getValueDecoder().decode(encoded, null);
+        } finally {
+            encoded.release();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ktb.chatapp.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.dto.LoginRequest;
+import com.ktb.chatapp.dto.RegisterRequest;
+import com.ktb.chatapp.exception.PasswordHashingBusyException;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import({MongoTestContainer.class})
+@TestPropertySource(properties = "socketio.enabled=false")
+@DisplayName("비밀번호 해시 대기열 초과 응답 테스트")
+class AuthControllerBackpressureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("해시 대기열이 가득 차면 회원가입은 500이 아니라 503 + Retry-After로 응답한다")
+    void register_ReturnsServiceUnavailableWhenHashingBusy() throws Exception {
+        when(passwordEncoder.encode(any())).thenThrow(new PasswordHashingBusyException(3));
+
+        RegisterRequest registerRequest = new RegisterRequest();
+        registerRequest.setName("Test User");
+        registerRequest.setEmail("busy" + System.currentTimeMillis() + "@example.com");
+        registerRequest.setPassword("password");
+
+        mockMvc.perform(post("/api/auth/register")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(registerRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @WithAnonymousUser
+    @DisplayName("해시 대기열이 가득 차면 로그인은 인증 실패(401)나 500이 아니라 503 + Retry-After로 응답한다")
+    void login_ReturnsServiceUnavailableWhenHashingBusy() throws Exception {
+        // AuthenticationManager → DaoAuthenticationProvider가 비밀번호 비교 시 인코더를 호출한다
+        String email = "busy-login" + System.currentTimeMillis() + "@example.com";
+        userRepository.save(User.builder()
+                .name("Busy User")
+                .email(email)
+                .password("$2a$10$hashed")
+                .build());
+        when(passwordEncoder.matches(any(), any())).thenThrow(new PasswordHashingBusyException(3));
+
+        mockMvc.perform(post("/api/auth/login")
+                        .with(csrf())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequest(email, "password"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,158 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl.ArchivedBatch;
+import com.mongodb.client.MongoCollection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@DisplayName("MessageRepositoryCustomImpl 통합 테스트")
+class MessageRepositoryCustomImplTest {
+
+    private static final String USER_ID = "reader";
+    private static final String OTHER_ID = "writer";
+    private static final String MESSAGES_ARCHIVE = "messages_archive";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MessageRepositoryCustomImpl messageRepositoryCustom;
+
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), Message.class);
+        mongoTemplate.remove(new Query(), Room.class);
+        mongoTemplate.dropCollection(MESSAGES_ARCHIVE);
+    }
+
+    @Test
+    @DisplayName("마지막 메시지는 집계 구간과 무관하게 삭제되지 않은 최신 메시지")
+    void summarizeRooms_LastMessageOutsideWindow() {
+        String roomId = saveRoom();
+        saveMessage(roomId, OTHER_ID, now.minusDays(30), false);
+        Message latest = saveMessage(roomId, OTHER_ID, now.minusDays(20), false);
+        saveMessage(roomId, OTHER_ID, now.minusDays(10), true);
+
+        RoomMessageSummary summary = summarize(List.of(roomId)).get(roomId);
+
+        assertThat(summary.getLastMessage().getId()).isEqualTo(latest.getId());
+        assertThat(summary.getUnreadCount()).isZero();
+        assertThat(summary.getRecentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("안 읽은 메시지는 구간 안에서 다른 사용자가 보내고 읽지 않은 메시지만 센다")
+    void summarizeRooms_CountsUnreadWithinWindow() {
+        String roomId = saveRoom();
+        saveMessage(roomId, OTHER_ID, now.minusDays(8), false);
+        saveMessage(roomId, OTHER_ID, now.minusDays(2), false);
+        saveMessage(roomId, USER_ID, now.minusDays(1), false);
+        Message read = saveMessage(roomId, OTHER_ID, now.minusHours(1), false);
+        read.getReaders().put(USER_ID, now);
+        mongoTemplate.save(read);
+        saveMessage(roomId, OTHER_ID, now.minusMinutes(1), false);
+
+        RoomMessageSummary summary = summarize(List.of(roomId)).get(roomId);
+
+        assertThat(summary.getUnreadCount()).isEqualTo(2);
+        assertThat(summary.getRecentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("메시지가 없는 방은 빈 요약, 없는 방은 결과에서 제외")
+    void summarizeRooms_EmptyAndMissingRooms() {
+        String emptyRoomId = saveRoom();
+        String missingRoomId = new ObjectId().toString();
+
+        Map<String, RoomMessageSummary> summaries = summarize(List.of(emptyRoomId, missingRoomId));
+
+        assertThat(summaries).containsOnlyKeys(emptyRoomId);
+        assertThat(summaries.get(emptyRoomId).getLastMessage()).isNull();
+        assertThat(summaries.get(emptyRoomId).getUnreadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("복사 후 삭제 전에 중단된 배치는 다시 실행하면 중복이나 누락 없이 이어진다")
+    void archiveMessageBatch_ResumesInterruptedBatch() {
+        String roomId = saveRoom();
+        String otherRoomId = saveRoom();
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(saveMessage(roomId, OTHER_ID, now.minusMinutes(i), false).getId());
+        }
+        saveMessage(otherRoomId, OTHER_ID, now, false);
+        MongoCollection<Document> messages = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Message.class));
+        MongoCollection<Document> archive = mongoTemplate.getCollection(MESSAGES_ARCHIVE);
+        // 이전 실행이 첫 배치를 복사만 하고 deleteMany 전에 중단된 상태
+        messages.find(new Document("room", roomId)).limit(2).forEach(archive::insertOne);
+
+        int moved = 0;
+        ArchivedBatch batch;
+        do {
+            batch = messageRepositoryCustom.archiveMessageBatch(roomId, 2);
+            moved += batch.count();
+        } while (batch.count() > 0);
+
+        assertThat(moved).isEqualTo(5);
+        assertThat(messages.countDocuments(new Document("room", roomId))).isZero();
+        assertThat(messages.countDocuments(new Document("room", otherRoomId))).isEqualTo(1);
+        assertThat(archive.find().map(document -> document.get("_id").toString()).into(new ArrayList<>()))
+                .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private Map<String, RoomMessageSummary> summarize(List<String> roomIds) {
+        return messageRepositoryCustom.summarizeRooms(roomIds, USER_ID, now.minusMinutes(10), now.minusDays(7))
+                .stream()
+                .collect(Collectors.toMap(RoomMessageSummary::getRoomId, Function.identity()));
+    }
+
+    private String saveRoom() {
+        return mongoTemplate.insert(Room.builder().name("room").createdAt(now).build()).getId();
+    }
+
+    private Message saveMessage(String roomId, String senderId, LocalDateTime timestamp, boolean deleted) {
+        // ID를 지정해 저장해야 @CreatedDate가 timestamp를 덮어쓰지 않는다
+        return mongoTemplate.save(Message.builder()
+                .id(new ObjectId().toString())
+                .roomId(roomId)
+                .senderId(senderId)
+                .content("hello")
+                .timestamp(timestamp)
+                .isDeleted(deleted)
+                .build());
+    }
+}
@@ -0,0 +1,128 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.util.NGramTokenizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 방 이름 검색 벤치마크 (정규식 전체 스캔 vs n-gram 멀티키 인덱스).
+ * 데이터 적재에 시간이 오래 걸리므로 -Dbenchmark=true 일 때만 실행한다.
+ */
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RoomNameSearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "부트캠프", "채팅방", "스터디", "알고리즘", "프론트엔드", "백엔드", "취업", "잡담",
+            "spring", "react", "java", "kotlin", "devops", "design", "study", "lounge"
+    };
+    private static final List<String> QUERIES = List.of("채팅", "알고리즘 스터디", "Spring", "react 부트", "devops");
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 20;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), Room.class);
+    }
+
+    @ParameterizedTest(name = "{0} rooms")
+    @ValueSource(ints = {100_000, 1_000_000})
+    @DisplayName("n-gram 인덱스 검색과 정규식 검색의 지연 시간 비교")
+    void compareSearchLatency(int roomCount) {
+        seedRooms(roomCount);
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+        for (String keyword : QUERIES) {
+            // 워밍업
+            Page<Room> ranked = roomRepository.searchByName(keyword, pageable);
+            List<Room> regexMatches = regexSearch(keyword, pageable);
+
+            long regexNanos = measure(() -> regexSearch(keyword, pageable));
+            long gramNanos = measure(() -> roomRepository.searchByName(keyword, pageable));
+
+            System.out.printf("rooms=%d query='%s' - regex: %d us, ngram: %d us (total=%d)%n",
+                    roomCount, keyword, regexNanos / 1_000, gramNanos / 1_000, ranked.getTotalElements());
+
+            // 부분 문자열이 일치하는 방은 gram 검색에서도 누락되지 않고 상위에 온다
+            if (!regexMatches.isEmpty()) {
+                assertThat(ranked.getTotalElements()).isGreaterThanOrEqualTo(regexMatches.size());
+                assertThat(ranked.getContent().get(0).getName().toLowerCase())
+                        .contains(keyword.toLowerCase());
+            }
+        }
+    }
+
+    private List<Room> regexSearch(String keyword, PageRequest pageable) {
+        Query query = new Query(Criteria.where("name")
+                .regex(Pattern.quote(keyword), "i")).with(pageable);
+        return mongoTemplate.find(query, Room.class);
+    }
+
+    private long measure(Runnable search) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.run();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    private void seedRooms(int roomCount) {
+        Random random = new Random(42);
+        String collection = mongoTemplate.getCollectionName(Room.class);
+        LocalDateTime base = LocalDateTime.now();
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (int i = 0; i < roomCount; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " "
+                    + WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(1000);
+            batch.add(new Document("name", name)
+                    .append("nameGrams", NGramTokenizer.indexGrams(name))
+                    .append("nameKey", NGramTokenizer.normalize(name))
+                    .append("creator", "benchmark")
+                    .append("hasPassword", false)
+                    .append("participantIds", List.of())
+                    .append("createdAt", base.minusSeconds(i)));
+            if (batch.size() == BATCH_SIZE) {
+                mongoTemplate.getCollection(collection).insertMany(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            mongoTemplate.getCollection(collection).insertMany(batch);
+        }
+    }
+}
@@ -0,0 +1,521 @@
+package com.ktb.chatapp.repository;
+
+import com.ktb.chatapp.config.MongoTestContainer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.service.RoomListCursor;
+import com.ktb.chatapp.util.NGramTokenizer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest
+@Import(MongoTestContainer.class)
+@TestPropertySource(properties = {
+        "spring.data.mongodb.auto-index-creation=true",
+        "socketio.enabled=false"
+})
+@DisplayName("RoomRepositoryCustomImpl 통합 테스트")
+class RoomRepositoryCustomImplTest {
+
+    private static final String ROOMS_ARCHIVE = "rooms_archive";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @AfterEach
+    void tearDown() {
+        mongoTemplate.remove(new Query(), Room.class);
+        mongoTemplate.remove(new Query(), User.class);
+        mongoTemplate.dropCollection(ROOMS_ARCHIVE);
+    }
+
+    @Test
+    @DisplayName("참가자 추가/제거 시 요약도 함께 추가/제거된다")
+    void addAndRemoveParticipant_MaintainSummaries() {
+        User creator = saveUser("creator");
+        User member = saveUser("member");
+        Room room = saveRoom(creator);
+
+        assertThat(roomRepository.addParticipant(room.getId(), member)).isPresent();
+        assertThat(roomRepository.addParticipant(room.getId(), member)).isEmpty();
+        Room joined = roomRepository.findById(room.getId()).orElseThrow();
+        assertThat(joined.getParticipantSummaries())
+                .extracting(Room.MemberSummary::getUserId)
+                .containsExactly(creator.getId(), member.getId());
+        assertThat(joined.hasMemberSummaries()).isTrue();
+
+        assertThat(roomRepository.removeParticipant(room.getId(), member.getId())).isPresent();
+        Room left = roomRepository.findById(room.getId()).orElseThrow();
+        assertThat(left.getParticipantSummaries())
+                .extracting(Room.MemberSummary::getUserId)
+                .containsExactly(creator.getId());
+        assertThat(left.hasMemberSummaries()).isTrue();
+    }
+
+    @Test
+    @DisplayName("프로필 변경 시 생성자/참가자 요약이 갱신된다")
+    void refreshMemberSummary_UpdatesCreatorAndParticipant() {
+        User creator = saveUser("creator");
+        Room room = saveRoom(creator);
+
+        creator.setName("renamed");
+        creator.setProfileImage("/images/new.png");
+        roomRepository.refreshMemberSummary(creator);
+
+        Room refreshed = roomRepository.findById(room.getId()).orElseThrow();
+        assertThat(refreshed.getCreatorSummary().getName()).isEqualTo("renamed");
+        assertThat(refreshed.getParticipantSummaries())
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.getName()).isEqualTo("renamed");
+                    assertThat(summary.getProfileImage()).isEqualTo("/images/new.png");
+                });
+    }
+
+    @Test
+    @DisplayName("요약이 없거나 일부만 있는 이전 방의 요약을 백필한다")
+    void backfillMemberSummaries_FillsLegacyRooms() {
+        User creator = saveUser("creator");
+        User member = saveUser("member");
+        String deletedUserId = new ObjectId().toString();
+        ObjectId legacyId = insertLegacyRoom(creator, List.of(creator.getId(), member.getId(), deletedUserId), null);
+        // 요약 도입 후 한 명만 참가해 요약이 일부만 있는 방
+        ObjectId partialId = insertLegacyRoom(creator, List.of(creator.getId(), member.getId()),
+                List.of(new Document("userId", member.getId()).append("name", member.getName())));
+
+        assertThat(roomRepository.backfillMemberSummaries(10)).isEqualTo(2);
+        assertThat(roomRepository.backfillMemberSummaries(10)).isZero();
+
+        Room legacy = roomRepository.findById(legacyId.toString()).orElseThrow();
+        assertThat(legacy.hasMemberSummaries()).isTrue();
+        assertThat(legacy.getCreatorSummary().getName()).isEqualTo("creator");
+        assertThat(legacy.getParticipantSummaries())
+                .extracting(Room.MemberSummary::getUserId, Room.MemberSummary::getName)
+                .containsExactlyInAnyOrder(
+                        tuple(creator.getId(), "creator"),
+                        tuple(member.getId(), "member"),
+                        tuple(deletedUserId, null));
+
+        Room partial = roomRepository.findById(partialId.toString()).orElseThrow();
+        assertThat(partial.hasMemberSummaries()).isTrue();
+        assertThat(partial.getParticipantSummaries()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("요약이 맞는 방은 백필 대상이 아니다")
+    void backfillMemberSummaries_SkipsCurrentRooms() {
+        saveRoom(saveUser("creator"));
+
+        assertThat(roomRepository.backfillMemberSummaries(10)).isZero();
+    }
+
+    @Test
+    @DisplayName("참가자 추가/제거 시 참가자 수가 participantIds 크기와 같게 유지된다")
+    void addAndRemoveParticipant_KeepCountInSync() {
+        User creator = saveUser("creator");
+        User first = saveUser("first");
+        User second = saveUser("second");
+        Room room = saveRoom(creator);
+
+        roomRepository.addParticipant(room.getId(), first);
+        roomRepository.addParticipant(room.getId(), second);
+        assertCountMatchesParticipants(room.getId(), 3);
+
+        roomRepository.removeParticipant(room.getId(), first.getId());
+        assertCountMatchesParticipants(room.getId(), 2);
+    }
+
+    @Test
+    @DisplayName("같은 참가자의 중복 추가/제거는 참가자 수를 어긋나게 하지 않는다")
+    void repeatedAddAndRemove_DoesNotDriftCount() {
+        User creator = saveUser("creator");
+        User member = saveUser("member");
+        Room room = saveRoom(creator);
+
+        for (int i = 0; i < 3; i++) {
+            roomRepository.addParticipant(room.getId(), member);
+            roomRepository.addParticipant(room.getId(), member);
+            assertCountMatchesParticipants(room.getId(), 2);
+
+            roomRepository.removeParticipant(room.getId(), member.getId());
+            roomRepository.removeParticipant(room.getId(), member.getId());
+            assertCountMatchesParticipants(room.getId(), 1);
+        }
+    }
+
+    @Test
+    @DisplayName("참가자 수 보정은 값이 없거나 어긋난 방만 participantIds 크기로 맞춘다")
+    void reconcileParticipantCounts_FixesMissingAndMismatchedCounts() {
+        ObjectId missing = insertCountedRoom(List.of("a", "b", "c"), null);
+        ObjectId mismatched = insertCountedRoom(List.of("a", "b"), 5);
+        ObjectId correct = insertCountedRoom(List.of("a"), 1);
+        // 보정 전 $inc는 필드가 없는 방에서 0부터 세므로 실제 참가자 수와 어긋난다
+        roomRepository.addParticipant(missing.toString(), saveUser("late"));
+        assertThat(roomRepository.findById(missing.toString()).orElseThrow().getParticipantCount()).isEqualTo(1);
+
+        assertThat(roomRepository.reconcileParticipantCounts()).isEqualTo(2);
+        assertThat(roomRepository.reconcileParticipantCounts()).isZero();
+
+        assertCountMatchesParticipants(missing.toString(), 4);
+        assertCountMatchesParticipants(mismatched.toString(), 2);
+        assertCountMatchesParticipants(correct.toString(), 1);
+    }
+
+    @Test
+    @DisplayName("참가자 수 정렬 키셋 페이지는 같은 값이 많아도 빠짐이나 중복 없이 이어진다")
+    void findRoomsAfter_PagesByParticipantCount() {
+        List<Room> rooms = new ArrayList<>();
+        for (int count : new int[] {3, 1, 3, 2, 3, 1, 0, 2, 3}) {
+            List<String> participantIds = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                participantIds.add("user-" + i);
+            }
+            rooms.add(roomRepository.findById(insertCountedRoom(participantIds, count).toString()).orElseThrow());
+        }
+
+        Comparator<Room> ascending = Comparator.comparingInt(Room::getParticipantCount).thenComparing(Room::getId);
+        assertThat(pageAll("participantsCount", Sort.Direction.DESC, 2))
+                .containsExactlyElementsOf(ids(rooms, ascending.reversed()));
+        assertThat(pageAll("participantsCount", Sort.Direction.ASC, 2))
+                .containsExactlyElementsOf(ids(rooms, ascending));
+    }
+
+    @Test
+    @DisplayName("생성일 정렬 키셋 페이지는 같은 값과 값이 없는 방이 섞여도 빠짐이나 중복 없이 이어진다")
+    void findRoomsAfter_PagesByCreatedAtWithDuplicatesAndNulls() {
+        Date early = Date.from(Instant.parse("2025-01-01T00:00:00Z"));
+        Date late = Date.from(Instant.parse("2025-01-02T00:00:00Z"));
+        List<Room> rooms = new ArrayList<>();
+        for (Date createdAt : new Date[] {late, null, early, late, null, early, late, null, early}) {
+            rooms.add(roomRepository.findById(insertSortableRoom("room", createdAt).toString()).orElseThrow());
+        }
+
+        // MongoDB는 값이 없는 방을 가장 작은 값으로 정렬한다
+        Comparator<Room> ascending = Comparator
+                .comparing(Room::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Room::getId);
+        for (int pageSize : new int[] {1, 2, 4}) {
+            assertThat(pageAll("createdAt", Sort.Direction.DESC, pageSize))
+                    .containsExactlyElementsOf(ids(rooms, ascending.reversed()));
+            assertThat(pageAll("createdAt", Sort.Direction.ASC, pageSize))
+                    .containsExactlyElementsOf(ids(rooms, ascending));
+        }
+    }
+
+    @Test
+    @DisplayName("이름 정렬 키셋 페이지는 같은 이름과 이름이 없는 방이 섞여도 빠짐이나 중복 없이 이어진다")
+    void findRoomsAfter_PagesByNameWithDuplicatesAndNulls() {
+        Date createdAt = Date.from(Instant.parse("2025-01-01T00:00:00Z"));
+        List<Room> rooms = new ArrayList<>();
+        for (String name : new String[] {"beta", null, "alpha", "beta", null, "alpha", "beta|x", "alpha"}) {
+            rooms.add(roomRepository.findById(insertSortableRoom(name, createdAt).toString()).orElseThrow());
+        }
+
+        // MongoDB는 값이 없는 방을 가장 작은 값으로 정렬한다
+        Comparator<Room> ascending = Comparator
+                .comparing(Room::getName, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Room::getId);
+        for (int pageSize : new int[] {1, 2, 3}) {
+            assertThat(pageAll("name", Sort.Direction.DESC, pageSize))
+                    .containsExactlyElementsOf(ids(rooms, ascending.reversed()));
+            assertThat(pageAll("name", Sort.Direction.ASC, pageSize))
+                    .containsExactlyElementsOf(ids(rooms, ascending));
+        }
+    }
+
+    @Test
+    @DisplayName("회수 대상 선택 이후 참가자가 들어온 방은 삭제되지 않고 보관본도 남지 않는다")
+    void archiveRoomIfReclaimable_SkipsRoomJoinedAfterSelection() {
+        User late = saveUser("late");
+        Room room = saveReclaimableRoom();
+
+        RoomRepositoryCustomImpl racing = racingRepository(() -> roomRepository.addParticipant(room.getId(), late));
+
+        assertThat(archive(racing, room)).isEmpty();
+        assertThat(roomRepository.findById(room.getId()).orElseThrow().getParticipantCount()).isEqualTo(1);
+        assertThat(archivedRoom(room.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("회수 대상 선택 이후 활동이 생긴 방은 삭제되지 않는다")
+    void archiveRoomIfReclaimable_SkipsRoomActiveAfterSelection() {
+        Room room = saveReclaimableRoom();
+
+        RoomRepositoryCustomImpl racing = racingRepository(
+                () -> roomRepository.touchLastActivity(List.of(room.getId()), LocalDateTime.now()));
+
+        assertThat(archive(racing, room)).isEmpty();
+        assertThat(roomRepository.existsById(room.getId())).isTrue();
+        assertThat(archivedRoom(room.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("회수 조건은 그대로여도 멤버십 버전이 바뀐 방은 삭제되지 않는다")
+    void archiveRoomIfReclaimable_SkipsRoomWithChangedVersion() {
+        Room room = saveReclaimableRoom();
+
+        // 활동 시각을 바꾸지 않은 멤버십 변경 (참가 후 곧바로 나가 다시 빈 방이 된 경우의 버전 변화)
+        RoomRepositoryCustomImpl racing = racingRepository(() -> mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(room.getId())),
+                new Update().inc("participantsVersion", 2),
+                Room.class));
+
+        assertThat(archive(racing, room)).isEmpty();
+        assertThat(roomRepository.existsById(room.getId())).isTrue();
+        assertThat(archivedRoom(room.getId())).isNull();
+    }
+
+    @Test
+    @DisplayName("보관본은 원본 삭제 전에 미완료 상태로 먼저 기록된다")
+    void archiveRoomIfReclaimable_WritesArchiveBeforeDelete() {
+        Room room = saveReclaimableRoom();
+        AtomicReference<Document> archivedBeforeDelete = new AtomicReference<>();
+
+        RoomRepositoryCustomImpl observed = racingRepository(
+                () -> archivedBeforeDelete.set(archivedRoom(room.getId())));
+
+        assertThat(archive(observed, room)).isPresent();
+        assertThat(archivedBeforeDelete.get()).isNotNull().containsEntry("messagesArchived", false);
+        assertThat(roomRepository.existsById(room.getId())).isFalse();
+        assertThat(archivedRoom(room.getId())).containsEntry("name", "reclaimable");
+    }
+
+    @Test
+    @DisplayName("마지막 활동 시각은 더 이른 시각으로 갱신해도 뒤로 가지 않는다")
+    void touchLastActivity_NeverMovesBackwards() {
+        Room room = saveReclaimableRoom();
+        LocalDateTime base = room.getLastActivityAt();
+
+        roomRepository.touchLastActivity(List.of(room.getId()), base.minusMinutes(30));
+        assertThat(roomRepository.findById(room.getId()).orElseThrow().getLastActivityAt()).isEqualTo(base);
+
+        roomRepository.touchLastActivity(List.of(room.getId()), base.plusMinutes(30));
+        assertThat(roomRepository.findById(room.getId()).orElseThrow().getLastActivityAt())
+                .isEqualTo(base.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("포함/접두 일치 가산점은 전각 문자와 공백을 gram과 같은 규칙으로 정규화해 판정한다")
+    void searchByName_NormalizesContainsBonus() {
+        String fullWidth = saveNamedRoom("Ｓｐｒｉｎｇ스터디");
+        String spaced = saveNamedRoom("자바 spring 스터디");
+
+        Page<Room> result = roomRepository.searchByName("Spring 스터디", PageRequest.of(0, 10));
+
+        // 둘 다 포함 가산점을 받고, 접두 일치인 전각 이름이 앞선다
+        assertThat(result.getContent()).extracting(Room::getId).containsExactly(fullWidth, spaced);
+    }
+
+    @Test
+    @DisplayName("짧은 검색어는 gram 일부만 일치하는 방을 결과와 전체 개수에 포함하지 않는다")
+    void searchByName_RequiresAllGramsForShortQueries() {
+        String exact = saveNamedRoom("KTB 부트캠프");
+        String spaced = saveNamedRoom("부트 캠프 모임");
+        saveNamedRoom("부트캠핑 모임");
+
+        Page<Room> result = roomRepository.searchByName("부트캠프", PageRequest.of(0, 10));
+
+        assertThat(result.getContent()).extracting(Room::getId).containsExactlyInAnyOrder(exact, spaced);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("점수가 같은 검색 결과도 페이지 사이에 빠짐이나 중복 없이 이어진다")
+    void searchByName_PagesStablyWithTiedScores() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(saveNamedRoom("스터디"));
+        }
+
+        List<String> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            roomRepository.searchByName("스터디", PageRequest.of(page, 2)).getContent()
+                    .forEach(room -> paged.add(room.getId()));
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected.stream().sorted().toList());
+    }
+
+    @Test
+    @DisplayName("정규화 이름이 없는 이전 방도 백필 후 검색 가산점을 받는다")
+    void backfillNameGrams_FillsMissingNameKey() {
+        ObjectId legacyId = new ObjectId();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class)).insertOne(
+                new Document("_id", legacyId)
+                        .append("name", "Spring 스터디")
+                        .append("nameGrams", NGramTokenizer.indexGrams("Spring 스터디")));
+
+        assertThat(roomRepository.backfillNameGrams(10)).isEqualTo(1);
+        assertThat(roomRepository.backfillNameGrams(10)).isZero();
+        assertThat(roomRepository.findById(legacyId.toString()).orElseThrow().getNameKey())
+                .isEqualTo("spring스터디");
+    }
+
+    /**
+     * 참가자 없이 유예 시간이 지난 방 (빈 방 회수 대상)
+     */
+    private Room saveReclaimableRoom() {
+        return mongoTemplate.insert(Room.builder()
+                .name("reclaimable")
+                .lastActivityAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS).minusHours(2))
+                .build());
+    }
+
+    private OptionalLong archive(RoomRepositoryCustomImpl repository, Room room) {
+        LocalDateTime now = LocalDateTime.now();
+        return repository.archiveRoomIfReclaimable(room.getId(), now.minusHours(1), now.minusDays(90));
+    }
+
+    /**
+     * 조회와 조건부 삭제 사이에 다른 요청이 끼어드는 상황을 재현하는 저장소
+     */
+    private RoomRepositoryCustomImpl racingRepository(Runnable beforeDelete) {
+        MongoTemplate racingTemplate = spy(mongoTemplate);
+        doAnswer(invocation -> {
+            beforeDelete.run();
+            return invocation.callRealMethod();
+        }).when(racingTemplate).remove(any(Query.class), eq(Room.class));
+        return new RoomRepositoryCustomImpl(racingTemplate);
+    }
+
+    private Document archivedRoom(String roomId) {
+        return mongoTemplate.getCollection(ROOMS_ARCHIVE).find(new Document("_id", new ObjectId(roomId))).first();
+    }
+
+    private void assertCountMatchesParticipants(String roomId, int expected) {
+        Room room = roomRepository.findById(roomId).orElseThrow();
+        assertThat(room.getParticipantIds()).hasSize(expected);
+        assertThat(room.getParticipantCount()).isEqualTo(expected);
+    }
+
+    /**
+     * 서비스와 같이 커서를 인코딩/디코딩하며 마지막 페이지까지 조회한 방 ID 목록
+     */
+    private List<String> pageAll(String sortField, Sort.Direction direction, int pageSize) {
+        String mongoField = "participantsCount".equals(sortField) ? "participantCount" : sortField;
+        String sortOrder = direction.isDescending() ? "desc" : "asc";
+        List<String> ids = new ArrayList<>();
+        RoomListCursor cursor = null;
+        for (int pages = 0; pages < 100; pages++) {
+            List<Room> page = roomRepository.findRoomsAfter(mongoField, direction,
+                    cursor != null ? cursor.sortValue() : null,
+                    cursor != null ? cursor.lastId() : null,
+                    pageSize);
+            page.forEach(room -> ids.add(room.getId()));
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            String encoded = RoomListCursor.after(sortField, sortOrder, page.get(page.size() - 1)).encode();
+            cursor = RoomListCursor.decode(encoded).orElseThrow();
+        }
+        throw new AssertionError("페이지가 끝나지 않음: " + ids);
+    }
+
+    private static List<String> ids(List<Room> rooms, Comparator<Room> order) {
+        return rooms.stream().sorted(order).map(Room::getId).toList();
+    }
+
+    private ObjectId insertCountedRoom(List<String> participantIds, Integer participantCount) {
+        ObjectId id = new ObjectId();
+        Document room = new Document("_id", id)
+                .append("name", "counted")
+                .append("participantIds", participantIds);
+        if (participantCount != null) {
+            room.append("participantCount", participantCount);
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class)).insertOne(room);
+        return id;
+    }
+
+    /**
+     * 정렬 키가 없을 수 있는 방 (null이면 필드를 저장하지 않는다)
+     */
+    private ObjectId insertSortableRoom(String name, Date createdAt) {
+        ObjectId id = new ObjectId();
+        Document room = new Document("_id", id).append("participantIds", List.of());
+        if (name != null) {
+            room.append("name", name);
+        }
+        if (createdAt != null) {
+            room.append("createdAt", createdAt);
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class)).insertOne(room);
+        return id;
+    }
+
+    private String saveNamedRoom(String name) {
+        return mongoTemplate.insert(Room.builder()
+                .name(name)
+                .nameGrams(NGramTokenizer.indexGrams(name))
+                .nameKey(NGramTokenizer.normalize(name))
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    private User saveUser(String name) {
+        return mongoTemplate.insert(User.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .password("password")
+                .profileImage("")
+                .build());
+    }
+
+    private Room saveRoom(User creator) {
+        Room room = Room.builder()
+                .name("room")
+                .creator(creator.getId())
+                .createdAt(LocalDateTime.now())
+                .creatorSummary(Room.MemberSummary.from(creator))
+                .build();
+        room.addParticipant(creator.getId());
+        room.getParticipantSummaries().add(Room.MemberSummary.from(creator));
+        return mongoTemplate.insert(room);
+    }
+
+    private ObjectId insertLegacyRoom(User creator, List<String> participantIds, List<Document> summaries) {
+        ObjectId id = new ObjectId();
+        Document room = new Document("_id", id)
+                .append("name", "legacy")
+                .append("creator", creator.getId())
+                .append("participantIds", participantIds);
+        if (summaries != null) {
+            room.append("participantSummaries", summaries).append("participantsVersion", 1L);
+        }
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(Room.class)).insertOne(room);
+        return id;
+    }
+}
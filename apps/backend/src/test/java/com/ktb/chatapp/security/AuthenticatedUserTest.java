@@ -0,0 +1,47 @@
+package com.ktb.chatapp.security;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("AuthenticatedUser 단위 테스트")
+class AuthenticatedUserTest {
+
+    @Test
+    @DisplayName("JWT 인증 토큰의 details에서 호출자 정보를 만든다")
+    void from_ReadsVerifiedClaimsFromDetails() {
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("test@example.com")
+                .issuedAt(Instant.now())
+                .build();
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(jwt, List.of(), "test@example.com");
+        authentication.setDetails(Map.of(
+                "userId", "user-123",
+                "sessionId", "session-456",
+                "email", "test@example.com"));
+
+        AuthenticatedUser caller = AuthenticatedUser.from(authentication);
+
+        assertThat(caller).isEqualTo(new AuthenticatedUser("user-123", "test@example.com", "session-456"));
+    }
+
+    @Test
+    @DisplayName("JWT 인증 정보가 아니면 예외가 발생한다")
+    void from_RejectsAuthenticationWithoutClaims() {
+        assertThatThrownBy(() -> AuthenticatedUser.from(null))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+        assertThatThrownBy(() -> AuthenticatedUser.from(
+                new UsernamePasswordAuthenticationToken("test@example.com", null, List.of())))
+                .isInstanceOf(AuthenticationCredentialsNotFoundException.class);
+    }
+}
@@ -0,0 +1,97 @@
+package com.ktb.chatapp.security;
+
+import com.ktb.chatapp.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BoundedPasswordEncoder 단위 테스트")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("해시와 검증은 전용 풀에서 실행되고 소요 시간이 기록된다")
+    void encodeAndMatches_RunOnWorkerPool() {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(null), 2, 4, 1, meterRegistry);
+
+        assertThat(encoder.encode("secret")).isEqualTo("{plain}secret");
+        assertThat(encoder.matches("secret", "{plain}secret")).isTrue();
+        assertThat(encoder.matches("wrong", "{plain}secret")).isFalse();
+
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("auth.password.hash").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("auth.password.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 즉시 거절한다")
+    void encode_RejectsWhenQueueIsFull() throws Exception {
+        encoder = new BoundedPasswordEncoder(new PlainEncoder(release), 1, 1, 3, meterRegistry);
+
+        // 작업 하나는 실행 중, 하나는 대기열에 있는 상태를 만든다
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        waitUntil(() -> meterRegistry.get("auth.password.queue.wait").timer().count() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntil(() -> meterRegistry.get("auth.password.queue.size").gauge().value() == 1.0);
+
+        assertThatThrownBy(() -> encoder.encode("c"))
+                .isInstanceOfSatisfying(PasswordHashingBusyException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.get("auth.password.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(2, TimeUnit.SECONDS)).isEqualTo("{plain}a");
+        assertThat(queued.get(2, TimeUnit.SECONDS)).isEqualTo("{plain}b");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition timeout").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 해시 대신 접두어만 붙이는 인코더, latch가 있으면 해제될 때까지 대기한다
+     */
+    private record PlainEncoder(CountDownLatch gate) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            if (gate != null) {
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "{plain}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
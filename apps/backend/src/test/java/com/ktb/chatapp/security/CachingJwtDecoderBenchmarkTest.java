@@ -0,0 +1,110 @@
+package com.ktb.chatapp.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검증된 JWT 캐시 벤치마크 (NimbusJwtDecoder 직접 호출 vs CachingJwtDecoder).
+ * 여러 스레드가 같은 사용자 토큰을 반복 검증할 때의 요청당 CPU 시간과 캐시 적중/실패 수를 비교한다.
+ * -Dbenchmark=true 일 때만 실행하며, 사용자 수는 -Dbenchmark.users 로 조정할 수 있다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CachingJwtDecoderBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.users", 5_000);
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+    private static final int DECODES_PER_THREAD = 200_000;
+    private static final int ROUNDS = 3;
+    private static final byte[] SECRET = "benchmark-secret-benchmark-secret-0123456789".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void cpuPerDecode() throws Exception {
+        SecretKeySpec key = new SecretKeySpec(SECRET, "HmacSHA256");
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableSecret<>(key));
+        List<String> tokens = new ArrayList<>(USERS);
+        Instant now = Instant.now();
+        for (int i = 0; i < USERS; i++) {
+            tokens.add(encoder.encode(JwtEncoderParameters.from(
+                    JwsHeader.with(MacAlgorithm.HS256).build(),
+                    JwtClaimsSet.builder()
+                            .subject("user" + i + "@example.com")
+                            .issuedAt(now)
+                            .expiresAt(now.plusSeconds(3600))
+                            .claim("sessionId", UUID.randomUUID().toString())
+                            .claim("userId", "user-" + i)
+                            .build())).getTokenValue());
+        }
+
+        JwtDecoder nimbus = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CachingJwtDecoder caching = new CachingJwtDecoder(nimbus, registry);
+
+        double nimbusNanos = run("NimbusJwtDecoder", nimbus, tokens);
+        double cachingNanos = run("CachingJwtDecoder", caching, tokens);
+
+        double hits = registry.get("jwt.decode.cache").tag("result", "hit").counter().count();
+        double misses = registry.get("jwt.decode.cache").tag("result", "miss").counter().count();
+        System.out.printf("users=%d threads=%d cpu: %.0f -> %.0f ns/decode, cache hit=%.0f miss=%.0f (%.2f%%)%n",
+                USERS, THREADS, nimbusNanos, cachingNanos, hits, misses, hits * 100 / (hits + misses));
+        assertThat(cachingNanos).isLessThan(nimbusNanos);
+    }
+
+    /**
+     * 워밍업 라운드 후 가장 적은 요청당 CPU 시간(모든 작업 스레드 합계 기준)을 기록한다
+     */
+    private double run(String label, JwtDecoder decoder, List<String> tokens) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        double best = Double.MAX_VALUE;
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                List<Future<Long>> results = new ArrayList<>();
+                for (int t = 0; t < THREADS; t++) {
+                    int offset = t * 7919;
+                    results.add(executor.submit(() -> {
+                        long start = threads.getCurrentThreadCpuTime();
+                        for (int i = 0; i < DECODES_PER_THREAD; i++) {
+                            decoder.decode(tokens.get((offset + i) % tokens.size()));
+                        }
+                        return threads.getCurrentThreadCpuTime() - start;
+                    }));
+                }
+                long cpuNanos = 0;
+                for (Future<Long> result : results) {
+                    cpuNanos += result.get();
+                }
+                double perDecode = (double) cpuNanos / ((long) THREADS * DECODES_PER_THREAD);
+                if (round > 0) {
+                    best = Math.min(best, perDecode);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.printf("%-20s cpu=%.0f ns/decode%n", label, best);
+        return best;
+    }
+}
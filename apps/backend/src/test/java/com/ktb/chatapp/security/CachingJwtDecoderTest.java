@@ -0,0 +1,123 @@
+package com.ktb.chatapp.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CachingJwtDecoder 단위 테스트")
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+
+    @Test
+    @DisplayName("검증된 토큰은 만료 전까지 다시 검증하지 않는다")
+    void decode_ReusesVerifiedTokenUntilExpiry() {
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+
+        CachingJwtDecoder decoder = decoderAt(NOW);
+
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+        assertThat(decoder.decode("token")).isSameAs(jwt);
+
+        verify(delegate, times(1)).decode("token");
+    }
+
+    @Test
+    @DisplayName("만료된 캐시 항목은 원본 디코더로 다시 검증한다")
+    void decode_RevalidatesExpiredEntry() {
+        when(delegate.decode("token")).thenReturn(jwt(NOW.plusSeconds(60)));
+        MutableClock clock = new MutableClock(NOW);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, new SimpleMeterRegistry(), clock);
+
+        decoder.decode("token");
+        clock.now = NOW.plusSeconds(61);
+        decoder.decode("token");
+
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 토큰은 캐시하지 않는다")
+    void decode_DoesNotCacheFailures() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid"));
+        CachingJwtDecoder decoder = decoderAt(NOW);
+
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+        assertThatThrownBy(() -> decoder.decode("bad")).isInstanceOf(BadJwtException.class);
+
+        verify(delegate, times(2)).decode("bad");
+    }
+
+    @Test
+    @DisplayName("항목 수가 상한을 넘으면 먼저 들어온 토큰부터 제거한다")
+    void decode_EvictsInInsertionOrderWhenFull() {
+        when(delegate.decode(anyString())).thenReturn(jwt(NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = decoderAt(NOW);
+
+        for (int i = 0; i <= 10_000; i++) {
+            decoder.decode("token-" + i);
+        }
+        decoder.decode("token-10000");
+        decoder.decode("token-0");
+
+        verify(delegate, times(1)).decode("token-10000");
+        verify(delegate, times(2)).decode("token-0");
+    }
+
+    private CachingJwtDecoder decoderAt(Instant now) {
+        return new CachingJwtDecoder(delegate, new SimpleMeterRegistry(), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("user@test.com")
+                .claim("userId", "user-1")
+                .claim("sessionId", "session-1")
+                .issuedAt(NOW.minusSeconds(1))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
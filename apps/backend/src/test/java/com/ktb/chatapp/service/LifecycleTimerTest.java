@@ -0,0 +1,74 @@
+package com.ktb.chatapp.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.Timeout;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LifecycleTimer 단위 테스트")
+class LifecycleTimerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LifecycleTimer lifecycleTimer = new LifecycleTimer(meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        lifecycleTimer.shutdown();
+    }
+
+    @Test
+    @DisplayName("예약한 작업은 지연 후 실행되고 작업 종류별로 집계된다")
+    void schedule_RunsActionAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        lifecycleTimer.schedule("test", Duration.ofMillis(200), latch::countDown);
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("lifecycle.timers.fired").tag("purpose", "test").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 종류의 작업은 하나의 카운터로 집계된다")
+    void schedule_SharesCounterPerPurpose() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+
+        for (int i = 0; i < 3; i++) {
+            lifecycleTimer.schedule("test", Duration.ofMillis(100), latch::countDown);
+        }
+
+        assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("lifecycle.timers.fired").counters()).hasSize(1);
+        assertThat(meterRegistry.get("lifecycle.timers.fired").tag("purpose", "test").counter().count())
+                .isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("취소한 작업은 실행되지 않는다")
+    void schedule_CancelledActionDoesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+
+        Timeout timeout = lifecycleTimer.schedule("test", Duration.ofMillis(200), runs::incrementAndGet);
+        assertThat(timeout.cancel()).isTrue();
+
+        Thread.sleep(500);
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업 수를 게이지로 노출한다")
+    void pendingGauge_ReportsScheduledActions() {
+        for (int i = 0; i < 1_000; i++) {
+            lifecycleTimer.schedule("test", Duration.ofMinutes(1), () -> { });
+        }
+
+        assertThat(meterRegistry.get("lifecycle.timers.pending").gauge().value()).isEqualTo(1_000.0);
+    }
+}
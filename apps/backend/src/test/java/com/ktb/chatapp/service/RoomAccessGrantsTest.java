@@ -0,0 +1,182 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.RedissonCodecs;
+import com.ktb.chatapp.dto.EventEnvelope;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomAccessGrants 단위 테스트")
+class RoomAccessGrantsTest {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final RTopic topic = mock(RTopic.class);
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private RoomAccessGrants grants;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        grants = new RoomAccessGrants(roomRepository, redissonClient, now::get);
+    }
+
+    @Test
+    @DisplayName("처음 보는 방은 참가자 전체를 한 번 적재하고 이후 저장소를 조회하지 않는다")
+    void checkAccess_LoadsRoomMembersOnce() {
+        when(roomRepository.findParticipantIds("room-1")).thenReturn(Optional.of(Set.of("user-1", "user-2")));
+
+        assertThat(grants.checkAccess("room-1", "user-1")).isTrue();
+        assertThat(grants.checkAccess("room-1", "user-2")).isTrue();
+        assertThat(grants.checkAccess("room-1", "user-1")).isTrue();
+
+        verify(roomRepository, times(1)).findParticipantIds("room-1");
+        verify(roomRepository, never()).isParticipant(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("비참가자 확인 결과는 부정 캐시되어 만료 전까지 저장소를 다시 조회하지 않는다")
+    void checkAccess_CachesNonMembers() {
+        when(roomRepository.findParticipantIds("room-1")).thenReturn(Optional.of(Set.of("user-1")));
+
+        assertThat(grants.checkAccess("room-1", "intruder")).isFalse();
+        assertThat(grants.checkAccess("room-1", "intruder")).isFalse();
+        verify(roomRepository, times(1)).findParticipantIds("room-1");
+        verify(roomRepository, never()).isParticipant(anyString(), anyString());
+
+        now.addAndGet(RoomAccessGrants.NEGATIVE_TTL_MILLIS);
+        assertThat(grants.checkAccess("room-1", "intruder")).isFalse();
+        verify(roomRepository, times(1)).isParticipant("room-1", "intruder");
+    }
+
+    @Test
+    @DisplayName("없는 방에 대한 반복 요청도 부정 캐시로 처리된다")
+    void checkAccess_CachesMissingRoom() {
+        assertThat(grants.checkAccess("missing", "user-1")).isFalse();
+        assertThat(grants.checkAccess("missing", "user-1")).isFalse();
+
+        verify(roomRepository, times(1)).findParticipantIds("missing");
+    }
+
+    @Test
+    @DisplayName("입장 권한이 부여되면 부정 캐시가 지워진다")
+    void grant_ClearsNegativeEntry() {
+        when(roomRepository.findParticipantIds("room-1")).thenReturn(Optional.of(Set.of()));
+        assertThat(grants.checkAccess("room-1", "user-1")).isFalse();
+
+        grants.grant("room-1", "user-1");
+
+        assertThat(grants.checkAccess("room-1", "user-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("사용자 회수는 해당 사용자만, 방 회수는 방 전체 권한을 제거하고 다른 노드에 전파한다")
+    void revoke_RemovesGrantsAndPublishes() {
+        grants.grant("room-1", "user-1");
+        grants.grant("room-1", "user-2");
+
+        grants.revoke("room-1", "user-1");
+        assertThat(grants.isGranted("room-1", "user-1")).isFalse();
+        assertThat(grants.isGranted("room-1", "user-2")).isTrue();
+
+        grants.revokeRoom("room-1");
+        assertThat(grants.isGranted("room-1", "user-2")).isFalse();
+
+        verify(topic, times(4)).publish(any(EventEnvelope.class));
+    }
+
+    @Test
+    @DisplayName("회수 메시지는 Redis 코덱을 거쳐 다른 노드에 전달되어 그 노드의 권한도 제거한다")
+    void revoke_ReachesOtherNodesThroughCodec() throws IOException {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        RoomAccessGrants otherNode = new RoomAccessGrants(roomRepository, redissonClient, now::get);
+        MessageListener<Object> listener = subscribe(otherNode);
+        otherNode.grant("room-1", "user-1");
+        otherNode.grant("room-2", "user-1");
+
+        grants.revoke("room-1", "user-1");
+        grants.revokeRoom("room-2");
+
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic, times(4)).publish(published.capture());
+        for (Object message : published.getAllValues().subList(2, 4)) {
+            deliver(listener, RedissonCodecs.roundTrip(message));
+        }
+        assertThat(otherNode.isGranted("room-1", "user-1")).isFalse();
+        assertThat(otherNode.isGranted("room-2", "user-1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("입장 메시지도 Redis 코덱을 거쳐 다른 노드의 인덱스에 반영된다")
+    void grant_ReachesOtherNodesThroughCodec() throws IOException {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        RoomAccessGrants otherNode = new RoomAccessGrants(roomRepository, redissonClient, now::get);
+        MessageListener<Object> listener = subscribe(otherNode);
+
+        grants.grant("room-1", "user-1");
+
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(published.capture());
+        deliver(listener, RedissonCodecs.roundTrip(published.getValue()));
+        assertThat(otherNode.isGranted("room-1", "user-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("참가자 적재 중 도착한 퇴장은 조회 시점의 참가자 목록으로 되돌려지지 않는다")
+    void checkAccess_KeepsRemovalDuringLoad() {
+        when(roomRepository.findParticipantIds("room-1")).thenAnswer(invocation -> {
+            grants.revoke("room-1", "user-2");
+            return Optional.of(Set.of("user-1", "user-2"));
+        });
+
+        assertThat(grants.checkAccess("room-1", "user-1")).isTrue();
+        assertThat(grants.isGranted("room-1", "user-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("참가자 적재 중 방이 제거되면 적재하지 않고 접근을 거부한다")
+    void checkAccess_SkipsLoadWhenRoomRemovedDuringLoad() {
+        when(roomRepository.findParticipantIds("room-1")).thenAnswer(invocation -> {
+            grants.revokeRoom("room-1");
+            return Optional.of(Set.of("user-1"));
+        });
+
+        assertThat(grants.checkAccess("room-1", "user-1")).isFalse();
+        assertThat(grants.isGranted("room-1", "user-1")).isFalse();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MessageListener<Object> subscribe(RoomAccessGrants node) {
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        node.subscribe();
+        verify(topic).addListener(eq(EventEnvelope.class), listener.capture());
+        return listener.getValue();
+    }
+
+    // RTopic은 addListener에 넘긴 타입의 인스턴스로 복원된 메시지만 리스너에 전달한다
+    private static void deliver(MessageListener<Object> listener, Object decoded) {
+        assertThat(decoded).isInstanceOf(EventEnvelope.class);
+        listener.onMessage("chat:room-membership", decoded);
+    }
+}
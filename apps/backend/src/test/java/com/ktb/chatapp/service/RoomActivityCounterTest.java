@@ -0,0 +1,116 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.config.RedissonCodecs;
+import com.ktb.chatapp.dto.EventEnvelope;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomActivityCounter 단위 테스트")
+class RoomActivityCounterTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private RoomActivityCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new RoomActivityCounter(mock(RedissonClient.class), mock(RoomRepository.class), now::get);
+    }
+
+    @Test
+    @DisplayName("10분 윈도우를 벗어난 버킷은 최근 메시지 수에서 제외된다")
+    void getRecentCount_ExpiresBucketsOutsideWindow() {
+        counter.increment("room-1");
+        counter.increment("room-1");
+
+        now.addAndGet(5 * 60_000L);
+        counter.increment("room-1");
+        assertThat(counter.getRecentCount("room-1")).isEqualTo(3);
+
+        now.addAndGet(5 * 60_000L + RoomActivityCounter.BUCKET_MILLIS);
+        assertThat(counter.getRecentCount("room-1")).isEqualTo(1);
+
+        now.addAndGet(5 * 60_000L);
+        assertThat(counter.getRecentCount("room-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("링 슬롯을 재사용할 때 이전 주기의 카운트가 누적되지 않는다")
+    void increment_ResetsReusedSlot() {
+        counter.increment("room-1");
+
+        now.addAndGet(RoomActivityCounter.BUCKET_COUNT * RoomActivityCounter.BUCKET_MILLIS);
+        counter.increment("room-1");
+
+        assertThat(counter.getRecentCount("room-1")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 스냅샷은 합산되고 만료된 스냅샷은 무시된다")
+    void getRecentCount_MergesRemoteSnapshots() {
+        counter.increment("room-1");
+        counter.merge(new RoomActivityCounter.RoomActivitySnapshot(
+                "node-b", Map.of("room-1", 4, "room-2", 2), now.get()));
+
+        assertThat(counter.getRecentCount("room-1")).isEqualTo(5);
+        assertThat(counter.getRecentCount("room-2")).isEqualTo(2);
+
+        now.addAndGet(60_000L);
+        assertThat(counter.getRecentCount("room-1")).isEqualTo(1);
+        assertThat(counter.getRecentCount("room-2")).isZero();
+    }
+
+    @Test
+    @DisplayName("스냅샷 생성 시 활동이 없는 방은 로컬 윈도우에서 제거된다")
+    void snapshotLocalCounts_PrunesIdleRooms() {
+        counter.increment("room-1");
+        now.addAndGet(11 * 60_000L);
+        counter.increment("room-2");
+
+        RoomActivityCounter.RoomActivitySnapshot snapshot = counter.snapshotLocalCounts();
+
+        assertThat(snapshot.counts()).containsExactly(Map.entry("room-2", 1));
+        assertThat(counter.localCount("room-1", now.get() / RoomActivityCounter.BUCKET_MILLIS)).isZero();
+    }
+
+    @Test
+    @DisplayName("게시한 스냅샷은 Redis 코덱을 거쳐 다른 노드의 집계에 합산된다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void publishLocalCounts_ReachesOtherNodesThroughCodec() throws IOException {
+        RTopic topic = mock(RTopic.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        RoomActivityCounter publisher = new RoomActivityCounter(redissonClient, mock(RoomRepository.class), now::get);
+        RoomActivityCounter receiver = new RoomActivityCounter(redissonClient, mock(RoomRepository.class), now::get);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        receiver.subscribe();
+        verify(topic).addListener(eq(EventEnvelope.class), listener.capture());
+
+        publisher.increment("room-1");
+        publisher.increment("room-1");
+        publisher.publishLocalCounts();
+
+        ArgumentCaptor<Object> published = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(published.capture());
+        Object decoded = RedissonCodecs.roundTrip(published.getValue());
+        assertThat(decoded).isInstanceOf(EventEnvelope.class);
+        listener.getValue().onMessage("chat:room-activity", decoded);
+
+        assertThat(receiver.getRecentCount("room-1")).isEqualTo(2);
+    }
+}
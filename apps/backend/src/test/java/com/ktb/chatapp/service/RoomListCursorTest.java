@@ -0,0 +1,79 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.InvalidCursorException;
+import com.ktb.chatapp.model.Room;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RoomListCursor 단위 테스트")
+class RoomListCursorTest {
+
+    private static final String ROOM_ID = "65f0c1d2e3a4b5c6d7e8f901";
+
+    @Test
+    @DisplayName("구분자가 포함된 방 이름도 커서 인코딩/디코딩 후 그대로 복원된다")
+    void decode_RestoresEncodedCursor() {
+        RoomListCursor cursor = new RoomListCursor("name", "asc", ROOM_ID, "스터디|모집 중");
+
+        assertThat(RoomListCursor.decode(cursor.encode())).contains(cursor);
+    }
+
+    @Test
+    @DisplayName("정렬 값은 정렬 필드 타입으로 복원된다")
+    void sortValue_ParsesBySortField() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+        Room room = Room.builder().id(ROOM_ID).createdAt(createdAt).participantCount(7).build();
+
+        RoomListCursor byCreatedAt = RoomListCursor.decode(
+                RoomListCursor.after("createdAt", "desc", room).encode()).orElseThrow();
+        RoomListCursor byCount = RoomListCursor.decode(
+                RoomListCursor.after("participantsCount", "desc", room).encode()).orElseThrow();
+
+        assertThat(byCreatedAt.sortValue()).isEqualTo(createdAt);
+        assertThat(byCount.sortValue()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("정렬 값이 없는 방은 null로 복원되고 빈 이름과 구분된다")
+    void decode_DistinguishesMissingValueFromEmptyName() {
+        Room legacy = Room.builder().id(ROOM_ID).build();
+
+        RoomListCursor missing = RoomListCursor.decode(
+                RoomListCursor.after("createdAt", "desc", legacy).encode()).orElseThrow();
+        RoomListCursor empty = RoomListCursor.decode(
+                new RoomListCursor("name", "asc", ROOM_ID, "").encode()).orElseThrow();
+
+        assertThat(missing.sortValue()).isNull();
+        assertThat(empty.sortValue()).isEqualTo("");
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 empty")
+    void decode_ReturnsEmptyWithoutCursor() {
+        assertThat(RoomListCursor.decode("")).isEmpty();
+        assertThat(RoomListCursor.decode(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못되었거나 정렬 값이 변조된 커서는 InvalidCursorException")
+    void decode_RejectsMalformedOrTamperedCursor() {
+        assertThatThrownBy(() -> RoomListCursor.decode("not a cursor!"))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> RoomListCursor.decode(raw("createdAt|desc")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> RoomListCursor.decode(raw("createdAt|desc|" + ROOM_ID + "|yesterday")))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> RoomListCursor.decode(raw("participantsCount|desc|" + ROOM_ID + "|many")))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
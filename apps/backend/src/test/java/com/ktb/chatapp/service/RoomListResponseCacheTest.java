@@ -0,0 +1,109 @@
+package com.ktb.chatapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomListResponseCache 단위 테스트")
+class RoomListResponseCacheTest {
+
+    private static final long MAX_BYTES = 64 * 1024;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private RoomListResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        when(redissonClient.getTopic(anyString())).thenReturn(mock(RTopic.class));
+        cache = new RoomListResponseCache(redissonClient, MAX_BYTES);
+    }
+
+    @Test
+    @DisplayName("같은 버전에서는 캐시된 응답과 ETag를 재사용한다")
+    void get_ReusesEntryWithinSameVersion() {
+        RoomListResponseCache.CachedResponse first = cache.get("key", this::load);
+        RoomListResponseCache.CachedResponse second = cache.get("key", this::load);
+
+        assertThat(loads).hasValue(1);
+        assertThat(second.etag()).isEqualTo(first.etag()).startsWith("\"").endsWith("\"");
+        assertThat(second.matches("W/\"other\", " + first.etag())).isTrue();
+        assertThat(second.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("방 목록 버전이 바뀌면 응답을 다시 계산한다")
+    void get_ReloadsAfterInvalidate() {
+        cache.get("key", this::load);
+        cache.invalidate();
+        cache.get("key", this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("loader가 null을 반환하면 캐시하지 않는다")
+    void get_DoesNotCacheFailedResponses() {
+        assertThat(cache.get("key", () -> null)).isNull();
+        cache.get("key", this::load);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("응답 바이트 합계가 상한을 넘으면 항목을 버려 상한 아래로 유지한다")
+    void get_KeepsTotalBytesUnderBound() {
+        byte[] body = new byte[4 * 1024];
+        for (int i = 0; i < 100; i++) {
+            cache.get("key-" + i, () -> body);
+        }
+
+        assertThat(cache.totalBytes()).isPositive().isLessThanOrEqualTo(MAX_BYTES);
+    }
+
+    @Test
+    @DisplayName("상한보다 큰 응답은 반환만 하고 캐시하지 않는다")
+    void get_SkipsEntriesLargerThanBound() {
+        RoomListResponseCache.CachedResponse response = cache.get("key", () -> {
+            loads.incrementAndGet();
+            return new byte[(int) MAX_BYTES + 1];
+        });
+        cache.get("key", this::load);
+
+        assertThat(response.body()).hasSize((int) MAX_BYTES + 1);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 항목은 상한 초과 시 먼저 정리된다")
+    void get_EvictsStaleVersionsFirst() {
+        byte[] body = new byte[4 * 1024];
+        for (int i = 0; i < 10; i++) {
+            cache.get("old-" + i, () -> body);
+        }
+        cache.invalidate();
+        for (int i = 0; i < 10; i++) {
+            cache.get("new-" + i, () -> body);
+        }
+        loads.set(0);
+        for (int i = 0; i < 10; i++) {
+            cache.get("new-" + i, this::load);
+        }
+
+        assertThat(loads).hasValue(0);
+    }
+
+    private byte[] load() {
+        loads.incrementAndGet();
+        return "{\"success\":true}".getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,59 @@
+package com.ktb.chatapp.service;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomMembershipIndex 단위 테스트")
+class RoomMembershipIndexTest {
+
+    private final RoomMembershipIndex index = new RoomMembershipIndex();
+
+    @Test
+    @DisplayName("어느 방에도 남지 않은 사용자의 치환 번호는 회수되어 재사용된다")
+    void releasesInternedIdsWithoutReferences() {
+        index.add("room-1", "user-1");
+        index.add("room-2", "user-1");
+        index.add("room-1", "user-2");
+        assertThat(index.internedCount()).isEqualTo(2);
+
+        index.remove("room-1", "user-1");
+        assertThat(index.internedCount()).isEqualTo(2);
+        assertThat(index.contains("room-2", "user-1")).isTrue();
+
+        index.removeRoom("room-2");
+        assertThat(index.internedCount()).isEqualTo(1);
+
+        index.add("room-3", "user-3");
+        assertThat(index.contains("room-3", "user-3")).isTrue();
+        assertThat(index.contains("room-1", "user-2")).isTrue();
+        assertThat(index.contains("room-3", "user-1")).isFalse();
+        assertThat(index.internedCount()).isEqualTo(2);
+
+        index.removeRoom("room-1");
+        index.removeRoom("room-3");
+        assertThat(index.internedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 중 퇴장한 사용자는 적재 후에도 빠져 있고, 다시 입장하면 포함된다")
+    void loadAppliesRemovalsRecordedDuringLoad() {
+        index.beginLoad("room-1");
+        index.remove("room-1", "user-2");
+        index.remove("room-1", "user-3");
+        index.add("room-1", "user-3");
+        index.load("room-1", List.of("user-1", "user-2", "user-3"));
+
+        assertThat(index.isLoaded("room-1")).isTrue();
+        assertThat(index.contains("room-1", "user-1")).isTrue();
+        assertThat(index.contains("room-1", "user-2")).isFalse();
+        assertThat(index.contains("room-1", "user-3")).isTrue();
+
+        // 대기 중인 적재가 없으면 기록을 남기지 않는다
+        index.remove("room-1", "user-1");
+        index.load("room-1", List.of("user-1"));
+        assertThat(index.contains("room-1", "user-1")).isTrue();
+    }
+}
@@ -0,0 +1,115 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomArchivedEvent;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl;
+import com.ktb.chatapp.repository.MessageRepositoryCustomImpl.ArchivedBatch;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RedissonClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("RoomReclaimer 단위 테스트")
+class RoomReclaimerTest {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final MessageRepositoryCustomImpl messageRepositoryCustom = mock(MessageRepositoryCustomImpl.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RoomReclaimer reclaimer;
+
+    @BeforeEach
+    void setUp() {
+        reclaimer = new RoomReclaimer(roomRepository, messageRepositoryCustom,
+                mock(RoomListResponseCache.class), mock(RoomAccessGrants.class),
+                mock(RedissonClient.class), eventPublisher, meterRegistry);
+        ReflectionTestUtils.setField(reclaimer, "emptyGrace", Duration.ofHours(1));
+        ReflectionTestUtils.setField(reclaimer, "dormantAfter", Duration.ofDays(90));
+        ReflectionTestUtils.setField(reclaimer, "maxRoomsPerRun", 10);
+        ReflectionTestUtils.setField(reclaimer, "messageBatchSize", 2);
+        ReflectionTestUtils.setField(reclaimer, "batchPauseMillis", 0L);
+    }
+
+    @Test
+    @DisplayName("보관된 방의 메시지를 배치 단위로 끝까지 이관하고 완료 표시한다")
+    void run_ArchivesMessagesInBatches() throws InterruptedException {
+        when(roomRepository.findPendingArchivedRoomIds(anyInt())).thenReturn(List.of());
+        when(roomRepository.findReclaimableRoomIds(any(), any(), eq(10))).thenReturn(List.of("room-1"));
+        when(roomRepository.archiveRoomIfReclaimable(eq("room-1"), any(), any())).thenReturn(OptionalLong.of(100));
+        when(messageRepositoryCustom.archiveMessageBatch("room-1", 2))
+                .thenReturn(new ArchivedBatch(2, 40), new ArchivedBatch(1, 20));
+
+        int reclaimed = reclaimer.run();
+
+        assertThat(reclaimed).isEqualTo(1);
+        verify(messageRepositoryCustom, times(2)).archiveMessageBatch("room-1", 2);
+        verify(roomRepository).markMessagesArchived("room-1");
+        assertThat(meterRegistry.counter("chat.rooms.reclaimed").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("chat.rooms.reclaimed.messages").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("chat.rooms.reclaimed.bytes").count()).isEqualTo(160);
+
+        ArgumentCaptor<RoomArchivedEvent> event = ArgumentCaptor.forClass(RoomArchivedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().getRoomId()).isEqualTo("room-1");
+    }
+
+    @Test
+    @DisplayName("조회 이후 참가자가 들어와 조건부 보관이 실패한 방은 메시지를 건드리지 않는다")
+    void run_SkipsRoomThatBecameActive() throws InterruptedException {
+        when(roomRepository.findPendingArchivedRoomIds(anyInt())).thenReturn(List.of());
+        when(roomRepository.findReclaimableRoomIds(any(), any(), anyInt())).thenReturn(List.of("room-1"));
+        when(roomRepository.archiveRoomIfReclaimable(eq("room-1"), any(), any())).thenReturn(OptionalLong.empty());
+
+        int reclaimed = reclaimer.run();
+
+        assertThat(reclaimed).isZero();
+        verify(messageRepositoryCustom, never()).archiveMessageBatch(any(), anyInt());
+        verify(roomRepository, never()).markMessagesArchived(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("이관이 중단된 방은 새 후보보다 먼저 마무리하고 남은 한도만큼만 후보를 조회한다")
+    void run_ResumesPendingArchivesFirst() throws InterruptedException {
+        when(roomRepository.findPendingArchivedRoomIds(10)).thenReturn(List.of("room-old"));
+        when(messageRepositoryCustom.archiveMessageBatch("room-old", 2)).thenReturn(new ArchivedBatch(0, 0));
+        when(roomRepository.findReclaimableRoomIds(any(), any(), eq(9))).thenReturn(List.of());
+
+        reclaimer.run();
+
+        verify(roomRepository).markMessagesArchived("room-old");
+        verify(roomRepository).findReclaimableRoomIds(any(), any(), eq(9));
+    }
+
+    @Test
+    @DisplayName("원본 삭제 전에 중단되어 원본이 남아 있는 보관본은 메시지 이관 없이 버린다")
+    void run_DiscardsArchiveOfRoomThatStillExists() throws InterruptedException {
+        when(roomRepository.findPendingArchivedRoomIds(10)).thenReturn(List.of("room-live"));
+        when(roomRepository.existsById("room-live")).thenReturn(true);
+        when(roomRepository.findReclaimableRoomIds(any(), any(), eq(9))).thenReturn(List.of());
+
+        reclaimer.run();
+
+        verify(roomRepository).discardArchivedRoom("room-live");
+        verify(messageRepositoryCustom, never()).archiveMessageBatch(any(), anyInt());
+        verify(roomRepository, never()).markMessagesArchived(any());
+    }
+}
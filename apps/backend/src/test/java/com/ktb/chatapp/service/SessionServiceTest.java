@@ -105,6 +105,23 @@ class SessionServiceTest {
         assertNull(result.getSessionData().getMetadata());
     }
 
+    @Test
+    @DisplayName("세션 갱신 - 현재 세션일 때만 교체")
+    void refreshSession_ReplacesOnlyCurrentSession() {
+        // Given
+        SessionMetadata metadata = createTestMetadata();
+        String firstSessionId = sessionService.createSession(TEST_USER_ID, metadata).getSessionId();
+
+        // When
+        SessionCreationResult refreshed = sessionService.refreshSession(TEST_USER_ID, firstSessionId, metadata);
+
+        // Then - 새 세션만 유효하고, 이미 교체된 세션으로는 다시 갱신할 수 없음
+        assertNotNull(refreshed);
+        assertTrue(sessionService.validateSession(TEST_USER_ID, refreshed.getSessionId()).isValid());
+        assertFalse(sessionService.validateSession(TEST_USER_ID, firstSessionId).isValid());
+        assertNull(sessionService.refreshSession(TEST_USER_ID, firstSessionId, metadata));
+    }
+
     // ============ 세션 검증 테스트 ============
 
     @Test
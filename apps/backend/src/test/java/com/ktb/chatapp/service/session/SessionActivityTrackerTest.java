@@ -0,0 +1,76 @@
+package com.ktb.chatapp.service.session;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("SessionActivityTracker 단위 테스트")
+class SessionActivityTrackerTest {
+
+    private final SessionStore sessionStore = mock(SessionStore.class);
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final SessionActivityTracker tracker = new SessionActivityTracker(sessionStore, now::get);
+
+    @Test
+    @DisplayName("기록은 저장소에 접근하지 않고, 주기마다 사용자별 최신 시각만 한 번에 반영한다")
+    void flush_CoalescesActivityPerUser() {
+        tracker.record("user-1");
+        now.addAndGet(1_000);
+        tracker.record("user-1");
+        tracker.record("user-2");
+        verifyNoInteractions(sessionStore);
+
+        tracker.flush();
+
+        verify(sessionStore, times(1)).touch(Map.of(
+                "user-1", 1_700_000_001_000L,
+                "user-2", 1_700_000_001_000L));
+        assertThat(tracker.pendingActivity("user-1")).isZero();
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 반영하지 않는다")
+    void flush_SkipsWhenIdle() {
+        tracker.flush();
+
+        verify(sessionStore, never()).touch(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 활동은 다음 주기에 다시 반영한다")
+    void flush_RetainsActivityOnFailure() {
+        tracker.record("user-1");
+        doThrow(new RuntimeException("redis down")).when(sessionStore).touch(anyMap());
+
+        tracker.flush();
+
+        assertThat(tracker.pendingActivity("user-1")).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("반영 중에 새로 기록된 활동은 지우지 않는다")
+    void flush_KeepsActivityRecordedDuringFlush() {
+        tracker.record("user-1");
+        doAnswer(invocation -> {
+            now.addAndGet(500);
+            tracker.record("user-1");
+            return null;
+        }).when(sessionStore).touch(any());
+
+        tracker.flush();
+
+        assertThat(tracker.pendingActivity("user-1")).isEqualTo(1_700_000_000_500L);
+    }
+}
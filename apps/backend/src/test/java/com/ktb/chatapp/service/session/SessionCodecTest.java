@@ -0,0 +1,60 @@
+package com.ktb.chatapp.service.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SessionCodec 단위 테스트")
+class SessionCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 세션을 같은 값으로 복원한다")
+    void roundTrip() {
+        Session session = session(new SessionMetadata("Mozilla/5.0 (Macintosh) 크롬", "127.0.0.1", "Desktop Mac OS Chrome"));
+
+        Session decoded = SessionCodec.decode("user-1", "sid-1", SessionCodec.encode(session));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(session);
+    }
+
+    @Test
+    @DisplayName("메타데이터와 그 필드의 null을 보존한다")
+    void roundTrip_PreservesNulls() {
+        Session withoutMetadata = session(null);
+        Session partialMetadata = session(new SessionMetadata(null, "10.0.0.1", null));
+
+        assertThat(SessionCodec.decode("user-1", "sid-1", SessionCodec.encode(withoutMetadata)))
+                .usingRecursiveComparison().isEqualTo(withoutMetadata);
+        assertThat(SessionCodec.decode("user-1", "sid-1", SessionCodec.encode(partialMetadata)))
+                .usingRecursiveComparison().isEqualTo(partialMetadata);
+    }
+
+    @Test
+    @DisplayName("JSON 직렬화보다 작은 값을 만든다")
+    void encode_IsSmallerThanJson() throws Exception {
+        Session session = session(new SessionMetadata("Mozilla/5.0 Test Browser", "127.0.0.1", "Desktop Mac OS Chrome"));
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        int binary = SessionCodec.encode(session).length;
+        int json = objectMapper.writeValueAsBytes(session).length;
+
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+    private static Session session(SessionMetadata metadata) {
+        return Session.builder()
+                .userId("user-1")
+                .sessionId("sid-1")
+                .createdAt(1_700_000_000_000L)
+                .lastActivity(1_700_000_060_000L)
+                .expiresAt(Instant.ofEpochMilli(1_700_001_860_000L))
+                .metadata(metadata)
+                .build();
+    }
+}
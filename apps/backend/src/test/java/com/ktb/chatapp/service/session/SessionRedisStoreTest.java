@@ -0,0 +1,196 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.config.JacksonConfig;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.Redisson;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SessionRedisStore Lua 스크립트 통합 테스트
+ * 실제 Redis에서 교체/갱신/삭제 스크립트와 종료 알림 발행, 이전 저장소 세션 이전을 검증한다.
+ */
+@DisplayName("SessionRedisStore 통합 테스트")
+class SessionRedisStoreTest {
+
+    private static final String USER_ID = "user-1";
+
+    private static GenericContainer<?> redis;
+    private static RedissonClient redissonClient;
+
+    private final BlockingQueue<String> ended = new LinkedBlockingQueue<>();
+    private SessionRedisStore store;
+    private int listenerId;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        redis.start();
+
+        Config config = new Config();
+        config.setCodec(new JsonJacksonCodec(new JacksonConfig().objectMapper()));
+        config.useSingleServer()
+                .setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        store = new SessionRedisStore(redissonClient, true);
+        listenerId = redissonClient.getTopic(SessionRedisStore.ENDED_CHANNEL, StringCodec.INSTANCE)
+                .addListener(String.class, (channel, message) -> ended.add(message));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redissonClient.getTopic(SessionRedisStore.ENDED_CHANNEL, StringCodec.INSTANCE).removeListener(listenerId);
+    }
+
+    @Test
+    @DisplayName("알림을 요청한 교체는 이전 세션 ID를 발행하고 새 세션으로 바꾼다")
+    void replace_PublishesReplacedSession() throws InterruptedException {
+        Session first = session(System.currentTimeMillis());
+        Session second = session(System.currentTimeMillis());
+
+        assertThat(store.replace(first, null, true)).isTrue();
+        assertThat(store.replace(second, null, true)).isTrue();
+
+        assertThat(ended.poll(5, TimeUnit.SECONDS)).isEqualTo(USER_ID + ":" + first.getSessionId());
+        assertThat(ended.poll(200, TimeUnit.MILLISECONDS)).isNull();
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId)
+                .isEqualTo(second.getSessionId());
+        assertThat(redissonClient.getKeys().remainTimeToLive(SessionRedisStore.key(USER_ID))).isPositive();
+    }
+
+    @Test
+    @DisplayName("기대한 세션 ID와 다르면 교체하지 않는다")
+    void replace_RejectsMismatchedSession() {
+        Session current = session(System.currentTimeMillis());
+        store.replace(current, null, false);
+
+        assertThat(store.replace(session(System.currentTimeMillis()), "other", false)).isFalse();
+        assertThat(store.replace(session(System.currentTimeMillis()), null, false)).isTrue();
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId)
+                .isNotEqualTo(current.getSessionId());
+    }
+
+    @Test
+    @DisplayName("save는 그사이 교체된 세션을 되살리지 않는다")
+    void save_DoesNotResurrectReplacedSession() {
+        Session old = session(System.currentTimeMillis());
+        Session current = session(System.currentTimeMillis());
+        store.replace(old, null, false);
+        store.replace(current, null, false);
+
+        store.save(old);
+
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId)
+                .isEqualTo(current.getSessionId());
+    }
+
+    @Test
+    @DisplayName("touch는 최신 활동 시각만 반영하고 없는 세션은 만들지 않는다")
+    void touch_UpdatesActivityWithoutRecreating() {
+        long now = System.currentTimeMillis();
+        store.replace(session(now), null, false);
+
+        store.touch(Map.of(USER_ID, now + 1_000, "missing-user", now));
+        store.touch(Map.of(USER_ID, now + 500));
+
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getLastActivity)
+                .isEqualTo(now + 1_000);
+        assertThat(redissonClient.getKeys().countExists(SessionRedisStore.key("missing-user"))).isZero();
+    }
+
+    @Test
+    @DisplayName("delete는 세션 ID가 일치할 때만 삭제한다")
+    void delete_OnlyMatchingSession() {
+        Session current = session(System.currentTimeMillis());
+        store.replace(current, null, false);
+
+        store.delete(USER_ID, "other");
+        assertThat(store.findByUserId(USER_ID)).isPresent();
+
+        store.delete(USER_ID, current.getSessionId());
+        assertThat(store.findByUserId(USER_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이전 저장소(RMapCache)의 세션은 조회 시 옮겨지고 원본은 지워진다")
+    void findByUserId_MigratesLegacySession() {
+        Session legacy = session(System.currentTimeMillis());
+        RMapCache<String, Session> legacyMap = redissonClient.getMapCache(SessionRedisStore.LEGACY_SESSION_MAP_KEY);
+        legacyMap.put(USER_ID, legacy, 30, TimeUnit.MINUTES);
+
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId)
+                .isEqualTo(legacy.getSessionId());
+        assertThat(legacyMap.containsKey(USER_ID)).isFalse();
+        assertThat(redissonClient.getKeys().remainTimeToLive(SessionRedisStore.key(USER_ID))).isPositive();
+    }
+
+    @Test
+    @DisplayName("이전 저장소 세션은 새 로그인 세션을 덮어쓰지 않는다")
+    void findByUserId_PrefersCurrentSessionOverLegacy() {
+        Session current = session(System.currentTimeMillis());
+        store.replace(current, null, false);
+        RMapCache<String, Session> legacyMap = redissonClient.getMapCache(SessionRedisStore.LEGACY_SESSION_MAP_KEY);
+        legacyMap.put(USER_ID, session(System.currentTimeMillis()), 30, TimeUnit.MINUTES);
+
+        assertThat(store.findByUserId(USER_ID)).get()
+                .extracting(Session::getSessionId)
+                .isEqualTo(current.getSessionId());
+    }
+
+    @Test
+    @DisplayName("이전 저장소 이전을 끄면 이전 세션을 조회하거나 지우지 않는다")
+    void findByUserId_IgnoresLegacySessionWhenMigrationDisabled() {
+        SessionRedisStore currentOnly = new SessionRedisStore(redissonClient, false);
+        RMapCache<String, Session> legacyMap = redissonClient.getMapCache(SessionRedisStore.LEGACY_SESSION_MAP_KEY);
+        legacyMap.put(USER_ID, session(System.currentTimeMillis()), 30, TimeUnit.MINUTES);
+
+        assertThat(currentOnly.findByUserId(USER_ID)).isEmpty();
+        assertThat(legacyMap.containsKey(USER_ID)).isTrue();
+    }
+
+    private static Session session(long lastActivity) {
+        return Session.builder()
+                .userId(USER_ID)
+                .sessionId(UUID.randomUUID().toString().replace("-", ""))
+                .createdAt(lastActivity)
+                .lastActivity(lastActivity)
+                .metadata(new SessionMetadata("Test Browser", "127.0.0.1", "Desktop"))
+                .expiresAt(Instant.ofEpochMilli(lastActivity).plusSeconds(1800))
+                .build();
+    }
+}
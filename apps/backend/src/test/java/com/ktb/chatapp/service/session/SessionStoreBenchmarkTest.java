@@ -0,0 +1,245 @@
+package com.ktb.chatapp.service.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.redisson.Redisson;
+import org.redisson.api.RBatch;
+import org.redisson.api.RMapCache;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNode;
+import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 저장소 벤치마크 (RMapCache 단일 해시 vs 사용자별 키 + 기본 만료).
+ * 세션당 메모리, 조회/저장 지연 시간, 만료 처리 비용을 비교한다.
+ * 100만 세션 적재에 시간이 오래 걸리므로 -Dbenchmark=true 일 때만 실행한다.
+ * 세션 수는 -Dbenchmark.sessions 로 조정할 수 있다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SessionStoreBenchmarkTest {
+
+    private static final int SESSIONS = Integer.getInteger("benchmark.sessions", 1_000_000);
+    private static final int BATCH_SIZE = 10_000;
+    private static final int OPERATIONS = 10_000;
+    private static final Duration EVICTION_TTL = Duration.ofSeconds(5);
+    private static final Duration EVICTION_TIMEOUT = Duration.ofMinutes(3);
+    private static final String MAP_CACHE_KEY = SessionRedisStore.LEGACY_SESSION_MAP_KEY;
+
+    private static GenericContainer<?> redis;
+    private static RedissonClient redissonClient;
+
+    // 이전 RMapCache 저장소와 같은 방식(항목별 30분 TTL)으로 읽고 쓴다
+    private RMapCache<String, Session> mapCache;
+    private SessionRedisStore keyStore;
+
+    @BeforeAll
+    static void startRedis() {
+        redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        redis.start();
+
+        Config config = new Config();
+        config.setCodec(new JsonJacksonCodec(new ObjectMapper().registerModule(new JavaTimeModule())));
+        config.useSingleServer()
+                .setAddress("redis://" + redis.getHost() + ":" + redis.getMappedPort(6379))
+                .setConnectionPoolSize(16);
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redissonClient.shutdown();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redissonClient.getKeys().flushdb();
+        mapCache = redissonClient.getMapCache(MAP_CACHE_KEY);
+        keyStore = new SessionRedisStore(redissonClient, false);
+    }
+
+    @Test
+    @DisplayName("세션당 메모리 사용량 비교")
+    void compareMemoryPerSession() {
+        long mapCacheBytes = measureMemory(() -> seedMapCache(SESSIONS, Duration.ofMinutes(30)));
+        redissonClient.getKeys().flushdb();
+        long keyBytes = measureMemory(() -> seedKeys(SESSIONS, Duration.ofMinutes(30)));
+
+        System.out.printf("sessions=%d memory per session - RMapCache: %d B, key+PEXPIRE: %d B%n",
+                SESSIONS, mapCacheBytes / SESSIONS, keyBytes / SESSIONS);
+        assertThat(keyBytes).isLessThan(mapCacheBytes);
+    }
+
+    @Test
+    @DisplayName("조회/저장 지연 시간 비교")
+    void compareLatency() {
+        seedMapCache(SESSIONS, Duration.ofMinutes(30));
+        seedKeys(SESSIONS, Duration.ofMinutes(30));
+        Random random = new Random(42);
+
+        // 워밍업
+        for (int i = 0; i < 1_000; i++) {
+            mapCache.get(userId(random.nextInt(SESSIONS)));
+            keyStore.findByUserId(userId(random.nextInt(SESSIONS)));
+        }
+
+        report("get", "RMapCache", measure(() ->
+                assertThat(mapCache.get(userId(random.nextInt(SESSIONS)))).isNotNull()));
+        report("get", "key+PEXPIRE", measure(() ->
+                assertThat(keyStore.findByUserId(userId(random.nextInt(SESSIONS)))).isPresent()));
+        report("save", "RMapCache", measure(() -> {
+            Session session = session(random.nextInt(SESSIONS));
+            mapCache.put(session.getUserId(), session, 30, TimeUnit.MINUTES);
+        }));
+        report("save", "key+PEXPIRE", measure(() -> keyStore.save(session(random.nextInt(SESSIONS)))));
+    }
+
+    @Test
+    @DisplayName("만료 처리 비용 비교")
+    void compareEvictionOverhead() throws InterruptedException {
+        seedMapCache(SESSIONS, EVICTION_TTL);
+        // 조회가 있어야 Redisson eviction 작업이 예약된다
+        mapCache.get(userId(0));
+        EvictionResult mapCache = awaitEviction(() -> redissonClient.getMap(MAP_CACHE_KEY).size());
+
+        redissonClient.getKeys().flushdb();
+        seedKeys(SESSIONS, EVICTION_TTL);
+        EvictionResult keys = awaitEviction(() -> redissonClient.getKeys().count());
+
+        System.out.printf("sessions=%d eviction - RMapCache: %s, key+PEXPIRE: %s%n", SESSIONS, mapCache, keys);
+        assertThat(keys.remaining()).isZero();
+    }
+
+    private EvictionResult awaitEviction(LongSupplier remaining) throws InterruptedException {
+        Thread.sleep(EVICTION_TTL.toMillis());
+        double cpuBefore = usedCpuSeconds();
+        long start = System.nanoTime();
+        long deadline = start + EVICTION_TIMEOUT.toNanos();
+        long left = remaining.getAsLong();
+        while (left > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(500);
+            left = remaining.getAsLong();
+        }
+        return new EvictionResult(
+                Duration.ofNanos(System.nanoTime() - start).toMillis(),
+                usedCpuSeconds() - cpuBefore,
+                left);
+    }
+
+    private record EvictionResult(long drainMillis, double redisCpuSeconds, long remaining) {
+        @Override
+        public String toString() {
+            return String.format("drain=%d ms, redis cpu=%.2f s, remaining=%d", drainMillis, redisCpuSeconds, remaining);
+        }
+    }
+
+    private long[] measure(Runnable operation) {
+        long[] nanos = new long[OPERATIONS];
+        for (int i = 0; i < OPERATIONS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private void report(String operation, String store, long[] sortedNanos) {
+        long avg = (long) Arrays.stream(sortedNanos).average().orElse(0);
+        long p99 = sortedNanos[(int) (sortedNanos.length * 0.99)];
+        System.out.printf("sessions=%d %s %s - avg: %d us, p99: %d us%n",
+                SESSIONS, operation, store, avg / 1_000, p99 / 1_000);
+    }
+
+    private long measureMemory(Runnable seed) {
+        long before = usedMemory();
+        seed.run();
+        return usedMemory() - before;
+    }
+
+    private void seedMapCache(int count, Duration ttl) {
+        RMapCache<String, Session> sessions = redissonClient.getMapCache(MAP_CACHE_KEY);
+        Map<String, Session> batch = new HashMap<>(BATCH_SIZE * 2);
+        for (int i = 0; i < count; i++) {
+            batch.put(userId(i), session(i));
+            if (batch.size() == BATCH_SIZE) {
+                sessions.putAll(batch, ttl.toMillis(), TimeUnit.MILLISECONDS);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            sessions.putAll(batch, ttl.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void seedKeys(int count, Duration ttl) {
+        RBatch batch = redissonClient.createBatch();
+        for (int i = 0; i < count; i++) {
+            Session session = session(i);
+            String key = SessionRedisStore.key(session.getUserId());
+            batch.<String, byte[]>getMap(key, SessionRedisStore.HASH_CODEC).putAllAsync(Map.of(
+                    SessionRedisStore.SID_FIELD, session.getSessionId().getBytes(StandardCharsets.UTF_8),
+                    SessionRedisStore.DATA_FIELD, SessionCodec.encode(session)));
+            batch.getMap(key, SessionRedisStore.HASH_CODEC).expireAsync(ttl);
+            if ((i + 1) % BATCH_SIZE == 0) {
+                batch.execute();
+                batch = redissonClient.createBatch();
+            }
+        }
+        batch.execute();
+    }
+
+    private long usedMemory() {
+        return Long.parseLong(info(RedisNode.InfoSection.MEMORY).get("used_memory"));
+    }
+
+    private double usedCpuSeconds() {
+        Map<String, String> cpu = info(RedisNode.InfoSection.CPU);
+        return Double.parseDouble(cpu.get("used_cpu_sys")) + Double.parseDouble(cpu.get("used_cpu_user"));
+    }
+
+    private Map<String, String> info(RedisNode.InfoSection section) {
+        return redissonClient.getRedisNodes(RedisNodes.SINGLE).getInstance().info(section);
+    }
+
+    private static String userId(int i) {
+        return String.format("%024x", i);
+    }
+
+    private static Session session(int i) {
+        long now = Instant.now().toEpochMilli();
+        return Session.builder()
+                .userId(userId(i))
+                .sessionId(String.format("%032x", i))
+                .createdAt(now)
+                .lastActivity(now)
+                .expiresAt(Instant.ofEpochMilli(now).plus(Duration.ofMinutes(30)))
+                .metadata(new SessionMetadata(
+                        "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 Chrome/120.0 Safari/537.36",
+                        "10.0." + (i >> 8 & 0xff) + "." + (i & 0xff),
+                        "Desktop Mac OS Chrome"))
+                .build();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ktb.chatapp.util;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("IntHashSet 단위 테스트")
+class IntHashSetTest {
+
+    @Test
+    @DisplayName("추가, 조회, 삭제가 HashSet과 같은 결과를 낸다")
+    void matchesHashSetUnderRandomOperations() {
+        IntHashSet set = new IntHashSet();
+        Set<Integer> expected = new HashSet<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 50_000; i++) {
+            int value = random.nextInt(2_000) + 1;
+            if (random.nextBoolean()) {
+                assertThat(set.add(value)).isEqualTo(expected.add(value));
+            } else {
+                assertThat(set.remove(value)).isEqualTo(expected.remove(value));
+            }
+        }
+
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (int value = 1; value <= 2_000; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+        Set<Integer> iterated = new HashSet<>();
+        set.forEach(iterated::add);
+        assertThat(iterated).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("0은 빈 슬롯 표시이므로 저장할 수 없다")
+    void rejectsZero() {
+        IntHashSet set = new IntHashSet();
+
+        assertThatThrownBy(() -> set.add(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(set.contains(0)).isFalse();
+        assertThat(set.remove(0)).isFalse();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ktb.chatapp.util;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NGramTokenizer 단위 테스트")
+class NGramTokenizerTest {
+
+    @Test
+    @DisplayName("대소문자, 공백, 구두점을 제거하고 전각 문자를 정규화한다")
+    void normalize_StripsCaseWhitespaceAndPunctuation() {
+        assertThat(NGramTokenizer.normalize(" Spring  Boot! 스터디 ")).isEqualTo("springboot스터디");
+        assertThat(NGramTokenizer.normalize("ＪＡＶＡ")).isEqualTo("java");
+    }
+
+    @Test
+    @DisplayName("색인 gram은 한글 음절 단위 1-gram과 2-gram을 중복 없이 포함한다")
+    void indexGrams_IncludesUnigramsAndBigrams() {
+        assertThat(NGramTokenizer.indexGrams("자바 자바"))
+                .containsExactly("자", "바", "자바", "바자");
+    }
+
+    @Test
+    @DisplayName("두 글자 이상의 검색어는 2-gram만, 한 글자는 1-gram을 사용한다")
+    void queryGrams_UsesBigramsForLongerQueries() {
+        assertThat(NGramTokenizer.queryGrams("Chat방")).containsExactly("ch", "ha", "at", "t방");
+        assertThat(NGramTokenizer.queryGrams("방")).containsExactly("방");
+        assertThat(NGramTokenizer.queryGrams("  ")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 gram은 해당 문자열을 포함하는 이름의 색인 gram에 포함된다")
+    void queryGrams_AreSubsetOfIndexGrams() {
+        assertThat(NGramTokenizer.indexGrams("KTB 부트캠프 채팅방"))
+                .containsAll(NGramTokenizer.queryGrams("캠프 채팅"));
+    }
+
+    @Test
+    @DisplayName("gram이 3개 이하인 짧은 검색어는 모든 gram이 이름에 있어야 일치로 본다")
+    void matches_RequiresAllGramsForShortQueries() {
+        List<String> grams = NGramTokenizer.queryGrams("부트캠프");
+
+        assertThat(NGramTokenizer.minMatches(grams)).isEqualTo(3);
+        assertThat(NGramTokenizer.matches(grams, NGramTokenizer.indexGramSet("KTB 부트캠프"))).isTrue();
+        assertThat(NGramTokenizer.matches(grams, NGramTokenizer.indexGramSet("부트캠핑 모임"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("긴 검색어는 gram의 절반 이상이 이름에 있으면 일치로 본다")
+    void matches_RequiresHalfOfQueryGrams() {
+        List<String> grams = NGramTokenizer.queryGrams("스프링부트 스터디");
+
+        assertThat(NGramTokenizer.matches(grams, NGramTokenizer.indexGramSet("스프링 스터디"))).isTrue();
+        assertThat(NGramTokenizer.matches(grams, NGramTokenizer.indexGramSet("스프링 모임"))).isFalse();
+        assertThat(NGramTokenizer.matches(List.of(), NGramTokenizer.indexGramSet("아무 방"))).isTrue();
+    }
+}
@@ -0,0 +1,93 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.annotation.OnDisconnect;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.corundumstudio.socketio.listener.DataListener;
+import com.corundumstudio.socketio.listener.DisconnectListener;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("AuthGatedAnnotationScanner 단위 테스트")
+class AuthGatedAnnotationScannerTest {
+
+    private final SocketIOServer server = mock(SocketIOServer.class);
+    private final SocketIOClient client = mock(SocketIOClient.class);
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final SampleHandler handler = new SampleHandler();
+
+    @BeforeEach
+    void setUp() {
+        when(client.get(anyString())).thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(client).set(anyString(), any());
+        doAnswer(invocation -> attributes.remove(invocation.<String>getArgument(0)))
+                .when(client).del(anyString());
+        new AuthGatedAnnotationScanner(server).postProcessAfterInitialization(handler, "sampleHandler");
+    }
+
+    @Test
+    @DisplayName("@OnEvent 핸들러는 인증 대기 중이면 보관되었다가 인증 후 호출된다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void onEvent_IsGatedUntilAuthenticated() throws Exception {
+        ArgumentCaptor<DataListener> listener = ArgumentCaptor.forClass(DataListener.class);
+        verify(server).addEventListener(eq("joinRoom"), eq(String.class), listener.capture());
+
+        SocketAuthGate.hold(client);
+        listener.getValue().onData(client, "room-1", null);
+        assertThat(handler.calls).isEmpty();
+
+        SocketAuthGate.open(client);
+        assertThat(handler.calls).containsExactly("joinRoom:room-1");
+    }
+
+    @Test
+    @DisplayName("데이터 파라미터가 없는 핸들러와 @OnDisconnect 핸들러도 등록된다")
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void registersEventsWithoutDataAndDisconnect() throws Exception {
+        ArgumentCaptor<DataListener> listener = ArgumentCaptor.forClass(DataListener.class);
+        verify(server).addEventListener(eq("leaveRoomList"), eq(Object.class), listener.capture());
+        ArgumentCaptor<DisconnectListener> disconnect = ArgumentCaptor.forClass(DisconnectListener.class);
+        verify(server).addDisconnectListener(disconnect.capture());
+
+        listener.getValue().onData(client, null, null);
+        disconnect.getValue().onDisconnect(client);
+
+        assertThat(handler.calls).containsExactly("leaveRoomList", "disconnect");
+    }
+
+    static class SampleHandler {
+        private final List<String> calls = new ArrayList<>();
+
+        @OnEvent("joinRoom")
+        public void handleJoinRoom(SocketIOClient client, String roomId) {
+            calls.add("joinRoom:" + roomId);
+        }
+
+        @OnEvent("leaveRoomList")
+        public void handleLeaveRoomList(SocketIOClient client) {
+            calls.add("leaveRoomList");
+        }
+
+        @OnDisconnect
+        public void onDisconnect(SocketIOClient client) {
+            calls.add("disconnect");
+        }
+    }
+}
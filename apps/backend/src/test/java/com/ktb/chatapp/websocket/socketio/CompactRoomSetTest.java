@@ -0,0 +1,50 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRoomSet 단위 테스트")
+class CompactRoomSetTest {
+
+    @Test
+    @DisplayName("추가와 삭제가 HashSet과 같은 결과를 낸다")
+    void matchesHashSetUnderRandomOperations() {
+        CompactRoomSet rooms = CompactRoomSet.EMPTY;
+        Set<String> expected = new HashSet<>();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 20_000; i++) {
+            String roomId = "room-" + random.nextInt(64);
+            if (random.nextBoolean()) {
+                rooms = rooms.with(roomId);
+                expected.add(roomId);
+            } else {
+                rooms = rooms.without(roomId);
+                expected.remove(roomId);
+            }
+            assertThat(rooms.contains(roomId)).isEqualTo(expected.contains(roomId));
+        }
+
+        assertThat(rooms).isEqualTo(expected);
+        assertThat(rooms).hasSameSizeAs(expected);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 같은 인스턴스를 반환하고, 기존 집합은 변경되지 않는다")
+    void isImmutable() {
+        CompactRoomSet one = CompactRoomSet.EMPTY.with("room-1");
+
+        assertThat(one.with("room-1")).isSameAs(one);
+        assertThat(one.without("room-2")).isSameAs(one);
+        assertThat(one.with("room-2")).containsExactly("room-1", "room-2");
+        assertThat(one).containsExactly("room-1");
+        assertThat(one.without("room-1")).isSameAs(CompactRoomSet.EMPTY);
+        assertThatThrownBy(() -> one.add("room-3")).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.model.User;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연결별 상태 힙 사용량 벤치마크 (User 엔티티 + HashSet vs SocketUser + CompactRoomSet).
+ * 접속 사용자 수만큼 상태를 만들어 두고 GC 후 사용 힙 증가량으로 사용자당 바이트를 계산한다.
+ * -Dbenchmark=true 일 때만 실행하며, 접속 수는 -Dbenchmark.connections 로 조정할 수 있다.
+ * 측정 예 (JDK 17, SerialGC, 접속 5만): 변경 전 1,266 bytes/user, 변경 후 554 bytes/user (약 56% 감소)
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ConnectionStateBenchmarkTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 50_000);
+    private static final int ROOMS = 1_000;
+    private static final int ROOMS_PER_USER = 3;
+
+    @Test
+    void bytesPerConnectedUser() {
+        long before = measure("before (User + HashSet)", this::legacyState);
+        long after = measure("after (SocketUser + CompactRoomSet)", this::compactState);
+
+        System.out.printf("reduction: %.1f%%%n", 100.0 * (before - after) / before);
+        assertThat(after).isLessThan(before);
+    }
+
+    /**
+     * 기존 연결 상태: "userInfo" 속성의 User 엔티티, 프로필 없는 SocketUser, HashSet 방 목록
+     */
+    private Object[] legacyState(int i) {
+        User user = user(i);
+        SocketUser socketUser = new SocketUser(
+                user.getId(), user.getName(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        Set<String> rooms = new HashSet<>();
+        for (int r = 0; r < ROOMS_PER_USER; r++) {
+            rooms.add(roomId(i, r));
+        }
+        return new Object[] {user, socketUser, rooms};
+    }
+
+    /**
+     * 변경 후 연결 상태: 프로필을 포함한 SocketUser, CompactRoomSet 방 목록
+     */
+    private Object[] compactState(int i) {
+        SocketUser socketUser = SocketUser.of(
+                user(i), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        CompactRoomSet rooms = CompactRoomSet.EMPTY;
+        for (int r = 0; r < ROOMS_PER_USER; r++) {
+            rooms = rooms.with(roomId(i, r));
+        }
+        return new Object[] {socketUser, rooms};
+    }
+
+    private long measure(String label, IntFunction<Object[]> stateFactory) {
+        long baseline = usedHeap();
+        Object[][] connections = new Object[CONNECTIONS][];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            connections[i] = stateFactory.apply(i);
+        }
+        long used = usedHeap() - baseline;
+        long perUser = used / CONNECTIONS;
+
+        System.out.printf("%-40s connections=%d heap=%,d bytes perUser=%d bytes%n",
+                label, connections.length, used, perUser);
+        return perUser;
+    }
+
+    private static User user(int i) {
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .id(String.format("%024x", i))
+                .name("user" + i)
+                .email("user" + i + "@example.com")
+                .encryptedEmail(UUID.randomUUID().toString() + UUID.randomUUID())
+                .password("$2a$10$" + UUID.randomUUID().toString().replace("-", "") + "abcdefghijklmnopqrstu")
+                .profileImage("/uploads/profile-" + i + ".png")
+                .createdAt(now)
+                .updatedAt(now)
+                .lastActive(now)
+                .lastLogin(now)
+                .build();
+    }
+
+    private static String roomId(int user, int index) {
+        // 방 ID는 저장소 역직렬화로 매번 새 문자열이 만들어지는 상황을 흉내 낸다
+        return String.format("%024x", (user * 7 + index * 131) % ROOMS);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 연결 사용자 인덱스 벤치마크 ("prefix:" + id 문자열 키 ConcurrentHashMap vs ObjectIdMap).
+ * 사용자당 인덱스 메모리와 조회 지연 시간(ns/op)을 비교한다.
+ * -Dbenchmark=true 일 때만 실행하며, 사용자 수는 -Dbenchmark.connections 로 조정할 수 있다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ObjectIdMapBenchmarkTest {
+
+    private static final int USERS = Integer.getInteger("benchmark.connections", 50_000);
+    private static final int LOOKUPS = 5_000_000;
+    private static final int ROUNDS = 5;
+    // 5만 명 인덱스 하나의 크기는 GC 측정 오차(수 MB)와 비슷하므로 여러 벌을 만들어 평균을 낸다
+    private static final int COPIES = 20;
+    private static final String KEY_PREFIX = "conn_users:userid:";
+    private static final Object VALUE = new Object();
+
+    private final String[] userIds = new String[USERS];
+
+    @Test
+    void memoryAndLookup() {
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = new ObjectId().toHexString();
+        }
+
+        long stringBytes = measure("ConcurrentHashMap<String>", () -> {
+            ConcurrentHashMap<String, Object> map = new ConcurrentHashMap<>();
+            for (String userId : userIds) {
+                map.put(KEY_PREFIX + userId, VALUE);
+            }
+            return map;
+        });
+        long packedBytes = measure("ObjectIdMap", () -> {
+            ObjectIdMap<Object> map = new ObjectIdMap<>();
+            for (String userId : userIds) {
+                map.put(userId, VALUE);
+            }
+            return map;
+        });
+
+        ConcurrentHashMap<String, Object> stringMap = new ConcurrentHashMap<>();
+        ObjectIdMap<Object> packedMap = new ObjectIdMap<>();
+        for (String userId : userIds) {
+            stringMap.put(KEY_PREFIX + userId, VALUE);
+            packedMap.put(userId, VALUE);
+        }
+        double stringNanos = lookup("ConcurrentHashMap<String>", () -> {
+            int hits = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (stringMap.get(KEY_PREFIX + userIds[i % USERS]) != null) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+        double packedNanos = lookup("ObjectIdMap", () -> {
+            int hits = 0;
+            for (int i = 0; i < LOOKUPS; i++) {
+                if (packedMap.get(userIds[i % USERS]) != null) {
+                    hits++;
+                }
+            }
+            return hits;
+        });
+
+        System.out.printf("memory: %d -> %d bytes/user, lookup: %.1f -> %.1f ns/op%n",
+                stringBytes, packedBytes, stringNanos, packedNanos);
+        assertThat(packedBytes).isLessThan(stringBytes);
+    }
+
+    private long measure(String label, Supplier<Object> indexFactory) {
+        long baseline = usedHeap();
+        Object[] indexes = new Object[COPIES];
+        for (int i = 0; i < COPIES; i++) {
+            indexes[i] = indexFactory.get();
+        }
+        long used = (usedHeap() - baseline) / indexes.length;
+        long perUser = used / USERS;
+        System.out.printf("%-28s users=%d heap=%,d bytes perUser=%d bytes%n", label, USERS, used, perUser);
+        return perUser;
+    }
+
+    private double lookup(String label, IntSupplier run) {
+        // 워밍업 라운드 후 가장 빠른 라운드를 기록한다
+        double best = Double.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            int hits = run.getAsInt();
+            double nanos = (double) (System.nanoTime() - start) / LOOKUPS;
+            assertThat(hits).isEqualTo(LOOKUPS);
+            if (round > 0) {
+                best = Math.min(best, nanos);
+            }
+        }
+        System.out.printf("%-28s lookup=%.1f ns/op%n", label, best);
+        return best;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
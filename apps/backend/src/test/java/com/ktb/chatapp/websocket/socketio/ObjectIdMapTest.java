@@ -0,0 +1,72 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ObjectIdMap 단위 테스트")
+class ObjectIdMapTest {
+
+    @Test
+    @DisplayName("추가, 갱신, 삭제가 HashMap과 같은 결과를 낸다")
+    void matchesHashMapUnderRandomOperations() {
+        ObjectIdMap<Integer> map = new ObjectIdMap<>();
+        Map<String, Integer> expected = new HashMap<>();
+        Random random = new Random(11);
+        String[] ids = new String[2_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i % 10 == 0 ? "user-" + i : new ObjectId().toHexString();
+        }
+
+        for (int i = 0; i < 200_000; i++) {
+            String id = ids[random.nextInt(ids.length)];
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    map.put(id, i);
+                    expected.put(id, i);
+                }
+                case 1 -> assertThat(map.remove(id)).isEqualTo(expected.remove(id));
+                default -> assertThat(map.get(id)).isEqualTo(expected.get(id));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (String id : ids) {
+            assertThat(map.get(id)).isEqualTo(expected.get(id));
+        }
+    }
+
+    @Test
+    @DisplayName("update는 null을 반환하면 항목을 삭제하고 이전 값을 돌려준다")
+    void update_RemovesEntryWhenNull() {
+        ObjectIdMap<String> map = new ObjectIdMap<>();
+        String id = new ObjectId().toHexString();
+
+        assertThat(map.update(id, current -> current == null ? "a" : current + "b")).isNull();
+        assertThat(map.update(id, current -> current == null ? "a" : current + "b")).isEqualTo("a");
+        assertThat(map.get(id)).isEqualTo("ab");
+
+        assertThat(map.update(id, current -> null)).isEqualTo("ab");
+        assertThat(map.get(id)).isNull();
+        assertThat(map.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("대문자 16진 ID는 소문자 ID와 다른 키로 취급한다")
+    void upperCaseIdIsDistinctKey() {
+        ObjectIdMap<String> map = new ObjectIdMap<>();
+        String id = new ObjectId().toHexString();
+
+        map.put(id, "lower");
+        map.put(id.toUpperCase(), "upper");
+
+        assertThat(map.get(id)).isEqualTo("lower");
+        assertThat(map.get(id.toUpperCase())).isEqualTo("upper");
+        assertThat(map.size()).isEqualTo(2);
+    }
+}
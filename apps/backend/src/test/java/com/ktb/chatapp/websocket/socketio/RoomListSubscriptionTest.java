@@ -0,0 +1,56 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.dto.RoomListDeltaResponse;
+import com.ktb.chatapp.dto.RoomListSubscribeRequest;
+import com.ktb.chatapp.util.NGramTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RoomListSubscription 단위 테스트")
+class RoomListSubscriptionTest {
+
+    @Test
+    @DisplayName("검색어가 있으면 이름이 일치하는 방의 델타만 받는다")
+    void accepts_FiltersBySearch() {
+        RoomListSubscription subscription =
+                RoomListSubscription.from(new RoomListSubscribeRequest("부트 캠프", null, null));
+
+        assertThat(accepts(subscription, RoomListDeltaResponse.CREATED, "KTB 부트캠프 잡담방")).isTrue();
+        assertThat(accepts(subscription, RoomListDeltaResponse.UPDATED, "알고리즘 스터디")).isFalse();
+    }
+
+    @Test
+    @DisplayName("REST 검색과 같이 연속 부분 문자열이 아니어도 gram이 절반 이상 일치하면 받는다")
+    void accepts_UsesSameGramCriteriaAsSearch() {
+        RoomListSubscription subscription =
+                RoomListSubscription.from(new RoomListSubscribeRequest("스프링부트 스터디", null, null));
+
+        assertThat(accepts(subscription, RoomListDeltaResponse.UPDATED, "스프링 스터디")).isTrue();
+        assertThat(accepts(subscription, RoomListDeltaResponse.UPDATED, "스프링 모임")).isFalse();
+    }
+
+    @Test
+    @DisplayName("최신순이 아닌 정렬 구독은 생성 델타를 받지 않고 변경 델타만 받는다")
+    void accepts_SkipsCreatedDeltaForOtherSorts() {
+        RoomListSubscription subscription =
+                RoomListSubscription.from(new RoomListSubscribeRequest(null, "participantsCount", "desc"));
+
+        assertThat(accepts(subscription, RoomListDeltaResponse.CREATED, "새 방")).isFalse();
+        assertThat(accepts(subscription, RoomListDeltaResponse.UPDATED, "새 방")).isTrue();
+    }
+
+    @Test
+    @DisplayName("조건 없이 구독하면 최신순 전체 목록으로 간주한다")
+    void from_DefaultsToNewestFirst() {
+        RoomListSubscription subscription = RoomListSubscription.from(null);
+
+        assertThat(accepts(subscription, RoomListDeltaResponse.CREATED, "새 방")).isTrue();
+    }
+
+    private static boolean accepts(RoomListSubscription subscription, String type, String name) {
+        RoomListDeltaResponse delta = new RoomListDeltaResponse(type, "room-1", name, false, 1, 0, null);
+        return subscription.accepts(delta, NGramTokenizer.indexGramSet(name));
+    }
+}
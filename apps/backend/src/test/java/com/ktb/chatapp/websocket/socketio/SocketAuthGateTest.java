@@ -0,0 +1,108 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("SocketAuthGate 단위 테스트")
+class SocketAuthGateTest {
+
+    private final SocketIOClient client = mock(SocketIOClient.class);
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final List<String> handled = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(client.get(anyString())).thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(client).set(anyString(), any());
+        doAnswer(invocation -> attributes.remove(invocation.<String>getArgument(0)))
+                .when(client).del(anyString());
+    }
+
+    @Test
+    @DisplayName("인증 대기 중 도착한 이벤트는 인증 완료 후 도착 순서대로 처리된다")
+    void open_ReplaysDeferredEventsInOrder() {
+        SocketAuthGate.hold(client);
+
+        SocketAuthGate.dispatch(client, () -> handled.add("joinRoom"));
+        SocketAuthGate.dispatch(client, () -> handled.add("fetchPreviousMessages"));
+        assertThat(handled).isEmpty();
+
+        SocketAuthGate.open(client);
+        assertThat(handled).containsExactly("joinRoom", "fetchPreviousMessages");
+
+        SocketAuthGate.dispatch(client, () -> handled.add("chatMessage"));
+        assertThat(handled).containsExactly("joinRoom", "fetchPreviousMessages", "chatMessage");
+    }
+
+    @Test
+    @DisplayName("재생 중 도착한 이벤트는 보관된 이벤트를 앞지르지 않는다")
+    void open_KeepsOrderForEventsArrivingDuringReplay() {
+        SocketAuthGate.hold(client);
+        SocketAuthGate.dispatch(client, () -> {
+            handled.add("joinRoom");
+            // 재생 도중 이벤트 루프에서 새 이벤트가 도착한 상황
+            SocketAuthGate.dispatch(client, () -> handled.add("chatMessage"));
+            handled.add("joinRoom:done");
+        });
+        SocketAuthGate.dispatch(client, () -> handled.add("fetchPreviousMessages"));
+
+        SocketAuthGate.open(client);
+
+        assertThat(handled).containsExactly("joinRoom", "joinRoom:done", "fetchPreviousMessages", "chatMessage");
+    }
+
+    @Test
+    @DisplayName("인증에 실패하면 보관한 이벤트를 버린다")
+    void reject_DropsDeferredEvents() {
+        SocketAuthGate.hold(client);
+        SocketAuthGate.dispatch(client, () -> handled.add("joinRoom"));
+
+        SocketAuthGate.reject(client);
+        SocketAuthGate.open(client);
+
+        assertThat(handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인증 전 대기열이 가득 차면 이벤트를 버리고 연결을 끊는다")
+    void dispatch_DisconnectsOnOverflow() {
+        SocketAuthGate.hold(client);
+        for (int i = 0; i < SocketAuthGate.MAX_DEFERRED; i++) {
+            SocketAuthGate.dispatch(client, () -> handled.add("chatMessage"));
+        }
+        verify(client, never()).disconnect();
+
+        SocketAuthGate.dispatch(client, () -> handled.add("chatMessage"));
+        verify(client).sendEvent(eq(SocketIOEvents.ERROR), any(Object.class));
+        verify(client).disconnect();
+
+        SocketAuthGate.dispatch(client, () -> handled.add("chatMessage"));
+        SocketAuthGate.open(client);
+        assertThat(handled).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인증 대기가 없는 소켓은 이벤트를 바로 처리한다")
+    void dispatch_PassesThroughWithoutGate() {
+        SocketAuthGate.dispatch(client, () -> handled.add("joinRoom"));
+
+        assertThat(handled).containsExactly("joinRoom");
+    }
+}
@@ -3,14 +3,14 @@ package com.ktb.chatapp.websocket.socketio.handler;
 import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.dto.ChatMessageRequest;
-import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
 import com.ktb.chatapp.service.RateLimitCheckResult;
 import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.service.RoomActivityCounter;
 import com.ktb.chatapp.service.SessionService;
 import com.ktb.chatapp.service.SessionValidationResult;
 import com.ktb.chatapp.util.BannedWordChecker;
@@ -20,7 +20,6 @@ import com.ktb.chatapp.websocket.socketio.UserRooms;
 import com.ktb.chatapp.websocket.socketio.ai.AiService;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 
@@ -44,7 +43,7 @@ class ChatMessageHandlerTest {
     @Mock private EventExecutorGroup socketBizExecutor;
     @Mock private EventExecutorGroup socketAuxExecutor;
     @Mock private MessageRepository messageRepository;
-    @Mock private RoomRepository roomRepository;
+    @Mock private RoomAccessGrants roomAccessGrants;
     @Mock private UserRepository userRepository;
     @Mock private FileRepository fileRepository;
     @Mock private AiService aiService;
@@ -52,6 +51,7 @@ class ChatMessageHandlerTest {
     @Mock private BannedWordChecker bannedWordChecker;
     @Mock private RateLimitService rateLimitService;
     @Mock private UserRooms userRooms;
+    @Mock private RoomActivityCounter roomActivityCounter;
     private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     private ChatMessageHandler handler;
@@ -64,7 +64,7 @@ class ChatMessageHandlerTest {
                         socketBizExecutor,
                         socketAuxExecutor,
                         messageRepository,
-                        roomRepository,
+                        roomAccessGrants,
                         userRepository,
                         fileRepository,
                         aiService,
@@ -72,7 +72,8 @@ class ChatMessageHandlerTest {
                         bannedWordChecker,
                         rateLimitService,
                         meterRegistry,
-                        userRooms);
+                        userRooms,
+                        roomActivityCounter);
     }
 
     @Test
@@ -93,10 +94,7 @@ class ChatMessageHandlerTest {
         user.setId("user-1");
         when(userRepository.findById("user-1")).thenReturn(Optional.of(user));
 
-        Room room = new Room();
-        room.setId("room-1");
-        room.setParticipantIds(new HashSet<>(java.util.List.of("user-1")));
-        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+        when(roomAccessGrants.checkAccess("room-1", "user-1")).thenReturn(true);
 
         ChatMessageRequest request =
                 ChatMessageRequest.builder()
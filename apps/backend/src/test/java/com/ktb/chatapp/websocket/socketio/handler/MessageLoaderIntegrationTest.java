@@ -18,6 +18,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
@@ -25,9 +26,12 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @SpringBootTest
 @Import(MongoTestContainer.class)
@@ -179,6 +183,83 @@ class MessageLoaderIntegrationTest {
         assertThat(response.isHasMore()).isFalse();
     }
 
+    @Test
+    @DisplayName("발신자 스냅샷이 있는 메시지는 사용자 조회 없이 로드")
+    void loadMessages_withSenderSnapshot_shouldNotQueryUsers() {
+        // Given: 같은 사용자가 보낸 메시지 100개씩, 스냅샷 있는 방/없는 방
+        String snapshotRoomId = seedSnapshotRoom();
+        IntStream.range(0, 100).forEach(i -> createAndSaveMessage());
+
+        // 스냅샷 저장 이후 프로필 변경 (갱신 전 상태)
+        User sender = userRepository.findById(userId).orElseThrow();
+        String renamed = sender.getName() + "-renamed";
+        sender.setName(renamed);
+        userRepository.save(sender);
+
+        UserRepository trackedUsers = mock(UserRepository.class, delegatesTo(userRepository));
+        MessageLoader snapshotLoader = new MessageLoader(
+                messageRepository,
+                trackedUsers,
+                fileRepository,
+                new MessageResponseMapper(fileRepository),
+                messageReadStatusService
+        );
+
+        // When
+        FetchMessagesResponse snapshotResponse =
+                snapshotLoader.loadMessages(new FetchMessagesRequest(snapshotRoomId, 100, null), userId);
+        FetchMessagesResponse joinResponse =
+                messageLoader.loadMessages(new FetchMessagesRequest(roomId, 100, null), userId);
+
+        // Then: 스냅샷 방은 사용자 저장소를 조회하지 않고 저장된 발신자 정보를 사용
+        verifyNoInteractions(trackedUsers);
+        assertThat(snapshotResponse.getMessages()).hasSize(100)
+                .allSatisfy(message -> {
+                    assertThat(message.getSender().getId()).isEqualTo(userId);
+                    assertThat(message.getSender().getName()).isNotEqualTo(renamed);
+                });
+        // 스냅샷이 없는 방은 현재 사용자 정보를 조인
+        assertThat(joinResponse.getMessages()).hasSize(100)
+                .allSatisfy(message -> assertThat(message.getSender().getName()).isEqualTo(renamed));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("스냅샷 로드와 사용자 조인 로드 시간 비교")
+    void benchmarkSnapshotVersusJoin() {
+        String snapshotRoomId = seedSnapshotRoom();
+        IntStream.range(0, 100).forEach(i -> createAndSaveMessage());
+
+        // 워밍업 후 측정
+        FetchMessagesRequest snapshotRequest = new FetchMessagesRequest(snapshotRoomId, 100, null);
+        FetchMessagesRequest joinRequest = new FetchMessagesRequest(roomId, 100, null);
+        messageLoader.loadMessages(snapshotRequest, userId);
+        messageLoader.loadMessages(joinRequest, userId);
+
+        long snapshotStart = System.nanoTime();
+        messageLoader.loadMessages(snapshotRequest, userId);
+        long snapshotElapsed = System.nanoTime() - snapshotStart;
+
+        long joinStart = System.nanoTime();
+        messageLoader.loadMessages(joinRequest, userId);
+        long joinElapsed = System.nanoTime() - joinStart;
+
+        System.out.printf("history load (100 messages) - snapshot: %d us, join: %d us%n",
+                snapshotElapsed / 1_000, joinElapsed / 1_000);
+    }
+
+    private String seedSnapshotRoom() {
+        User sender = userRepository.findById(userId).orElseThrow();
+        String snapshotRoomId = faker.internet().uuid();
+        IntStream.range(0, 100).forEach(i -> {
+            Message message = createAndSaveMessage();
+            message.setRoomId(snapshotRoomId);
+            message.setSenderSnapshot(Message.SenderSnapshot.from(sender));
+            messageRepository.save(message);
+        });
+        return snapshotRoomId;
+    }
+
     private Message createAndSaveMessage() {
         Message message = new Message();
         message.setRoomId(roomId);
@@ -178,4 +178,66 @@ class MessageLoaderTest {
         assertThat(result.getMessages()).isEmpty();
         assertThat(result.isHasMore()).isFalse();
     }
+    
+    @Test
+    @DisplayName("loadMessagesAfter: 이후 메시지를 오름차순으로 반환하고 초과분은 hasMore로 표시")
+    void loadMessagesAfter_shouldReturnMissedMessagesInAscendingOrder() {
+        // Given: 마지막으로 본 메시지 이후 놓친 메시지 10개 중 5개만 반환
+        List<Message> missed = testMessages.subList(40, 45);
+        LocalDateTime lastSeen = testMessages.get(39).getTimestamp();
+        Slice<Message> slice = new SliceImpl<>(missed, PageRequest.of(0, 5), true);
+        
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampAfter(
+                eq(roomId), eq(false), eq(lastSeen), any(Pageable.class)))
+                .thenReturn(slice);
+        
+        // When
+        FetchMessagesResponse result = messageLoader.loadMessagesAfter(roomId, lastSeen, 5, userId);
+        
+        // Then
+        assertThat(result.getMessages()).hasSize(5);
+        assertThat(result.isHasMore()).isTrue();
+        verifyAscending(result);
+    }
+    
+    @Test
+    @DisplayName("loadMessagesAfter: 놓친 메시지가 없으면 읽음 처리 없이 빈 응답")
+    void loadMessagesAfter_shouldSkipReadStatusWhenNothingMissed() {
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampAfter(
+                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 5), false));
+        
+        FetchMessagesResponse result = messageLoader.loadMessagesAfter(roomId, LocalDateTime.now(), 5, userId);
+        
+        assertThat(result.getMessages()).isEmpty();
+        assertThat(result.isHasMore()).isFalse();
+        verify(messageReadStatusService, never()).updateReadStatus(anyList(), anyString());
+    }
+    
+    @Test
+    @DisplayName("loadCompactMessages: 발신자는 ID로만 참조하고 사용자 사전은 발신자당 한 번만 포함")
+    void loadCompactMessages_shouldReferenceSendersThroughDictionary() {
+        // Given: 같은 발신자의 메시지 30개 (스냅샷 포함)
+        var snapshot = Message.SenderSnapshot.builder()
+                .name("tester")
+                .profileImage("")
+                .version(1)
+                .build();
+        List<Message> messages = testMessages.subList(20, 50);
+        messages.forEach(message -> message.setSenderSnapshot(snapshot));
+        
+        when(messageRepository.findByRoomIdAndIsDeletedAndTimestampBefore(
+                eq(roomId), eq(false), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(getMessagePage(messages));
+        
+        // When
+        var result = messageLoader.loadCompactMessages(new FetchMessagesRequest(roomId, 30, null), userId);
+        
+        // Then
+        assertThat(result.getMessages()).hasSize(30)
+                .allSatisfy(message -> assertThat(message.getSender()).isEqualTo(userId));
+        assertThat(result.getUsers()).containsOnlyKeys(userId);
+        assertThat(result.getUsers().get(userId).getName()).isEqualTo("tester");
+        verify(userRepository, never()).findByIdIn(any());
+    }
 }
@@ -0,0 +1,189 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.ChatMessageRequest;
+import com.ktb.chatapp.dto.EventEnvelope;
+import com.ktb.chatapp.dto.MessageResponse;
+import com.ktb.chatapp.dto.UserProfilePayload;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.RateLimitService;
+import com.ktb.chatapp.service.RoomAccessGrants;
+import com.ktb.chatapp.service.RoomActivityCounter;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.RedisEventListener;
+import com.ktb.chatapp.websocket.socketio.RedisEventPublisher;
+import com.ktb.chatapp.websocket.socketio.RedisTopicRouter;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import com.ktb.chatapp.websocket.socketio.UserRooms;
+import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.Codec;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.USER_PROFILE_UPDATED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 연결 중 프로필 변경 → 메시지 전송 → 히스토리 조회 흐름 테스트.
+ * 연결 시점 프로필로 스냅샷을 저장하면 변경 이후 메시지가 이전 이름으로 영구 저장된다.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("프로필 변경 후 발신자 스냅샷 테스트")
+class SenderProfileRefreshTest {
+
+    private static final String USER_ID = new ObjectId().toString();
+    private static final String ROOM_ID = "room-1";
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RTopic topic;
+    @Mock private BroadcastOperations userSockets;
+    @Mock private UserRooms userRooms;
+
+    @Mock private RedisEventPublisher redisEventPublisher;
+    @Mock private EventExecutorGroup socketBizExecutor;
+    @Mock private EventExecutorGroup socketAuxExecutor;
+    @Mock private MessageRepository messageRepository;
+    @Mock private RoomAccessGrants roomAccessGrants;
+    @Mock private UserRepository userRepository;
+    @Mock private FileRepository fileRepository;
+    @Mock private AiService aiService;
+    @Mock private SessionService sessionService;
+    @Mock private BannedWordChecker bannedWordChecker;
+    @Mock private RateLimitService rateLimitService;
+    @Mock private RoomActivityCounter roomActivityCounter;
+
+    private final Map<String, Object> attributes = new HashMap<>();
+    private final ConnectedUsers connectedUsers = new ConnectedUsers();
+    private SocketIOClient client;
+    private ChatMessageHandler chatMessageHandler;
+    private MessageListener<EventEnvelope<?>> redisListener;
+
+    @BeforeEach
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void setUp() {
+        client = mock(SocketIOClient.class);
+        when(client.get(anyString())).thenAnswer(invocation -> attributes.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(client).set(anyString(), any());
+
+        when(redissonClient.getTopic(anyString())).thenReturn(topic);
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+        when(socketIOServer.getRoomOperations("user:" + USER_ID)).thenReturn(userSockets);
+        when(userSockets.getClients()).thenReturn(List.of(client));
+        new RedisEventListener(socketIOServer, redissonClient, new RedisTopicRouter(), userRooms, connectedUsers)
+                .subscribeAllTopics();
+        ArgumentCaptor<MessageListener> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(topic, atLeastOnce()).addListener(eq(EventEnvelope.class), listenerCaptor.capture());
+        redisListener = listenerCaptor.getValue();
+
+        chatMessageHandler = new ChatMessageHandler(
+                redisEventPublisher,
+                socketBizExecutor,
+                socketAuxExecutor,
+                messageRepository,
+                roomAccessGrants,
+                userRepository,
+                fileRepository,
+                aiService,
+                sessionService,
+                bannedWordChecker,
+                rateLimitService,
+                new SimpleMeterRegistry(),
+                userRooms,
+                roomActivityCounter);
+        when(socketBizExecutor.submit(any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        });
+        when(sessionService.validateSession(eq(USER_ID), any())).thenReturn(SessionValidationResult.valid(null));
+        when(rateLimitService.checkRateLimit(eq(USER_ID), anyInt(), any()))
+                .thenReturn(RateLimitCheckResult.allowed(10000, 9999, 60, System.currentTimeMillis() / 1000 + 60, 60));
+        when(userRooms.isInRoom(USER_ID, ROOM_ID)).thenReturn(true);
+        when(messageRepository.save(any(Message.class))).thenAnswer(invocation -> {
+            Message message = invocation.getArgument(0);
+            message.setId(new ObjectId().toString());
+            return message;
+        });
+    }
+
+    @Test
+    @DisplayName("연결 중 프로필을 바꾼 뒤 보낸 메시지는 히스토리에서 새 이름과 이미지로 보인다")
+    void sendAfterProfileChange_StoresNewSnapshot() {
+        SocketUser connected = SocketUser.of(User.builder()
+                .id(USER_ID)
+                .name("before")
+                .email("user@example.com")
+                .profileImage("/images/old.png")
+                .build(), "session-1", "socket-1");
+        attributes.put("user", connected);
+        connectedUsers.set(USER_ID, connected);
+
+        redisListener.onMessage("chat:session", new EventEnvelope<>(USER_PROFILE_UPDATED, "chat:session",
+                new UserProfilePayload(USER_ID, "after", "/images/new.png", 1L)));
+        chatMessageHandler.handleChatMessage(client, ChatMessageRequest.builder()
+                .room(ROOM_ID)
+                .type("text")
+                .content("hello")
+                .build());
+
+        ArgumentCaptor<Message> saved = ArgumentCaptor.forClass(Message.class);
+        verify(messageRepository).save(saved.capture());
+        assertThat(saved.getValue().getSenderSnapshot().getVersion()).isEqualTo(1L);
+
+        // 히스토리 조회는 사용자 조회 없이(sender=null) 저장된 스냅샷으로 발신자를 만든다
+        MessageResponse history = new MessageResponseMapper(fileRepository).mapToMessageResponse(saved.getValue(), null);
+        assertThat(history.getSender().getName()).isEqualTo("after");
+        assertThat(history.getSender().getProfileImage()).isEqualTo("/images/new.png");
+        assertThat(connectedUsers.get(USER_ID).profile().profileVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전 프로필 이벤트는 최신 연결 상태를 되돌리지 않는다")
+    void staleProfileEvent_DoesNotOverwriteNewerProfile() {
+        SocketUser connected = new SocketUser(USER_ID, "newest", "session-1", "socket-1",
+                new SocketUser.Profile("user@example.com", "/images/newest.png", 3L));
+        attributes.put("user", connected);
+
+        redisListener.onMessage("chat:session", new EventEnvelope<>(USER_PROFILE_UPDATED, "chat:session",
+                new UserProfilePayload(USER_ID, "older", "/images/older.png", 2L)));
+
+        assertThat(attributes.get("user")).isSameAs(connected);
+    }
+}
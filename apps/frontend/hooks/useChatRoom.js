@@ -52,6 +52,12 @@ export const useChatRoom = () => {
   const socketListenersAttachedRef = useRef(false);
   const incomingMessageQueueRef = useRef([]);
   const flushMessagesTimeoutRef = useRef(null);
+  // 참가자 목록 버전 (-1: 스냅샷 수신 전), 현재 방 기준으로만 유지
+  const participantsVersionRef = useRef(-1);
+  // 소켓 리스너는 한 번만 붙으므로 현재 방은 ref로 읽는다
+  const currentRoomIdRef = useRef(roomId);
+  // 마지막으로 받은 메시지 시각 (재연결 시 세션 재개 기준)
+  const lastMessageTimestampRef = useRef(0);
 
   const {
     connected,
@@ -98,6 +104,30 @@ export const useChatRoom = () => {
   // ---------------------------------------------------
   // ✅ 최적화 5: cleanup 최소화 + 중복 방지
   // ---------------------------------------------------
+  // 방을 옮긴 직후 도착한 이전 방의 참가자 이벤트는 무시한다
+  useEffect(() => {
+    currentRoomIdRef.current = roomId;
+    participantsVersionRef.current = -1;
+  }, [roomId]);
+
+  const applyParticipantsSnapshot = useCallback((targetRoomId, participants, version) => {
+    if (targetRoomId !== currentRoomIdRef.current) return;
+    if (!Array.isArray(participants)) return;
+    participantsVersionRef.current = typeof version === "number" ? version : -1;
+    setRoom((prev) => ({
+      ...prev,
+      participants,
+    }));
+  }, []);
+
+  const handleJoinSnapshot = useCallback(
+    (data) => {
+      if (!mountedRef.current || !data) return;
+      applyParticipantsSnapshot(data.roomId, data.participants, data.participantsVersion);
+    },
+    [applyParticipantsSnapshot]
+  );
+
   const cleanup = useCallback(
     (reason = "MANUAL") => {
       if (!mountedRef.current || !roomId) return;
@@ -114,10 +144,13 @@ export const useChatRoom = () => {
           socketRef.current.off("message");
           socketRef.current.off("previousMessages");
           socketRef.current.off("previousMessagesLoaded");
-          socketRef.current.off("participantsUpdate");
+          socketRef.current.off("joinRoomSuccess", handleJoinSnapshot);
+          socketRef.current.off("participantsSnapshot");
+          socketRef.current.off("participantsDelta");
           socketRef.current.off("messagesRead");
           socketRef.current.off("messageReactionUpdate");
           socketRef.current.off("session_ended");
+          socketRef.current.off("roomDeleted");
           socketRef.current.off("error");
         }
 
@@ -158,7 +191,7 @@ export const useChatRoom = () => {
         cleanupInProgressRef.current = false;
       }
     },
-    [roomId, socketRef, setMessages, setError, setLoading, setLoadingMessages]
+    [roomId, socketRef, setMessages, setError, setLoading, setLoadingMessages, handleJoinSnapshot]
   );
 
   const getConnectionState = useCallback(() => {
@@ -309,12 +342,40 @@ export const useChatRoom = () => {
     if (socketListenersAttachedRef.current) return;
     socketListenersAttachedRef.current = true;
 
-    socketRef.current.on("participantsUpdate", (participants) => {
-      if (!mountedRef.current) return;
-      setRoom((prev) => ({
-        ...prev,
-        participants: participants || [],
-      }));
+    socketRef.current.on("joinRoomSuccess", handleJoinSnapshot);
+
+    socketRef.current.on("participantsSnapshot", (snapshot) => {
+      if (!mountedRef.current || !snapshot) return;
+      applyParticipantsSnapshot(snapshot.roomId, snapshot.participants, snapshot.version);
+    });
+
+    socketRef.current.on("participantsDelta", (delta) => {
+      if (!mountedRef.current || !delta?.participant) return;
+      if (delta.roomId !== currentRoomIdRef.current) return;
+
+      const current = participantsVersionRef.current;
+      // 스냅샷 수신 전이거나 이미 반영된 버전은 무시
+      if (current < 0 || delta.version <= current) return;
+
+      // 중간 버전이 누락된 경우 전체 스냅샷을 다시 요청
+      if (delta.version !== current + 1) {
+        socketRef.current?.emit("fetchParticipants", delta.roomId);
+        return;
+      }
+
+      participantsVersionRef.current = delta.version;
+      const targetId = delta.participant.id;
+      setRoom((prev) => {
+        if (!prev) return prev;
+        const others = (prev.participants || []).filter(
+          (p) => (p.id || p._id) !== targetId
+        );
+        return {
+          ...prev,
+          participants:
+            delta.type === "added" ? [...others, delta.participant] : others,
+        };
+      });
     });
 
     socketRef.current.on(
@@ -387,6 +448,13 @@ export const useChatRoom = () => {
       router.replace("/?error=session_expired");
     });
 
+    // 휴면/빈 방이 보관되면 서버가 방에서 내보내므로 목록으로 돌아간다
+    socketRef.current.on("roomDeleted", (deletedRoomId) => {
+      if (!mountedRef.current || deletedRoomId !== currentRoomIdRef.current) return;
+      Toast.info("채팅방이 보관되어 목록으로 이동합니다.");
+      router.replace("/chat");
+    });
+
     socketRef.current.on("error", (err) => {
       if (!mountedRef.current) return;
       console.error("Socket error:", err);
@@ -410,6 +478,8 @@ export const useChatRoom = () => {
     enqueueIncomingMessage,
     runInIdle,
     messages.length,
+    handleJoinSnapshot,
+    applyParticipantsSnapshot,
   ]);
 
   const {
@@ -439,6 +509,38 @@ export const useChatRoom = () => {
     processMessages
   );
 
+  useEffect(() => {
+    const last = messages[messages.length - 1];
+    lastMessageTimestampRef.current = last?.timestamp
+      ? new Date(last.timestamp).getTime()
+      : 0;
+  }, [messages]);
+
+  const resumeSession = useCallback(() => {
+    return new Promise((resolve, reject) => {
+      const socket = socketRef.current;
+      if (!socket?.connected) {
+        reject(new Error("소켓 연결이 없습니다."));
+        return;
+      }
+
+      const timeout = setTimeout(() => {
+        socket.off("sessionResumed", handleResumed);
+        reject(new Error("세션 재개 시간 초과"));
+      }, 10000);
+
+      const handleResumed = (data) => {
+        clearTimeout(timeout);
+        resolve(data);
+      };
+
+      socket.once("sessionResumed", handleResumed);
+      socket.emit("resumeSession", {
+        rooms: [{ roomId, lastMessageTimestamp: lastMessageTimestampRef.current }],
+      });
+    });
+  }, [roomId, socketRef]);
+
   // 소켓 연결 모니터링 useEffect
   useEffect(() => {
     if (!socketRef.current || !currentUser) return;
@@ -485,11 +587,32 @@ export const useChatRoom = () => {
       setConnected(true);
       setError("");
 
-      if (roomId) {
+      if (!roomId) return;
+
+      const rejoin = () =>
         setupRoom().catch(() => {
           setError("채팅방 재연결에 실패했습니다.");
         });
+
+      // 초기화 전이면 전체 입장 절차 수행
+      if (!isInitialized || lastMessageTimestampRef.current <= 0) {
+        rejoin();
+        return;
       }
+
+      // 놓친 메시지만 받아오는 세션 재개, 불가능한 경우에만 재입장
+      resumeSession()
+        .then((result) => {
+          if (!mountedRef.current) return;
+          const resumed = result?.rooms?.find((r) => r.roomId === roomId);
+          if (!resumed || resumed.hasMore) {
+            rejoin();
+            return;
+          }
+          processMessages(resumed.messages || [], hasMoreMessages);
+          socketRef.current?.emit("fetchParticipants", roomId);
+        })
+        .catch(rejoin);
     };
 
     socketRef.current.on("connect", handleConnect);
@@ -510,7 +633,17 @@ export const useChatRoom = () => {
       socketRef.current.off("reconnecting", handleReconnecting);
       socketRef.current.off("reconnect", handleReconnectSuccess);
     };
-  }, [roomId, setupRoom, setConnected, currentUser, isInitialized, setError]);
+  }, [
+    roomId,
+    setupRoom,
+    setConnected,
+    currentUser,
+    isInitialized,
+    setError,
+    resumeSession,
+    processMessages,
+    hasMoreMessages,
+  ]);
 
   // 초기화 & 언마운트
   useEffect(() => {
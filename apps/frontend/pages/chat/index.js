@@ -195,7 +195,7 @@ const RoomRow = React.memo(
           <HStack gap="$050" alignItems="center">
             <GroupIcon />
             <Text typography="body2">
-              {room.participants?.length || 0}
+              {room.participantsCount ?? room.participants?.length ?? 0}
             </Text>
           </HStack>
         </Table.Cell>
@@ -235,7 +235,10 @@ const RoomRow = React.memo(
 
 function ChatRoomsComponent() {
   const router = useRouter();
-  const { user: currentUser } = useAuth();
+  const { user: currentUser, logout } = useAuth();
+  // 방 이름 검색어 (/chat?search=...), 목록 조회와 델타 구독에 같은 값을 사용
+  const searchTerm =
+    typeof router.query.search === "string" ? router.query.search.trim() : "";
   const [rooms, setRooms] = useState([]);
   const [error, setError] = useState(null);
   const [loading, setLoading] = useState(true);
@@ -258,6 +261,7 @@ function ChatRoomsComponent() {
   const connectionCheckTimerRef = useRef(null);
   const isLoadingRef = useRef(false);
   const previousRoomsRef = useRef([]);
+  const nextCursorRef = useRef(null);
   const lastLoadedPageRef = useRef(0);
 
   const getRetryDelay = useCallback((retryCount) => {
@@ -415,6 +419,8 @@ function ChatRoomsComponent() {
             pageSize,
             sortField: sorting[0]?.id,
             sortOrder: sorting[0]?.desc ? "desc" : "asc",
+            search: searchTerm || undefined,
+            cursor: isLoadingMore ? nextCursorRef.current ?? undefined : undefined,
           },
         });
 
@@ -433,6 +439,7 @@ function ChatRoomsComponent() {
           return data;
         });
 
+        nextCursorRef.current = metadata?.nextCursor ?? null;
         setHasMore(data.length === pageSize && metadata.hasMore);
 
         if (isInitialLoad) {
@@ -453,6 +460,7 @@ function ChatRoomsComponent() {
       pageIndex,
       pageSize,
       sorting,
+      searchTerm,
       isInitialLoad,
       attemptConnection,
       handleFetchError,
@@ -477,6 +485,8 @@ function ChatRoomsComponent() {
           pageSize,
           sortField: sorting[0]?.id,
           sortOrder: sorting[0]?.desc ? "desc" : "asc",
+          search: searchTerm || undefined,
+          cursor: nextCursorRef.current ?? undefined,
         },
       });
 
@@ -491,6 +501,7 @@ function ChatRoomsComponent() {
           return [...prev, ...uniqueNewRooms];
         });
 
+        nextCursorRef.current = metadata?.nextCursor ?? null;
         setHasMore(newRooms.length === pageSize && metadata.hasMore);
       }
     } catch (error) {
@@ -500,7 +511,15 @@ function ChatRoomsComponent() {
       isLoadingRef.current = false;
       Toast.info("추가 채팅방을 불러왔습니다.");
     }
-  }, [loadingMore, hasMore, rooms.length, pageSize, sorting, handleFetchError]);
+  }, [
+    loadingMore,
+    hasMore,
+    rooms.length,
+    pageSize,
+    sorting,
+    searchTerm,
+    handleFetchError,
+  ]);
 
   // 페이지 인덱스 변경 시 데이터 로드
   useEffect(() => {
@@ -593,7 +612,6 @@ function ChatRoomsComponent() {
         const handlers = {
           connect: () => {
             setConnectionStatus(CONNECTION_STATUS.CONNECTED);
-            socket.emit("joinRoomList");
           },
           disconnect: (reason) => {
             setConnectionStatus(CONNECTION_STATUS.DISCONNECTED);
@@ -601,13 +619,29 @@ function ChatRoomsComponent() {
           error: (error) => {
             setConnectionStatus(CONNECTION_STATUS.ERROR);
           },
-          roomCreated: (newRoom) => {
+          roomListDelta: (delta) => {
+            const { type, ...roomFields } = delta;
             setRooms((prev) => {
-              const updatedRooms = [newRoom, ...prev];
+              let updatedRooms;
+              if (type === "created") {
+                if (prev.some((room) => room._id === roomFields._id)) {
+                  return prev;
+                }
+                updatedRooms = [roomFields, ...prev];
+              } else {
+                updatedRooms = prev.map((room) =>
+                  room._id === roomFields._id ? { ...room, ...roomFields } : room
+                );
+              }
               previousRoomsRef.current = updatedRooms;
               return updatedRooms;
             });
           },
+          // 연결 후 세션 검증에 실패하거나 다른 곳에서 로그인하면 서버가 보낸다
+          session_ended: () => {
+            logout();
+            router.replace("/?error=session_expired");
+          },
           roomDeleted: (roomId) => {
             setRooms((prev) => {
               const updatedRooms = prev.filter((room) => room._id !== roomId);
@@ -633,8 +667,8 @@ function ChatRoomsComponent() {
         if (!isSubscribed) return;
 
         if (
-          error.message?.includes("Authentication required") ||
-          error.message?.includes("Invalid session")
+          error.message?.includes("Authentication error") ||
+          error.message?.includes("Invalid token")
         ) {
           // Auth error will be handled by the useAuth context
         }
@@ -654,6 +688,18 @@ function ChatRoomsComponent() {
     };
   }, [currentUser]);
 
+  // 목록 화면이 열려 있는 동안만 현재 검색어/정렬 조건으로 방 목록 델타 구독
+  useEffect(() => {
+    const socket = socketRef.current;
+    if (!socket || connectionStatus !== CONNECTION_STATUS.CONNECTED) return;
+
+    socket.emit("joinRoomList", {
+      search: searchTerm || undefined,
+      sortField: sorting[0]?.id,
+      sortOrder: sorting[0]?.desc ? "desc" : "asc",
+    });
+  }, [searchTerm, sorting, connectionStatus]);
+
   const handleJoinRoom = useCallback(
     async (roomId) => {
       if (connectionStatus !== CONNECTION_STATUS.CONNECTED) {
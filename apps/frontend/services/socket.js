@@ -6,6 +6,8 @@ const CLEANUP_REASONS = {
   RECONNECT: "reconnect",
 };
 
+const AUTH_REJECTIONS = ["Authentication error", "Invalid token"];
+
 class SocketService {
   constructor() {
     this.socket = null;
@@ -85,7 +87,10 @@ class SocketService {
 
     this.socket.on("connect_error", (error) => {
       console.log("Socket connection error:", error.message);
-      if (error.message === "Invalid session") {
+      // 토큰 누락/검증 실패는 핸드셰이크에서 바로 거절되므로 재시도하지 않는다.
+      // 세션 검증 실패는 연결 후 session_ended 이벤트로 전달된다.
+      if (AUTH_REJECTIONS.includes(error.message)) {
+        clearTimeout(connectionTimeout);
         reject(error);
         return;
       }